@@ -0,0 +1,42 @@
+package fortran.ofp;
+
+import java.io.File;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Fortran file used as benchmark input, by default each of the test examples in turn.
+ *
+ * Paths are relative to the repository root, other files can be selected with e.g. "-p path=some/file.f90".
+ */
+@State(Scope.Benchmark)
+public class InputFile {
+
+	@Param({ "test/examples/arithmetic_kind.f90", "test/examples/comments.f", "test/examples/comments.f90",
+			"test/examples/deepvar.f90", "test/examples/problematic_write.f90", "test/examples/simple_if.f90",
+			"test/examples/strings.f90", "test/examples_large/ORCHIDEE_grassland_grazing.f90",
+			"test/examples_large/ORCHIDEE_grid.f90", "test/examples_large/ORCHIDEE_hydrolc.f90",
+			"test/examples_large/ORCHIDEE_stomate.f90" })
+	public String path;
+
+	public File file;
+
+	@Setup
+	public void setUp() {
+		file = new File(path);
+		if (!file.isFile())
+			throw new IllegalArgumentException("benchmark input " + path + " does not exist, run from repository root");
+	}
+
+	/**
+	 * Parse the file with XMLPrinter and write the result to given path.
+	 */
+	public void parse(int verbosity, File output) throws Exception {
+		FrontEnd.main(new String[] { "--class", "fortran.ofp.XMLPrinter", "--verbosity", Integer.toString(verbosity),
+				"--output", output.getPath(), path });
+	}
+
+}
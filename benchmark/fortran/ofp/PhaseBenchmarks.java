@@ -0,0 +1,106 @@
+package fortran.ofp;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+import fortran.ofp.parser.java.FortranLexer;
+
+/**
+ * Phases of XMLPrinterBase.cleanUp(), each applied to a fresh copy of the tree of the input file.
+ *
+ * The tree is the parser's output at verbosity 100 with comments and directives removed, i.e. the same as the tree
+ * that cleanUp() gets at that verbosity.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class PhaseBenchmarks {
+
+	private Document parsed;
+
+	private File output;
+
+	private XMLPrinter printer;
+
+	@Setup(Level.Trial)
+	public void setUp(InputFile input) throws Exception {
+		output = File.createTempFile("ofp", ".xml");
+		input.parse(100, output);
+		parsed = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(output);
+		strip(parsed.getDocumentElement());
+		printer = new XMLPrinter(new String[] { "--output", output.getPath() }, null, input.path);
+	}
+
+	/**
+	 * Remove comments, directives and whitespace between nodes.
+	 */
+	private static void strip(Element node) {
+		Node child = node.getFirstChild();
+		while (child != null) {
+			Node next = child.getNextSibling();
+			if (child.getNodeType() == Node.ELEMENT_NODE) {
+				String tag = ((Element) child).getTagName();
+				if (tag.equals("comment") || tag.equals("directive"))
+					node.removeChild(child);
+				else
+					strip((Element) child);
+			} else if (child.getNodeType() == Node.TEXT_NODE && child.getTextContent().trim().isEmpty())
+				node.removeChild(child);
+			child = next;
+		}
+	}
+
+	@Setup(Level.Invocation)
+	public void reset() {
+		printer.doc = (Document) parsed.cloneNode(true);
+		printer.root = printer.doc.getDocumentElement();
+		printer.context = printer.root;
+	}
+
+	@TearDown
+	public void tearDown() {
+		output.delete();
+	}
+
+	@Benchmark
+	public Element propagateBounds() {
+		printer.propagateBounds(printer.root);
+		return printer.root;
+	}
+
+	@Benchmark
+	public Element insertTokens() throws IOException {
+		printer.insertTokens(printer.root, FortranLexer.LINE_COMMENT, "comment", "text");
+		printer.insertTokens(printer.root, FortranLexer.PREPROCESS_LINE, "directive", "text");
+		return printer.root;
+	}
+
+	@Benchmark
+	public long persist() throws Exception {
+		printer.persist();
+		return output.length();
+	}
+
+}
@@ -0,0 +1,51 @@
+package fortran.ofp.parser.java;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import fortran.ofp.InputFile;
+
+/**
+ * Tokenization of the input file, including reading it into a FortranStream.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class LexerBenchmarks {
+
+	@Benchmark
+	public int lexer(InputFile input) throws IOException {
+		FortranStream stream = new FortranStream(input.file.getName(), input.file.getAbsolutePath(), null);
+		FortranAlternateLexer lexer = TokensList.lexer(stream);
+		int count = 0;
+		while (lexer.nextToken().getType() != FortranAlternateLexer.EOF)
+			++count;
+		return count;
+	}
+
+	@Benchmark
+	public TokensList tokensList(InputFile input) throws IOException {
+		return new TokensList(input.file);
+	}
+
+	@Benchmark
+	public TokensList tokensListOfComments(InputFile input) throws IOException {
+		return new TokensList(input.file, FortranLexer.LINE_COMMENT);
+	}
+
+	@Benchmark
+	public TokensList tokensListParallel(InputFile input) throws IOException {
+		return new TokensList(input.file, null, true);
+	}
+
+}
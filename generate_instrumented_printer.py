@@ -0,0 +1,156 @@
+"""Generate subclasses of XMLPrinter which wrap every action handler defined in XMLPrinter.java.
+
+XMLPrinterInstrumented.java times every handler, and XMLPrinterRecovering.java recovers from errors
+in handlers. Run it after adding or changing handlers in XMLPrinter.java:
+
+    python3 generate_instrumented_printer.py
+
+The ant build checks that both files are up to date (``--check``) before compiling.
+"""
+
+import pathlib
+import re
+import sys
+import textwrap
+import typing as t
+
+HERE = pathlib.Path(__file__).resolve().parent
+
+PRINTER_PATH = HERE.joinpath('src', 'fortran', 'ofp', 'XMLPrinter.java')
+
+INSTRUMENTED_PATH = HERE.joinpath('src', 'fortran', 'ofp', 'XMLPrinterInstrumented.java')
+
+RECOVERING_PATH = HERE.joinpath('src', 'fortran', 'ofp', 'XMLPrinterRecovering.java')
+
+HANDLER_PATTERN = re.compile(r'^\tpublic void (\w+)\(([^)]*)\) \{$', re.MULTILINE)
+
+HEADER = '''package fortran.ofp;
+
+import org.antlr.runtime.Token;
+
+import fortran.ofp.parser.java.IFortranParser;
+
+/**
+ * XMLPrinter which counts invocations and measures latency of all its action handlers, see HandlerStatistics.
+ *
+ * Generated from XMLPrinter.java by generate_instrumented_printer.py, do not edit manually.
+ */
+public class XMLPrinterInstrumented extends XMLPrinter {
+
+'''
+
+CONSTRUCTOR = '''
+	public XMLPrinterInstrumented(String[] args, IFortranParser parser, String filename) {
+		super(args, parser, filename);
+		handlerStatistics = new HandlerStatistics(HANDLERS,
+				Integer.parseInt(cmd.getOptionValue("handler-stats-sampling", "16")));
+		handlerStatistics.setEvents(events);
+	}
+'''
+
+HANDLER = '''
+	@Override
+	{signature} {{
+		long start = handlerStatistics.begin({index});
+		super.{name}({arguments});
+		handlerStatistics.end({index}, start);
+	}}
+'''
+
+RECOVERING_HEADER = '''package fortran.ofp;
+
+import org.antlr.runtime.Token;
+
+import fortran.ofp.parser.java.IFortranParser;
+
+/**
+ * XMLPrinter which does not abort on errors in its action handlers, but replaces the offending statement by an
+ * <error> node and continues with the next statement, see XMLPrinterBase.recoverFromError().
+ *
+ * Generated from XMLPrinter.java by generate_instrumented_printer.py, do not edit manually.
+ */
+public class XMLPrinterRecovering extends XMLPrinter {
+
+	public XMLPrinterRecovering(String[] args, IFortranParser parser, String filename) {
+		super(args, parser, filename);
+		recovery = true;
+	}
+'''
+
+RECOVERING_HANDLER = '''
+	@Override
+	{signature} {{
+		if (!beginHandler("{name}", {eos}))
+			return;
+		try {{
+			super.{name}({arguments});
+		}} catch (RuntimeException error) {{
+			recoverFromError("{name}", error, {ends_statement}{tokens});
+		}} finally {{
+			endHandler();
+		}}
+	}}
+'''
+
+
+def find_handlers(printer_code: str) -> t.List[t.Tuple[str, str, t.List[t.Tuple[str, str]]]]:
+    """Return signature, name and parameter types and names of each public handler."""
+    handlers = []
+    for match in HANDLER_PATTERN.finditer(printer_code):
+        name, parameters = match.groups()
+        parameter_types_names = [tuple(parameter.split()[-2:]) for parameter in parameters.split(',')
+                                 if parameter.strip()]
+        signature = match.group(0)[1:-2]
+        handlers.append((signature, name, parameter_types_names))
+    return handlers
+
+
+def generate(printer_code: str) -> str:
+    handlers = find_handlers(printer_code)
+    names = ', '.join('"{}"'.format(name) for _, name, _ in handlers)
+    names_lines = textwrap.wrap(names, width=108, break_long_words=False, break_on_hyphens=False)
+    code = [HEADER, '\tstatic final String[] HANDLERS = {\n']
+    code += ['\t\t\t{}\n'.format(line) for line in names_lines]
+    code.append('\t};\n')
+    code.append(CONSTRUCTOR)
+    for index, (signature, name, parameters) in enumerate(handlers):
+        code.append(HANDLER.format(signature=signature, index=index, name=name,
+                                   arguments=', '.join(name for _, name in parameters)))
+    code.append('\n}\n')
+    return ''.join(code)
+
+
+def generate_recovering(printer_code: str) -> str:
+    """Generate wrappers of handlers, among which the ones given "eos" token end statements."""
+    code = [RECOVERING_HEADER]
+    for signature, name, parameters in find_handlers(printer_code):
+        parameter_names = [name for _, name in parameters]
+        ends_statement = 'eos' in parameter_names
+        tokens = ''.join(', {}'.format(name) for type_, name in parameters if type_ == 'Token')
+        code.append(RECOVERING_HANDLER.format(
+            signature=signature, name=name, eos='eos' if ends_statement else 'null',
+            arguments=', '.join(parameter_names), ends_statement='true' if ends_statement else 'false',
+            tokens=tokens))
+    code.append('\n}\n')
+    return ''.join(code)
+
+
+def main(args: t.List[str]) -> int:
+    printer_code = PRINTER_PATH.read_text(encoding='utf-8')
+    outputs = [(INSTRUMENTED_PATH, generate(printer_code)),
+               (RECOVERING_PATH, generate_recovering(printer_code))]
+    if '--check' in args:
+        status = 0
+        for path, code in outputs:
+            if not path.exists() or path.read_text(encoding='utf-8') != code:
+                print('{} is out of date, run generate_instrumented_printer.py'.format(path),
+                      file=sys.stderr)
+                status = 1
+        return status
+    for path, code in outputs:
+        path.write_text(code, encoding='utf-8')
+    return 0
+
+
+if __name__ == '__main__':
+    sys.exit(main(sys.argv[1:]))
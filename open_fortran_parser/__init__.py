@@ -1,4 +1,6 @@
 """Package marker file for open_fortran_parser package."""
 
+from .binary_format import read_binary
 from .config import JAVA as java_config
-from .parser_wrapper import execute_parser, parse
+from .parser_wrapper import \
+    dependencies, diff, execute_parser, parse, parse_concurrently, read_output
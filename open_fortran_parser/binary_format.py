@@ -0,0 +1,139 @@
+"""Reader of the binary AST format written by fortran.ofp.BinaryAstWriter.
+
+All integers are unsigned LEB128 varints (bounds are zigzag-encoded first) and all strings are
+UTF-8. The layout is:
+
+    document := "OFPB" version stringsCount string* node
+    string   := bytesCount byte*
+    node     := length tag flags [lineBegin colBegin (lineEnd - lineBegin) colEnd]
+                attributesCount (name value)* childrenCount node*
+
+where tag, name and value are indices into the string table, flags is 1 if the node has code
+bounds and 0 otherwise, and length is the number of bytes of the node that follow it.
+"""
+
+import typing as t
+import xml.etree.ElementTree as ET
+
+MAGIC = b'OFPB'
+
+VERSION = 1
+
+FLAG_BOUNDS = 1
+
+
+class BinaryFormatError(ValueError):
+
+    """Raised when data is not a valid binary AST."""
+
+
+class _Reader:
+
+    def __init__(self, data: bytes):
+        self.data = data
+        self.position = 0
+        self.strings = []  # type: t.List[str]
+
+    def varint(self) -> int:
+        data = self.data
+        position = self.position
+        value = 0
+        shift = 0
+        try:
+            while True:
+                byte = data[position]
+                position += 1
+                value |= (byte & 0x7F) << shift
+                if byte < 0x80:
+                    break
+                shift += 7
+        except IndexError:
+            raise BinaryFormatError(
+                'unexpected end of binary AST at offset {}'.format(position)) from None
+        self.position = position
+        return value
+
+    def signed(self) -> int:
+        value = self.varint()
+        return (value >> 1) ^ -(value & 1)
+
+    def string(self) -> str:
+        index = self.varint()
+        try:
+            return self.strings[index]
+        except IndexError:
+            raise BinaryFormatError('string index {} out of range at offset {}'.format(
+                index, self.position)) from None
+
+    def header(self) -> None:
+        if self.data[:len(MAGIC)] != MAGIC:
+            raise BinaryFormatError('not a binary AST: magic number mismatch')
+        self.position = len(MAGIC)
+        version = self.varint()
+        if version != VERSION:
+            raise BinaryFormatError('unsupported binary AST version {}'.format(version))
+        for _ in range(self.varint()):
+            length = self.varint()
+            end = self.position + length
+            if end > len(self.data):
+                raise BinaryFormatError(
+                    'unexpected end of binary AST at offset {}'.format(self.position))
+            self.strings.append(self.data[self.position:end].decode('utf-8'))
+            self.position = end
+
+    def tree(self) -> ET.Element:
+        """Read the root node with its whole subtree, iteratively so that any depth is allowed."""
+        root = None
+        open_nodes = []  # type: t.List[t.Tuple[ET.Element, t.List[int]]]
+        while True:
+            node, progress = self.node()
+            if open_nodes:
+                parent, parent_progress = open_nodes[-1]
+                parent.append(node)
+                parent_progress[0] -= 1
+            else:
+                root = node
+            open_nodes.append((node, progress))
+            while open_nodes and open_nodes[-1][1][0] == 0:
+                _, (_, end) = open_nodes.pop()
+                if self.position != end:
+                    raise BinaryFormatError(
+                        'node length mismatch at offset {}'.format(self.position))
+            if not open_nodes:
+                return root
+
+    def node(self) -> t.Tuple[ET.Element, t.List[int]]:
+        """Read a node without its children, and return it with its children count and end offset."""
+        length = self.varint()
+        end = self.position + length
+        if end > len(self.data):
+            raise BinaryFormatError(
+                'unexpected end of binary AST at offset {}'.format(self.position))
+        tag = self.string()
+        flags = self.data[self.position]
+        self.position += 1
+        attrib = {}
+        if flags & FLAG_BOUNDS:
+            line_begin = self.signed()
+            col_begin = self.signed()
+            line_end = line_begin + self.signed()
+            col_end = self.signed()
+            attrib['line_begin'] = str(line_begin)
+            attrib['col_begin'] = str(col_begin)
+            attrib['line_end'] = str(line_end)
+            attrib['col_end'] = str(col_end)
+        for _ in range(self.varint()):
+            name = self.string()
+            attrib[name] = self.string()
+        return ET.Element(tag, attrib), [self.varint(), end]
+
+
+def read_binary(data: bytes) -> ET.Element:
+    """Decode binary AST into the same tree that parsing the XML output would give."""
+    reader = _Reader(data)
+    reader.header()
+    root = reader.tree()
+    if reader.position != len(data):
+        raise BinaryFormatError(
+            'unexpected data after the root node at offset {}'.format(reader.position))
+    return root
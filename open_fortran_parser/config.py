@@ -22,6 +22,24 @@ DEV_DEPENDENCIES = {
             'https://github.com/mbdevpl/open-fortran-parser-xml/releases/download/v0.1.0/'),
         pathlib.Path('commons-cli-1.4.jar'))}
 
+BENCHMARK_DEPENDENCIES_PATH = pathlib.Path(os.getcwd(), 'lib', 'benchmark')
+
+BENCHMARK_DEPENDENCIES = {
+    'JMH Core 1.21': (
+        urllib.parse.urlparse('https://repo1.maven.org/maven2/org/openjdk/jmh/jmh-core/1.21/'),
+        pathlib.Path('jmh-core-1.21.jar')),
+    'JMH Generators: Annotation Processors 1.21': (
+        urllib.parse.urlparse(
+            'https://repo1.maven.org/maven2/org/openjdk/jmh/jmh-generator-annprocess/1.21/'),
+        pathlib.Path('jmh-generator-annprocess-1.21.jar')),
+    'JOpt Simple 4.6': (
+        urllib.parse.urlparse('https://repo1.maven.org/maven2/net/sf/jopt-simple/jopt-simple/4.6/'),
+        pathlib.Path('jopt-simple-4.6.jar')),
+    'Apache Commons Math 3.2': (
+        urllib.parse.urlparse(
+            'https://repo1.maven.org/maven2/org/apache/commons/commons-math3/3.2/'),
+        pathlib.Path('commons-math3-3.2.jar'))}
+
 DEPENDENCIES_PATH = pathlib.Path(__file__).resolve().parent
 
 DEPENDENCIES = DEV_DEPENDENCIES.copy()
@@ -43,7 +61,10 @@ JAVA = {
     'classpath': pathlib.Path(DEPENDENCIES_PATH, '*'),
     'options': None,
     'ofp_class': 'fortran.ofp.FrontEnd',
-    'ofp_xml_class': 'fortran.ofp.XMLPrinter'}
+    'ofp_xml_class': 'fortran.ofp.XMLPrinter',
+    'ofp_xml_recovering_class': 'fortran.ofp.XMLPrinterRecovering',
+    'ofp_diff_class': 'fortran.ofp.AstDiff',
+    'ofp_deps_class': 'fortran.ofp.parser.java.DependencyScanner'}
 
 OFC = {
     'executable': pathlib.Path('ofc'),
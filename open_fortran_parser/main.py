@@ -7,7 +7,8 @@ import sys
 
 from ._version import VERSION
 from .config import \
-    DEV_DEPENDENCIES_PATH, DEV_DEPENDENCIES, DEPENDENCIES_PATH, DEPENDENCIES, OUTDATED_DEPENDENCIES
+    DEV_DEPENDENCIES_PATH, DEV_DEPENDENCIES, BENCHMARK_DEPENDENCIES_PATH, BENCHMARK_DEPENDENCIES, \
+    DEPENDENCIES_PATH, DEPENDENCIES, OUTDATED_DEPENDENCIES
 from .parser_wrapper import execute_parser
 from .dependencies import ensure_dependencies, cleanup_old_dependencies
 
@@ -42,6 +43,9 @@ def main(args=None, namespace=None):
     parser.add_argument(
         '--get-development-dependencies', '--dev-deps', action='store_true',
         help=argparse.SUPPRESS)
+    parser.add_argument(
+        '--get-benchmark-dependencies', '--bench-deps', action='store_true',
+        help=argparse.SUPPRESS)
     parser.add_argument(
         '--cleanup-dependencies', '--cleanup-deps', action='store_true',
         help=argparse.SUPPRESS)
@@ -52,6 +56,10 @@ def main(args=None, namespace=None):
         ensure_dependencies(DEV_DEPENDENCIES, DEV_DEPENDENCIES_PATH)
         return
 
+    if args.get_benchmark_dependencies:
+        ensure_dependencies(BENCHMARK_DEPENDENCIES, BENCHMARK_DEPENDENCIES_PATH)
+        return
+
     if args.get_dependencies:
         ensure_dependencies(DEPENDENCIES, DEPENDENCIES_PATH)
         return
@@ -1,22 +1,49 @@
 """Implementation of Python wrapper for OpenFortranParserXML."""
 
+import concurrent.futures
+import gzip
+import json
 import logging
+import os
 import pathlib
 import subprocess
+import tempfile
 import typing as t
 import xml.etree.ElementTree as ET
 
+from .binary_format import MAGIC as BINARY_MAGIC, read_binary
 from .config import JAVA as java_config
+from .program_units import is_fixed_form, split_units
 
 _LOG = logging.getLogger(__name__)
 
+DECOMPRESSORS = {b'\x1f\x8b': gzip.decompress}  # type: t.Dict[bytes, t.Callable[[bytes], bytes]]
+"""Functions decompressing parser output, by magic bytes of the compressed data."""
+
 
 def execute_parser(
         input_path: pathlib.Path, output_path: t.Optional[pathlib.Path],
-        verbosity: int = 100, tokenize_instead: bool = False, *args) -> subprocess.CompletedProcess:
+        verbosity: int = 100, tokenize_instead: bool = False, *args,
+        output_format: str = 'xml', profile_path: t.Optional[pathlib.Path] = None,
+        symbols_path: t.Optional[pathlib.Path] = None,
+        outline: bool = False, streaming: bool = False, query: t.Optional[str] = None,
+        recover: bool = False, deps_only: bool = False) -> subprocess.CompletedProcess:
     """Execute Open Fortran Parser according to current configuration and function parameters.
 
     If tokenize_instead is True, given file will not be parsed, but just tokenized instead.
+    Output format is 'xml', 'binary' (see binary_format module), 'json' or 'ndjson'.
+    If profile_path is given, time and memory usage of each phase are written there as JSON.
+    If symbols_path is given, index of symbols in the file is written there (see symbol_index).
+    If outline is True, only program units with their headers and code bounds are written,
+    without contents of their bodies.
+    If streaming is True, each top-level program unit is written as soon as it is complete; the output
+    is the same except that the <file> node has no code bounds.
+    If query is given, e.g. './/loop//call', only the outermost subtrees matching it are written
+    in each <file> node (see fortran.ofp.PathQuery for the syntax).
+    If recover is True, a statement which the parser fails to handle is replaced by an <error> node
+    with its code bounds and source text, and parsing continues with the next statement.
+    If deps_only is True, only lines with modules defined and used in the file are written, as by
+    dependencies(), which is much faster, because the front end still parses the file.
     """
 
     command = [str(java_config['executable'])]
@@ -28,9 +55,24 @@ def execute_parser(
     if tokenize_instead:
         command.append('--tokens')
     command += list(args)
-    command += ['--class', java_config['ofp_xml_class'], '--verbosity', str(verbosity)]
+    xml_class = java_config['ofp_xml_recovering_class' if recover else 'ofp_xml_class']
+    command += ['--class', xml_class, '--verbosity', str(verbosity)]
+    if output_format != 'xml':
+        command += ['--format', output_format]
     if output_path is not None:
         command += ['--output', str(output_path)]
+    if profile_path is not None:
+        command += ['--profile', str(profile_path)]
+    if symbols_path is not None:
+        command += ['--symbols', str(symbols_path)]
+    if outline:
+        command.append('--outline')
+    if streaming:
+        command.append('--streaming')
+    if query is not None:
+        command += ['--query', query]
+    if deps_only:
+        command.append('--deps-only')
     command.append(str(input_path))
 
     _LOG.debug('Executing %s...', command)
@@ -38,10 +80,47 @@ def execute_parser(
 
 
 def parse(
-        input_path: pathlib.Path, verbosity: int = 100, raise_on_error: bool = False) -> ET.Element:
-    """Parse given Fortran file and return parse tree as XML."""
+        input_path: pathlib.Path, verbosity: int = 100, raise_on_error: bool = False,
+        output_format: str = 'xml', profile: bool = False, query: t.Optional[str] = None,
+        recover: bool = False, include_dirs: t.Sequence[pathlib.Path] = ()) \
+        -> t.Union[ET.Element, t.Tuple[ET.Element, dict]]:
+    """Parse given Fortran file and return parse tree as XML.
+
+    If output_format is 'binary' or 'json', the parser writes the binary AST format or JSON
+    instead of XML text, and it is decoded into the same tree. The 'ndjson' format does not hold
+    the whole tree, so it is not supported here, see execute_parser().
+
+    If query is given, e.g. './/loop//call', the parser selects subtrees matching it and only they
+    are in the returned <file> node, which is much faster than ElementTree's findall() on big files.
+
+    If recover is True, statements which cannot be handled do not abort parsing, but are replaced
+    by <error> nodes, so that root.iter('error') lists the problems, each with handler, message
+    and text attributes and code bounds.
+
+    If profile is True, return a tuple of the tree and a dict with wall time, CPU time and
+    allocated bytes of each phase of the run, e.g. profile['phases']['persist']['cpu_ns'].
+
+    Files included by INCLUDE lines are also looked up in given include_dirs.
+    """
+    if output_format not in ('xml', 'binary', 'json'):
+        raise ValueError('output format {!r} cannot be decoded into a tree, use execute_parser()'
+                         .format(output_format))
+    args = []  # type: t.List[str]
+    for include_dir in include_dirs:
+        args += ['-I', str(include_dir)]
 
-    process = execute_parser(input_path, None, verbosity)
+    if profile:
+        with tempfile.TemporaryDirectory() as temp_dir:
+            profile_path = pathlib.Path(temp_dir, 'profile.json')
+            process = execute_parser(input_path, None, verbosity, False, *args,
+                                     output_format=output_format, profile_path=profile_path,
+                                     query=query, recover=recover)
+            profile_data = None
+            if profile_path.exists():
+                profile_data = json.loads(profile_path.read_text(encoding='utf-8'))
+    else:
+        process = execute_parser(input_path, None, verbosity, False, *args,
+                                 output_format=output_format, query=query, recover=recover)
     if process.returncode != 0:
         _LOG.warning('%s', process.stdout.decode())
         _LOG.error('Open Fortran Parser returned %i', process.returncode)
@@ -50,4 +129,150 @@ def parse(
     if raise_on_error:
         process.check_returncode()
 
+    if profile:
+        return _read_output(process.stdout), profile_data
+    return _read_output(process.stdout)
+
+
+def dependencies(input_path: pathlib.Path) -> t.Tuple[t.List[str], t.List[str]]:
+    """Return names of modules defined in given Fortran file and of modules it uses.
+
+    The file is not parsed, only statements defining and using modules are found, which is much
+    faster than parsing. Names are in lowercase, intrinsic modules and modules defined in the file
+    itself are not listed as used.
+
+    The front end is not run at all, see fortran.ofp.parser.java.DependencyScanner.
+    """
+    command = [str(java_config['executable'])]
+    if java_config['classpath'] is not None:
+        command += ['-cp', str(java_config['classpath'])]
+    if java_config['options'] is not None:
+        command += java_config['options']
+    command += [java_config['ofp_deps_class'], str(input_path)]
+    _LOG.debug('Executing %s...', command)
+    process = subprocess.run(command, stdout=subprocess.PIPE, stderr=subprocess.PIPE)
+    if process.returncode != 0:
+        _LOG.error('%s', process.stderr.decode())
+        process.check_returncode()
+    modules = {'provides': [], 'requires': []}  # type: t.Dict[str, t.List[str]]
+    for line in process.stdout.decode().splitlines():
+        _, kind, name = line.rsplit('\t', 2)
+        modules[kind].append(name)
+    return modules['provides'], modules['requires']
+
+
+def diff(old_path: pathlib.Path, new_path: pathlib.Path) -> ET.Element:
+    """Return structural differences between two parse trees saved by the parser.
+
+    Program units are matched by name and their statements by structure, regardless of code
+    bounds and comments. Result is a <diff> node with one <change> node per inserted, deleted,
+    moved or changed unit or statement, each with <old> and/or <new> node holding its code bounds,
+    see fortran.ofp.AstDiff.
+    """
+    command = [str(java_config['executable'])]
+    if java_config['classpath'] is not None:
+        command += ['-cp', str(java_config['classpath'])]
+    if java_config['options'] is not None:
+        command += java_config['options']
+    command += [java_config['ofp_diff_class'], str(old_path), str(new_path)]
+    _LOG.debug('Executing %s...', command)
+    process = subprocess.run(command, stdout=subprocess.PIPE, stderr=subprocess.PIPE)
+    if process.returncode not in (0, 1):
+        _LOG.error('%s', process.stderr.decode())
+        process.check_returncode()
     return ET.fromstring(process.stdout)
+
+
+def _decompress(data: bytes) -> bytes:
+    for magic, decompress in DECOMPRESSORS.items():
+        if data.startswith(magic):
+            return decompress(data)
+    return data
+
+
+def _json_to_element(data: dict) -> ET.Element:
+    """Convert a node written by the parser in JSON format into XML, without recursion."""
+    root = ET.Element(data['tag'], data['attrib'])
+    pending = [(root, data['children'])]
+    while pending:
+        element, children = pending.pop()
+        for child in children:
+            pending.append((ET.SubElement(element, child['tag'], child['attrib']), child['children']))
+    return root
+
+
+def _read_output(data: bytes) -> ET.Element:
+    data = _decompress(data)
+    if data.startswith(BINARY_MAGIC):
+        return read_binary(data)
+    if data.lstrip().startswith(b'{'):
+        return _json_to_element(json.loads(data.decode()))
+    return ET.fromstring(data)
+
+
+def read_output(output_path: pathlib.Path) -> ET.Element:
+    """Read parse tree saved by the parser, e.g. via execute_parser() with output_path.
+
+    XML, JSON and binary formats are supported, and compressed files are decompressed transparently.
+    """
+    return _read_output(output_path.read_bytes())
+
+
+def _shift_lines(node: ET.Element, offset: int) -> None:
+    for element in node.iter():
+        for attribute in ('line_begin', 'line_end'):
+            if attribute in element.attrib:
+                element.attrib[attribute] = str(int(element.attrib[attribute]) + offset)
+
+
+def parse_concurrently(
+        input_path: pathlib.Path, verbosity: int = 100, raise_on_error: bool = False,
+        workers: t.Optional[int] = None,
+        include_dirs: t.Sequence[pathlib.Path] = ()) -> ET.Element:
+    """Parse given Fortran file and return parse tree as XML, parsing its program units concurrently.
+
+    The file is split at boundaries of top-level program units into (at most) as many parts as there
+    are workers, each part is parsed by a separate parser process, and the program units are merged
+    back into one <file> node, in source order and with line numbers as in the original file.
+
+    Parts are written to a temporary directory, so the directory of the original file is added
+    to include_dirs, for INCLUDE lines with relative paths to be resolved as in the original file.
+    """
+    if workers is None:
+        workers = os.cpu_count() or 1
+    code = input_path.read_text(encoding='utf-8', errors='surrogateescape')
+    parts = split_units(code, is_fixed_form(input_path), workers)
+    if len(parts) < 2:
+        return parse(input_path, verbosity, raise_on_error, include_dirs=include_dirs)
+    include_dirs = [input_path.resolve().parent] + list(include_dirs)
+
+    with tempfile.TemporaryDirectory() as temp_dir:
+        part_paths = []
+        for i, (_, part_code) in enumerate(parts):
+            part_path = pathlib.Path(temp_dir, '{}.part{}{}'.format(
+                input_path.stem, i, input_path.suffix))
+            part_path.write_text(part_code, encoding='utf-8', errors='surrogateescape')
+            part_paths.append(part_path)
+        with concurrent.futures.ThreadPoolExecutor(max_workers=workers) as executor:
+            futures = [executor.submit(parse, part_path, verbosity, raise_on_error,
+                                       include_dirs=include_dirs)
+                       for part_path in part_paths]
+            part_roots = [future.result() for future in futures]
+
+    root = part_roots[0]
+    file_node = root[0]
+    for (offset, _), part_path, part_root in zip(parts, part_paths, part_roots):
+        part_file_node = part_root[0]
+        _shift_lines(part_file_node, offset)
+        if part_root is root:
+            continue
+        file_node.extend(list(part_file_node))
+        if 'line_end' in part_file_node.attrib:
+            file_node.attrib['line_end'] = part_file_node.attrib['line_end']
+            file_node.attrib['col_end'] = part_file_node.attrib['col_end']
+    path = file_node.attrib.get('path')
+    if path == str(part_paths[0]):
+        file_node.attrib['path'] = str(input_path)
+    elif path == str(part_paths[0].resolve()):
+        file_node.attrib['path'] = str(input_path.resolve())
+    return root
@@ -0,0 +1,164 @@
+"""Splitting of Fortran source code into top-level program units."""
+
+import pathlib
+import re
+import typing as t
+
+FIXED_FORM_SUFFIXES = ('.f', '.for', '.f77', '.ftn')
+
+_PREFIX = r'(?:(?:recursive|pure|impure|elemental|module|integer|real|logical|complex|character'\
+    r'|double\s*precision|double\s*complex|type\s*\([^)]*\))\s*(?:\*\s*\d+|\([^)]*\))?\s*)*'
+
+_UNIT_BEGIN = re.compile(
+    r'^(?:\d+\s+)?(?:(program)\s+\w+|(module)\s+(?!procedure\b)\w+|(submodule)\s*\(|(block\s*data)\b'
+    r'|' + _PREFIX + r'(subroutine|function)\s+\w+)', re.IGNORECASE)
+"""Beginning of a program unit, in a statement with contents of parentheses removed."""
+
+_UNIT_END = re.compile(
+    r'^(?:\d+\s+)?end\s*(?:(program|module|submodule|subroutine|function|block\s*data)\b.*)?$',
+    re.IGNORECASE)
+
+_INTERFACE_BEGIN = re.compile(r'^(?:abstract\s+)?interface\b', re.IGNORECASE)
+
+_INTERFACE_END = re.compile(r'^end\s*interface\b', re.IGNORECASE)
+
+
+def is_fixed_form(path: pathlib.Path) -> bool:
+    return path.suffix.lower() in FIXED_FORM_SUFFIXES
+
+
+def _strip_comment(line: str, quote: t.Optional[str]) -> t.Tuple[str, t.Optional[str]]:
+    """Remove trailing comment and contents of character constants from a line of code."""
+    code = []
+    for char in line:
+        if quote is not None:
+            if char == quote:
+                quote = None
+                code.append(char)
+            continue
+        if char == '!':
+            break
+        if char in ('"', "'"):
+            quote = char
+        code.append(char)
+    return ''.join(code), quote
+
+
+def _remove_parenthesized(text: str) -> str:
+    """Remove contents of outermost parentheses, e.g. "character(len=max(1,2))" -> "character()"."""
+    code = []
+    depth = 0
+    for char in text:
+        if char == '(':
+            if depth == 0:
+                code.append(char)
+            depth += 1
+        elif char == ')' and depth > 0:
+            depth -= 1
+            if depth == 0:
+                code.append(char)
+        elif depth == 0:
+            code.append(char)
+    return ''.join(code)
+
+
+def _unit_kind(groups: t.Sequence[t.Optional[str]]) -> t.Optional[str]:
+    """Return kind of program unit from groups matched by _UNIT_BEGIN or _UNIT_END, if any."""
+    for group in groups:
+        if group is not None:
+            return re.sub(r'\s+', '', group.lower())
+    return None
+
+
+def _statements(lines: t.List[str], fixed_form: bool) -> t.Iterator[t.Tuple[int, str]]:
+    """Yield (index of first line, text) of each statement, with continuations joined."""
+    begin = None
+    parts = []
+    quote = None
+    for i, line in enumerate(lines):
+        if fixed_form and line[:1] in ('c', 'C', '*', '!', 'd', 'D'):
+            continue
+        if line.lstrip().startswith(('!', '#')) or not line.strip():
+            continue
+        if fixed_form:
+            is_continuation = len(line) > 5 and '\t' not in line[:5] and line[5] not in (' ', '0')
+            body = line[6:72] if len(line) > 5 and '\t' not in line[:5] else line
+        else:
+            stripped = line.lstrip()
+            is_continuation = stripped.startswith('&') or begin is not None and parts and \
+                parts[-1].endswith('&')
+            body = stripped[1:] if stripped.startswith('&') else line
+        if not is_continuation and begin is not None:
+            yield begin, ' '.join(parts).replace('&', ' ')
+            begin, parts, quote = None, [], None
+        if begin is None:
+            begin = i
+        code, quote = _strip_comment(body, quote)
+        parts.append(code.rstrip())
+    if begin is not None:
+        yield begin, ' '.join(parts).replace('&', ' ')
+
+
+def find_units(code: str, fixed_form: bool = False) -> t.List[int]:
+    """Find indices of lines at which top-level program units begin.
+
+    The first program unit always begins at line 0, so that comments and other code preceding it
+    are kept together with it.
+
+    An end of a program unit of a kind which is not open, e.g. of a function whose beginning was
+    not recognized, is ignored, so that it does not close the enclosing unit.
+    """
+    lines = code.split('\n')
+    units = []
+    open_units = []  # type: t.List[str]
+    in_interface = 0
+    for begin, statement in _statements(lines, fixed_form):
+        for text in statement.split(';'):
+            text = text.strip()
+            if _INTERFACE_BEGIN.match(text):
+                in_interface += 1
+                continue
+            if _INTERFACE_END.match(text):
+                in_interface -= 1
+                continue
+            match = _UNIT_BEGIN.match(_remove_parenthesized(text))
+            if match is not None:
+                if not open_units and in_interface == 0 and begin not in units:
+                    units.append(begin)
+                open_units.append(_unit_kind(match.groups()))
+                continue
+            match = _UNIT_END.match(text)
+            if match is None or not open_units:
+                continue
+            kind = _unit_kind(match.groups())
+            if kind is None:
+                open_units.pop()
+            elif kind in open_units:
+                while open_units.pop() != kind:
+                    pass
+    if units:
+        units[0] = 0
+    else:
+        units.append(0)
+    return units
+
+
+def split_units(code: str, fixed_form: bool = False, count: t.Optional[int] = None) \
+        -> t.List[t.Tuple[int, str]]:
+    """Split code into parts consisting of whole top-level program units.
+
+    Return list of (index of first line, code) tuples. If count is given, consecutive program units
+    are grouped so that at most count parts of similar size are returned.
+    """
+    lines = re.findall(r'[^\n]*\n|[^\n]+$', code)
+    units = find_units(code, fixed_form)
+    if count is not None and len(units) > count:
+        grouped = []
+        for i in range(count):
+            target = len(lines) * i // count
+            candidates = [_ for _ in units if _ >= target]
+            if candidates and candidates[0] not in grouped:
+                grouped.append(candidates[0])
+        units = grouped
+    boundaries = units + [len(lines)]
+    return [(begin, ''.join(lines[begin:end])) for begin, end in zip(boundaries, boundaries[1:])]
@@ -0,0 +1,142 @@
+"""Project-wide index of symbols, merged from per-file indexes written by the parser.
+
+The parser writes a per-file index when given '--symbols' option (see fortran.ofp.SymbolIndex),
+as UTF-8 text with one symbol per line: name, kind, scope, path and line separated by tabs.
+The project index has the same format, but its lines are sorted by their bytes and deduplicated,
+so that it can be memory-mapped and searched by name using binary search, without loading it.
+"""
+
+import argparse
+import heapq
+import mmap
+import pathlib
+import typing as t
+
+Symbol = t.NamedTuple('Symbol', [
+    ('name', str), ('kind', str), ('scope', str), ('path', str), ('line', int)])
+
+KINDS = ('subroutine', 'function', 'module', 'use', 'call', 'variable')
+
+
+def _parse_line(line: bytes) -> Symbol:
+    name, kind, scope, path, line_number = line.decode('utf-8').rstrip('\n').split('\t')
+    return Symbol(name, kind, scope, path, int(line_number))
+
+
+def read_symbols(index_path: pathlib.Path) -> t.List[Symbol]:
+    """Read all symbols from a per-file or project index."""
+    with index_path.open('rb') as index_file:
+        return [_parse_line(line) for line in index_file if line.strip()]
+
+
+def _sorted_lines(index_path: pathlib.Path) -> t.List[bytes]:
+    with index_path.open('rb') as index_file:
+        lines = [line if line.endswith(b'\n') else line + b'\n'
+                 for line in index_file if line.strip()]
+    lines.sort()
+    return lines
+
+
+def merge_indexes(index_paths: t.Iterable[pathlib.Path], output_path: pathlib.Path) -> int:
+    """Merge per-file (or project) indexes into one project index and return number of symbols.
+
+    Each index is sorted separately and then they are merged, so that the merged lines are
+    written as they come without sorting all of them at once.
+    """
+    count = 0
+    previous = None
+    with output_path.open('wb') as output_file:
+        for line in heapq.merge(*[_sorted_lines(path) for path in index_paths]):
+            if line == previous:
+                continue
+            output_file.write(line)
+            previous = line
+            count += 1
+    return count
+
+
+class ProjectIndex:
+
+    """Memory-mapped project index, searched by symbol name in O(log N) time.
+
+    Use as a context manager, or call close() when done.
+    """
+
+    def __init__(self, index_path: pathlib.Path):
+        self._file = index_path.open('rb')
+        self._data = b''  # type: t.Union[bytes, mmap.mmap]
+        if index_path.stat().st_size > 0:
+            self._data = mmap.mmap(self._file.fileno(), 0, access=mmap.ACCESS_READ)
+
+    def __enter__(self) -> 'ProjectIndex':
+        return self
+
+    def __exit__(self, *args) -> None:
+        self.close()
+
+    def close(self) -> None:
+        if isinstance(self._data, mmap.mmap):
+            self._data.close()
+        self._file.close()
+
+    def _first_line_not_before(self, key: bytes) -> int:
+        """Return offset of the first line whose prefix is not less than the key."""
+        data = self._data
+        low = 0
+        high = len(data)
+        # both low and high are always at beginnings of lines (or at the end of data)
+        while low < high:
+            middle = (low + high) // 2
+            begin = data.rfind(b'\n', 0, middle) + 1
+            if data[begin:begin + len(key)] < key:
+                end = data.find(b'\n', begin)
+                low = len(data) if end < 0 else end + 1
+            else:
+                high = begin
+        return low
+
+    def lookup(self, name: str, kind: t.Optional[str] = None) -> t.List[Symbol]:
+        """Return all symbols with given name (case-insensitive), optionally only of given kind."""
+        key = name.lower().encode('utf-8') + b'\t'
+        if kind is not None:
+            key += kind.encode('utf-8') + b'\t'
+        data = self._data
+        offset = self._first_line_not_before(key)
+        symbols = []
+        while data[offset:offset + len(key)] == key:
+            end = data.find(b'\n', offset)
+            end = len(data) if end < 0 else end + 1
+            symbols.append(_parse_line(data[offset:end]))
+            offset = end
+        return symbols
+
+
+def main(args=None):
+    """Merge per-file symbol indexes into a project index, or look up symbols in it."""
+    parser = argparse.ArgumentParser(
+        prog='python3 -m open_fortran_parser.symbol_index',
+        description='''Merge per-file symbol indexes written by the parser (via --symbols option)
+            into a sorted project index, or look up symbols in a project index.''')
+    subparsers = parser.add_subparsers(dest='command')
+    merge_parser = subparsers.add_parser('merge', help='merge indexes into a project index')
+    merge_parser.add_argument('output', type=pathlib.Path, help='path of the project index')
+    merge_parser.add_argument('indexes', nargs='+', type=pathlib.Path, help='indexes to merge')
+    lookup_parser = subparsers.add_parser('lookup', help='print all symbols with given name')
+    lookup_parser.add_argument('index', type=pathlib.Path, help='path of the project index')
+    lookup_parser.add_argument('name', help='name of the symbol')
+    lookup_parser.add_argument('--kind', choices=KINDS, help='only symbols of given kind')
+    args = parser.parse_args(args)
+
+    if args.command == 'merge':
+        merge_indexes(args.indexes, args.output)
+    elif args.command == 'lookup':
+        with ProjectIndex(args.index) as index:
+            for symbol in index.lookup(args.name, args.kind):
+                print('\t'.join(str(field) for field in symbol))
+    else:
+        parser.print_help()
+        parser.exit(2)
+
+
+if __name__ == '__main__':
+    main()
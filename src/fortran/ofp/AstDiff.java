@@ -0,0 +1,514 @@
+package fortran.ofp;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.w3c.dom.Attr;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.xml.sax.SAXException;
+
+import fortran.ofp.parser.java.CodeBounds;
+
+/**
+ * Structural difference between two ASTs, e.g. of a file before and after a refactoring.
+ *
+ * Program units are matched by their kind and name (nested units by the path of names of enclosing units), and
+ * statements and declarations of matched units by hashes of their subtrees. Hashes ignore code bounds and comments, so
+ * that only structural changes are reported: a unit or a statement is inserted, deleted, moved (its subtree is equal to
+ * one in a different order) or changed (its subtree differs from the one in its place). Units with changes in their
+ * statements are reported as changed too, before the changes of their statements.
+ *
+ * Statements are matched in the way of patience diff: statements with hashes unique in both units are anchors, anchors
+ * in the longest increasing subsequence are unchanged and other anchors are moved, and the statements between two
+ * consecutive unchanged ones are matched by hash again, or paired as changed if their hashes differ. Each step takes
+ * linear time (apart from n log n of the subsequence), unlike generic diffs of trees or of sequences, so that big files
+ * can be compared quickly.
+ */
+public class AstDiff {
+
+	public static class Change {
+
+		/**
+		 * One of inserted, deleted, moved and changed.
+		 */
+		public String kind;
+
+		/**
+		 * Path of the program unit, e.g. "module geometry/function area".
+		 */
+		public String unit;
+
+		/**
+		 * Node in the old AST, null if the node was inserted.
+		 */
+		public Element oldNode;
+
+		/**
+		 * Node in the new AST, null if the node was deleted.
+		 */
+		public Element newNode;
+
+		public Change(String kind, String unit, Element oldNode, Element newNode) {
+			this.kind = kind;
+			this.unit = unit;
+			this.oldNode = oldNode;
+			this.newNode = newNode;
+		}
+
+		public CodeBounds getOldBounds() {
+			return oldNode == null ? null : new CodeBounds(oldNode);
+		}
+
+		public CodeBounds getNewBounds() {
+			return newNode == null ? null : new CodeBounds(newNode);
+		}
+
+		public String toString() {
+			return kind + " " + (oldNode == null ? newNode : oldNode).getTagName() + " in " + unit;
+		}
+
+	}
+
+	private static final List<String> BOUNDS_ATTRIBUTES = Arrays
+			.asList(new String[] { "line_begin", "col_begin", "line_end", "col_end" });
+
+	private static final long PRIME = 0x100000001b3L;
+
+	public ArrayList<Change> changes = new ArrayList<Change>();
+
+	/**
+	 * Structural hash of each node of both ASTs.
+	 */
+	private IdentityHashMap<Element, Long> hashes = new IdentityHashMap<Element, Long>();
+
+	public AstDiff(Element oldRoot, Element newRoot) {
+		computeHashes(oldRoot);
+		computeHashes(newRoot);
+		LinkedHashMap<String, ArrayDeque<Element>> oldUnits = collectUnits(oldRoot);
+		LinkedHashMap<String, ArrayDeque<Element>> newUnits = collectUnits(newRoot);
+		for (Map.Entry<String, ArrayDeque<Element>> entry : newUnits.entrySet()) {
+			ArrayDeque<Element> oldCandidates = oldUnits.get(entry.getKey());
+			for (Element newUnit : entry.getValue()) {
+				Element oldUnit = oldCandidates == null ? null : oldCandidates.poll();
+				if (oldUnit == null)
+					changes.add(new Change("inserted", entry.getKey(), null, newUnit));
+				else
+					compareUnits(entry.getKey(), oldUnit, newUnit);
+			}
+		}
+		// old units which were not matched remain
+		for (Map.Entry<String, ArrayDeque<Element>> entry : oldUnits.entrySet())
+			for (Element oldUnit : entry.getValue())
+				changes.add(new Change("deleted", entry.getKey(), oldUnit, null));
+	}
+
+	private static long hash(String text) {
+		long hash = 0xcbf29ce484222325L;
+		for (int i = 0; i < text.length(); ++i)
+			hash = (hash ^ text.charAt(i)) * PRIME;
+		return hash;
+	}
+
+	private static long mix(long hash) {
+		hash ^= hash >>> 33;
+		hash *= 0xff51afd7ed558ccdL;
+		hash ^= hash >>> 33;
+		hash *= 0xc4ceb9fe1a85ec53L;
+		return hash ^ (hash >>> 33);
+	}
+
+	private static boolean isIgnored(Element node) {
+		return node.getTagName().equals("comment");
+	}
+
+	/**
+	 * Compute hashes of all nodes in given subtree in post-order, so that hashes of children are known when the hash of
+	 * their parent is computed.
+	 *
+	 * Attributes are combined regardless of their order, children in order of their occurrence.
+	 */
+	private void computeHashes(Element root) {
+		for (Element node = TreeTraversal.firstInPostOrder(root); node != null; node = TreeTraversal
+				.nextInPostOrder(root, node)) {
+			long attributesHash = 0;
+			NamedNodeMap attributes = node.getAttributes();
+			for (int i = 0; i < attributes.getLength(); ++i) {
+				Attr attribute = (Attr) attributes.item(i);
+				if (BOUNDS_ATTRIBUTES.contains(attribute.getName()))
+					continue;
+				attributesHash += mix(hash(attribute.getName()) * PRIME ^ hash(attribute.getValue()));
+			}
+			long hash = mix(hash(node.getTagName()) ^ attributesHash);
+			for (Element child = TreeTraversal.firstChild(node); child != null; child = TreeTraversal.nextSibling(child))
+				if (!isIgnored(child))
+					hash = mix(hash * PRIME + hashes.get(child));
+			hashes.put(node, hash);
+		}
+	}
+
+	/**
+	 * Return program units within given root node by their paths, in document order.
+	 *
+	 * Subroutines and functions within interface blocks are not units, but parts of declarations of the enclosing unit.
+	 */
+	private static LinkedHashMap<String, ArrayDeque<Element>> collectUnits(Element root) {
+		LinkedHashMap<String, ArrayDeque<Element>> units = new LinkedHashMap<String, ArrayDeque<Element>>();
+		Element node = root;
+		while (node != null) {
+			String tag = node.getTagName();
+			if (tag.equals("interface")) {
+				node = skipSubtree(root, node);
+				continue;
+			}
+			if (XMLPrinterBase.programUnitTags.contains(tag)) {
+				String path = unitPath(node);
+				if (!units.containsKey(path))
+					units.put(path, new ArrayDeque<Element>());
+				units.get(path).add(node);
+			}
+			node = TreeTraversal.nextInPreOrder(root, node);
+		}
+		return units;
+	}
+
+	private static Element skipSubtree(Element root, Element node) {
+		while (node != root) {
+			Element sibling = TreeTraversal.nextSibling(node);
+			if (sibling != null)
+				return sibling;
+			node = (Element) node.getParentNode();
+		}
+		return null;
+	}
+
+	/**
+	 * Return path of given unit, e.g. "module geometry/function area". Names are in lowercase, as Fortran is
+	 * case-insensitive.
+	 */
+	private static String unitPath(Element unit) {
+		String path = null;
+		for (Node node = unit; node != null && node.getNodeType() == Node.ELEMENT_NODE; node = node.getParentNode()) {
+			Element element = (Element) node;
+			if (!XMLPrinterBase.programUnitTags.contains(element.getTagName()))
+				continue;
+			String step = element.getTagName() + " " + element.getAttribute("name").toLowerCase();
+			path = path == null ? step : step + "/" + path;
+		}
+		return path;
+	}
+
+	/**
+	 * Return statements and declarations of given unit, preceded by its header. Nested units are not included, as
+	 * they are compared on their own.
+	 */
+	private static ArrayList<Element> unitItems(Element unit) {
+		ArrayList<Element> items = new ArrayList<Element>();
+		for (Element part = TreeTraversal.firstChild(unit); part != null; part = TreeTraversal.nextSibling(part)) {
+			if (part.getTagName().equals("header"))
+				items.add(part);
+			else if (part.getTagName().equals("body"))
+				for (Element item = TreeTraversal.firstChild(part); item != null; item = TreeTraversal
+						.nextSibling(item)) {
+					if (item.getTagName().equals("specification")) {
+						for (Element declaration = TreeTraversal.firstChild(item); declaration != null; declaration = TreeTraversal
+								.nextSibling(declaration))
+							if (!isIgnored(declaration))
+								items.add(declaration);
+					} else if (!isIgnored(item))
+						items.add(item);
+				}
+		}
+		return items;
+	}
+
+	private long[] itemHashes(ArrayList<Element> items) {
+		long[] result = new long[items.size()];
+		for (int i = 0; i < result.length; ++i)
+			result[i] = hashes.get(items.get(i));
+		return result;
+	}
+
+	private static long unitHash(long[] itemHashes) {
+		long hash = 0;
+		for (long itemHash : itemHashes)
+			hash = mix(hash * PRIME + itemHash);
+		return hash;
+	}
+
+	private void compareUnits(String path, Element oldUnit, Element newUnit) {
+		ArrayList<Element> oldItems = unitItems(oldUnit);
+		ArrayList<Element> newItems = unitItems(newUnit);
+		long[] oldHashes = itemHashes(oldItems);
+		long[] newHashes = itemHashes(newItems);
+		if (oldHashes.length == newHashes.length && unitHash(oldHashes) == unitHash(newHashes))
+			return;
+		changes.add(new Change("changed", path, oldUnit, newUnit));
+
+		// index of matching new item of each old item and vice versa, or -1
+		int[] oldMatches = new int[oldHashes.length];
+		int[] newMatches = new int[newHashes.length];
+		Arrays.fill(oldMatches, -1);
+		Arrays.fill(newMatches, -1);
+		// for matched new items: true if unchanged, false if moved
+		boolean[] inOrder = new boolean[newHashes.length];
+
+		// anchors: items whose hashes are unique in both units
+		HashMap<Long, int[]> occurrences = new HashMap<Long, int[]>();
+		for (int i = 0; i < oldHashes.length; ++i)
+			countOccurrence(occurrences, oldHashes[i], 0, i);
+		for (int j = 0; j < newHashes.length; ++j)
+			countOccurrence(occurrences, newHashes[j], 1, j);
+		ArrayList<int[]> anchors = new ArrayList<int[]>();
+		for (int i = 0; i < oldHashes.length; ++i) {
+			int[] occurrence = occurrences.get(oldHashes[i]);
+			if (occurrence[0] == 1 && occurrence[1] == 1)
+				anchors.add(new int[] { i, occurrence[3] });
+		}
+		matchInOrder(anchors, oldMatches, newMatches, inOrder);
+
+		// items between consecutive unchanged ones, matched by hash within such gaps
+		int oldBegin = 0;
+		int newBegin = 0;
+		for (int j = 0; j <= newHashes.length; ++j) {
+			if (j < newHashes.length && !(newMatches[j] >= 0 && inOrder[j]))
+				continue;
+			int oldEnd = j < newHashes.length ? newMatches[j] : oldHashes.length;
+			matchGap(oldHashes, newHashes, oldBegin, oldEnd, newBegin, j, oldMatches, newMatches, inOrder);
+			oldBegin = oldEnd + 1;
+			newBegin = j + 1;
+		}
+
+		// remaining items with equal hashes are moved from one gap to another
+		HashMap<Long, ArrayDeque<Integer>> unmatchedNew = new HashMap<Long, ArrayDeque<Integer>>();
+		for (int j = 0; j < newHashes.length; ++j)
+			if (newMatches[j] < 0) {
+				if (!unmatchedNew.containsKey(newHashes[j]))
+					unmatchedNew.put(newHashes[j], new ArrayDeque<Integer>());
+				unmatchedNew.get(newHashes[j]).add(j);
+			}
+		for (int i = 0; i < oldHashes.length; ++i)
+			if (oldMatches[i] < 0 && unmatchedNew.containsKey(oldHashes[i])) {
+				Integer j = unmatchedNew.get(oldHashes[i]).poll();
+				if (j != null) {
+					oldMatches[i] = j;
+					newMatches[j] = i;
+				}
+			}
+
+		reportItems(path, oldItems, newItems, oldMatches, newMatches, inOrder);
+	}
+
+	private static void countOccurrence(HashMap<Long, int[]> occurrences, long hash, int side, int index) {
+		int[] occurrence = occurrences.get(hash);
+		if (occurrence == null) {
+			occurrence = new int[4];
+			occurrences.put(hash, occurrence);
+		}
+		occurrence[side] += 1;
+		occurrence[2 + side] = index;
+	}
+
+	/**
+	 * Match given pairs of old and new indices, which are sorted by old index. Pairs in the longest subsequence with
+	 * increasing new indices are in order, others are moved.
+	 */
+	private static void matchInOrder(ArrayList<int[]> pairs, int[] oldMatches, int[] newMatches, boolean[] inOrder) {
+		// patience sorting: tails[k] is the index of the pair ending the best increasing subsequence of length k + 1
+		int[] tails = new int[pairs.size()];
+		int[] predecessors = new int[pairs.size()];
+		int length = 0;
+		for (int p = 0; p < pairs.size(); ++p) {
+			int newIndex = pairs.get(p)[1];
+			int low = 0;
+			int high = length;
+			while (low < high) {
+				int middle = (low + high) >>> 1;
+				if (pairs.get(tails[middle])[1] < newIndex)
+					low = middle + 1;
+				else
+					high = middle;
+			}
+			predecessors[p] = low > 0 ? tails[low - 1] : -1;
+			tails[low] = p;
+			if (low == length)
+				++length;
+		}
+		for (int[] pair : pairs) {
+			oldMatches[pair[0]] = pair[1];
+			newMatches[pair[1]] = pair[0];
+		}
+		for (int p = length > 0 ? tails[length - 1] : -1; p >= 0; p = predecessors[p])
+			inOrder[pairs.get(p)[1]] = true;
+	}
+
+	/**
+	 * Match unmatched items with equal hashes within given ranges of old and new items.
+	 */
+	private static void matchGap(long[] oldHashes, long[] newHashes, int oldBegin, int oldEnd, int newBegin,
+			int newEnd, int[] oldMatches, int[] newMatches, boolean[] inOrder) {
+		if (oldBegin >= oldEnd || newBegin >= newEnd)
+			return;
+		HashMap<Long, ArrayDeque<Integer>> candidates = new HashMap<Long, ArrayDeque<Integer>>();
+		for (int j = newBegin; j < newEnd; ++j)
+			if (newMatches[j] < 0) {
+				if (!candidates.containsKey(newHashes[j]))
+					candidates.put(newHashes[j], new ArrayDeque<Integer>());
+				candidates.get(newHashes[j]).add(j);
+			}
+		ArrayList<int[]> pairs = new ArrayList<int[]>();
+		for (int i = oldBegin; i < oldEnd; ++i)
+			if (oldMatches[i] < 0 && candidates.containsKey(oldHashes[i])) {
+				Integer j = candidates.get(oldHashes[i]).poll();
+				if (j != null)
+					pairs.add(new int[] { i, j });
+			}
+		matchInOrder(pairs, oldMatches, newMatches, inOrder);
+	}
+
+	/**
+	 * Add changes of items in order of the new unit, with deleted items before the unchanged item which followed them.
+	 * Unmatched items between two consecutive unchanged ones are paired as changed if they have the same tag.
+	 */
+	private void reportItems(String path, ArrayList<Element> oldItems, ArrayList<Element> newItems, int[] oldMatches,
+			int[] newMatches, boolean[] inOrder) {
+		int oldBegin = 0;
+		int newBegin = 0;
+		for (int j = 0; j <= newItems.size(); ++j) {
+			if (j < newItems.size() && !(newMatches[j] >= 0 && inOrder[j]))
+				continue;
+			int oldEnd = j < newItems.size() ? newMatches[j] : oldItems.size();
+			// unmatched old items by tag, those remaining after pairing are deleted
+			HashMap<String, ArrayDeque<Integer>> unpaired = new HashMap<String, ArrayDeque<Integer>>();
+			for (int i = oldBegin; i < oldEnd; ++i)
+				if (oldMatches[i] < 0) {
+					String tag = oldItems.get(i).getTagName();
+					if (!unpaired.containsKey(tag))
+						unpaired.put(tag, new ArrayDeque<Integer>());
+					unpaired.get(tag).add(i);
+				}
+			ArrayList<Change> gapChanges = new ArrayList<Change>();
+			for (int k = newBegin; k < j; ++k) {
+				Element newItem = newItems.get(k);
+				if (newMatches[k] >= 0) {
+					gapChanges.add(new Change("moved", path, oldItems.get(newMatches[k]), newItem));
+					continue;
+				}
+				ArrayDeque<Integer> candidates = unpaired.get(newItem.getTagName());
+				Integer i = candidates == null ? null : candidates.poll();
+				if (i == null)
+					gapChanges.add(new Change("inserted", path, null, newItem));
+				else {
+					oldMatches[i] = k;
+					gapChanges.add(new Change("changed", path, oldItems.get(i), newItem));
+				}
+			}
+			for (int i = oldBegin; i < oldEnd; ++i)
+				if (oldMatches[i] < 0)
+					changes.add(new Change("deleted", path, oldItems.get(i), null));
+			changes.addAll(gapChanges);
+			oldBegin = oldEnd + 1;
+			newBegin = j + 1;
+		}
+	}
+
+	/**
+	 * Return the differences as a <diff> node with one <change> node per change, with kind, unit and tag of the node
+	 * as attributes, and with <old> and <new> nodes holding code bounds of the old and new node.
+	 */
+	public Element toNodes(Document doc) {
+		Element diff = doc.createElement("diff");
+		for (Change change : changes) {
+			Element node = doc.createElement("change");
+			node.setAttribute("kind", change.kind);
+			node.setAttribute("unit", change.unit);
+			node.setAttribute("tag", (change.oldNode == null ? change.newNode : change.oldNode).getTagName());
+			if (change.oldNode != null)
+				node.appendChild(boundsNode(doc, "old", change.oldNode));
+			if (change.newNode != null)
+				node.appendChild(boundsNode(doc, "new", change.newNode));
+			diff.appendChild(node);
+		}
+		return diff;
+	}
+
+	private static Element boundsNode(Document doc, String tag, Element source) {
+		Element node = doc.createElement(tag);
+		for (String attribute : BOUNDS_ATTRIBUTES)
+			if (source.hasAttribute(attribute))
+				node.setAttribute(attribute, source.getAttribute(attribute));
+		return node;
+	}
+
+	/**
+	 * Read AST written by the parser in XML or binary format, possibly compressed with gzip.
+	 */
+	public static Element read(File file) throws IOException {
+		InputStream stream = new BufferedInputStream(new FileInputStream(file));
+		try {
+			stream.mark(2);
+			if (stream.read() == 0x1f && stream.read() == 0x8b) {
+				stream.reset();
+				stream = new BufferedInputStream(new GZIPInputStream(stream));
+			} else
+				stream.reset();
+			byte[] magic = new byte[BinaryAstWriter.MAGIC.length];
+			stream.mark(magic.length);
+			for (int i = 0; i < magic.length; ++i)
+				magic[i] = (byte) stream.read();
+			stream.reset();
+			if (Arrays.equals(magic, BinaryAstWriter.MAGIC))
+				return new BinaryAstReader().read(stream).getDocumentElement();
+			try {
+				DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+				// the whole tree is traversed anyway, so nodes are created at once rather than on first access
+				factory.setFeature("http://apache.org/xml/features/dom/defer-node-expansion", false);
+				return factory.newDocumentBuilder().parse(stream).getDocumentElement();
+			} catch (ParserConfigurationException error) {
+				throw new IOException(error);
+			} catch (SAXException error) {
+				throw new IOException("not an AST: " + file, error);
+			}
+		} finally {
+			stream.close();
+		}
+	}
+
+	/**
+	 * Compare ASTs in two given files and write the differences to standard output as XML. Exit status is 0 if there
+	 * are no differences and 1 otherwise, as for diff.
+	 */
+	public static void main(String[] args) throws Exception {
+		if (args.length != 2) {
+			System.err.println("usage: java fortran.ofp.AstDiff OLD_AST NEW_AST");
+			System.exit(2);
+		}
+		AstDiff diff = new AstDiff(read(new File(args[0])), read(new File(args[1])));
+		Document doc = DocumentBuilderFactory.newInstance().newDocumentBuilder().newDocument();
+		doc.appendChild(diff.toNodes(doc));
+		Writer writer = new OutputStreamWriter(System.out, "UTF-8");
+		new XmlAstWriter(writer).write(doc);
+		writer.flush();
+		System.exit(diff.changes.isEmpty() ? 0 : 1);
+	}
+
+}
@@ -0,0 +1,156 @@
+package fortran.ofp;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+/**
+ * Reader of the binary encoding written by BinaryAstWriter, which restores the original XML document.
+ */
+public class BinaryAstReader {
+
+	private byte[] data;
+
+	private int position;
+
+	private String[] strings;
+
+	private Document doc;
+
+	public Document read(InputStream stream) throws IOException {
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		byte[] chunk = new byte[1 << 16];
+		for (int count = stream.read(chunk); count >= 0; count = stream.read(chunk))
+			buffer.write(chunk, 0, count);
+		return read(buffer.toByteArray());
+	}
+
+	public Document read(byte[] data) throws IOException {
+		this.data = data;
+		position = 0;
+		if (data.length < BinaryAstWriter.MAGIC.length
+				|| !Arrays.equals(Arrays.copyOf(data, BinaryAstWriter.MAGIC.length), BinaryAstWriter.MAGIC))
+			throw new IOException("not a binary AST: magic number mismatch");
+		position = BinaryAstWriter.MAGIC.length;
+		int version = readVarint();
+		if (version != BinaryAstWriter.VERSION)
+			throw new IOException("unsupported binary AST version " + version);
+		strings = new String[readVarint()];
+		for (int i = 0; i < strings.length; i++) {
+			int length = readVarint();
+			checkAvailable(length);
+			strings[i] = new String(data, position, length, StandardCharsets.UTF_8);
+			position += length;
+		}
+		try {
+			doc = DocumentBuilderFactory.newInstance().newDocumentBuilder().newDocument();
+		} catch (ParserConfigurationException error) {
+			throw new IOException(error);
+		}
+		doc.appendChild(readTree());
+		if (position != data.length)
+			throw new IOException("unexpected data after the root node at offset " + position);
+		return doc;
+	}
+
+	/**
+	 * Read the root node with its whole subtree.
+	 *
+	 * Nodes are read iteratively, with an explicit stack of nodes whose children are being read, so that trees of any
+	 * depth can be read.
+	 */
+	private Element readTree() throws IOException {
+		Element root = null;
+		ArrayList<Element> openNodes = new ArrayList<Element>();
+		ArrayList<int[]> openNodesProgress = new ArrayList<int[]>();
+		do {
+			int[] progress = new int[2];
+			Element node = readNode(progress);
+			if (openNodes.isEmpty())
+				root = node;
+			else {
+				openNodes.get(openNodes.size() - 1).appendChild(node);
+				--openNodesProgress.get(openNodesProgress.size() - 1)[0];
+			}
+			openNodes.add(node);
+			openNodesProgress.add(progress);
+			while (!openNodes.isEmpty() && openNodesProgress.get(openNodesProgress.size() - 1)[0] == 0) {
+				if (position != openNodesProgress.remove(openNodesProgress.size() - 1)[1])
+					throw new IOException("node length mismatch at offset " + position);
+				openNodes.remove(openNodes.size() - 1);
+			}
+		} while (!openNodes.isEmpty());
+		return root;
+	}
+
+	/**
+	 * Read a node up to and including its children count, but without its children.
+	 *
+	 * The count of children and the offset at which the node ends are stored in given progress array.
+	 */
+	private Element readNode(int[] progress) throws IOException {
+		int length = readVarint();
+		int end = position + length;
+		checkAvailable(length);
+		Element node = doc.createElement(readString());
+		if (readByte() == BinaryAstWriter.FLAG_BOUNDS) {
+			int lineBegin = unzigzag(readVarint());
+			int colBegin = unzigzag(readVarint());
+			int lineEnd = lineBegin + unzigzag(readVarint());
+			int colEnd = unzigzag(readVarint());
+			node.setAttribute("line_begin", Integer.toString(lineBegin));
+			node.setAttribute("col_begin", Integer.toString(colBegin));
+			node.setAttribute("line_end", Integer.toString(lineEnd));
+			node.setAttribute("col_end", Integer.toString(colEnd));
+		}
+		for (int i = readVarint(); i > 0; i--) {
+			String name = readString();
+			node.setAttribute(name, readString());
+		}
+		progress[0] = readVarint();
+		progress[1] = end;
+		return node;
+	}
+
+	private String readString() throws IOException {
+		int index = readVarint();
+		if (index >= strings.length)
+			throw new IOException("string index " + index + " out of range at offset " + position);
+		return strings[index];
+	}
+
+	private int readByte() throws IOException {
+		checkAvailable(1);
+		return data[position++] & 0xFF;
+	}
+
+	private int readVarint() throws IOException {
+		int value = 0;
+		for (int shift = 0; shift < 35; shift += 7) {
+			int b = readByte();
+			value |= (b & 0x7F) << shift;
+			if ((b & 0x80) == 0)
+				return value;
+		}
+		throw new IOException("malformed varint at offset " + position);
+	}
+
+	private void checkAvailable(int count) throws IOException {
+		if (count < 0 || position + count > data.length)
+			throw new IOException("unexpected end of binary AST at offset " + position);
+	}
+
+	static int unzigzag(int value) {
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+}
@@ -0,0 +1,220 @@
+package fortran.ofp;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+
+import org.w3c.dom.Attr;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+
+/**
+ * Writer of the compact binary encoding of the XML document generated by XMLPrinter.
+ *
+ * All integers are unsigned LEB128 varints (bounds are zigzag-encoded first) and all strings are UTF-8. The layout is:
+ *
+ * <pre>
+ * document := "OFPB" version stringsCount string* node
+ * string   := bytesCount byte*
+ * node     := length tag flags [lineBegin colBegin (lineEnd - lineBegin) colEnd]
+ *             attributesCount (name value)* childrenCount node*
+ * </pre>
+ *
+ * where tag, name and value are indices into the string table (most frequent strings come first), flags is 1 if the
+ * node has code bounds (which are then not repeated among attributes) and 0 otherwise, and length is number of bytes
+ * of the node that follow it, so that the whole subtree can be skipped.
+ */
+public class BinaryAstWriter {
+
+	public static final byte[] MAGIC = { 'O', 'F', 'P', 'B' };
+
+	public static final int VERSION = 1;
+
+	public static final int FLAG_BOUNDS = 1;
+
+	static final String[] BOUNDS_ATTRIBUTES = { "line_begin", "col_begin", "line_end", "col_end" };
+
+	private HashMap<String, Integer> stringIndices = new HashMap<String, Integer>();
+
+	private IdentityHashMap<Element, Integer> lengths = new IdentityHashMap<Element, Integer>();
+
+	private OutputStream stream;
+
+	public void write(Document doc, OutputStream stream) throws IOException {
+		write(doc.getDocumentElement(), stream);
+	}
+
+	public void write(Element root, OutputStream stream) throws IOException {
+		this.stream = stream;
+		stringIndices.clear();
+		final HashMap<String, Integer> counts = new HashMap<String, Integer>();
+		final HashMap<String, Integer> firstUses = new HashMap<String, Integer>();
+		for (Element node = root; node != null; node = TreeTraversal.nextInPreOrder(root, node))
+			countStrings(node, counts, firstUses);
+		ArrayList<String> strings = new ArrayList<String>(counts.keySet());
+		Collections.sort(strings, new Comparator<String>() {
+			@Override
+			public int compare(String a, String b) {
+				int byCount = counts.get(b).compareTo(counts.get(a));
+				return byCount != 0 ? byCount : firstUses.get(a).compareTo(firstUses.get(b));
+			}
+		});
+
+		stream.write(MAGIC);
+		writeVarint(VERSION);
+		writeVarint(strings.size());
+		for (String string : strings) {
+			stringIndices.put(string, stringIndices.size());
+			byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+			writeVarint(bytes.length);
+			stream.write(bytes);
+		}
+		for (Element node = TreeTraversal.firstInPostOrder(root); node != null; node = TreeTraversal
+				.nextInPostOrder(root, node))
+			computeLength(node);
+		// nodes are encoded in pre-order, each directly followed by its children
+		for (Element node = root; node != null; node = TreeTraversal.nextInPreOrder(root, node))
+			writeNode(node);
+		lengths.clear();
+	}
+
+	private static void countString(String string, HashMap<String, Integer> counts,
+			HashMap<String, Integer> firstUses) {
+		Integer count = counts.get(string);
+		if (count == null) {
+			firstUses.put(string, firstUses.size());
+			count = 0;
+		}
+		counts.put(string, count + 1);
+	}
+
+	private static void countStrings(Element node, HashMap<String, Integer> counts,
+			HashMap<String, Integer> firstUses) {
+		countString(node.getTagName(), counts, firstUses);
+		boolean hasBounds = hasBounds(node);
+		NamedNodeMap attributes = node.getAttributes();
+		for (int i = 0; i < attributes.getLength(); i++) {
+			Attr attribute = (Attr) attributes.item(i);
+			if (hasBounds && isBoundsAttribute(attribute.getName()))
+				continue;
+			countString(attribute.getName(), counts, firstUses);
+			countString(attribute.getValue(), counts, firstUses);
+		}
+	}
+
+	static boolean hasBounds(Element node) {
+		for (String name : BOUNDS_ATTRIBUTES)
+			if (!node.hasAttribute(name))
+				return false;
+		return true;
+	}
+
+	static boolean isBoundsAttribute(String name) {
+		for (String boundsName : BOUNDS_ATTRIBUTES)
+			if (boundsName.equals(name))
+				return true;
+		return false;
+	}
+
+	static ArrayList<Element> children(Element node) {
+		ArrayList<Element> children = new ArrayList<Element>();
+		for (Node child = node.getFirstChild(); child != null; child = child.getNextSibling())
+			if (child.getNodeType() == Node.ELEMENT_NODE)
+				children.add((Element) child);
+		return children;
+	}
+
+	private int[] bounds(Element node) {
+		int[] bounds = new int[BOUNDS_ATTRIBUTES.length];
+		for (int i = 0; i < bounds.length; i++)
+			bounds[i] = Integer.parseInt(node.getAttribute(BOUNDS_ATTRIBUTES[i]));
+		bounds[2] -= bounds[0];
+		return bounds;
+	}
+
+	/**
+	 * Compute the encoded length of everything in the given node that follows its length prefix.
+	 *
+	 * Lengths of all its children must be already computed.
+	 */
+	private void computeLength(Element node) {
+		int length = varintLength(stringIndices.get(node.getTagName())) + 1;
+		boolean hasBounds = hasBounds(node);
+		if (hasBounds)
+			for (int value : bounds(node))
+				length += varintLength(zigzag(value));
+		int attributesCount = 0;
+		NamedNodeMap attributes = node.getAttributes();
+		for (int i = 0; i < attributes.getLength(); i++) {
+			Attr attribute = (Attr) attributes.item(i);
+			if (hasBounds && isBoundsAttribute(attribute.getName()))
+				continue;
+			++attributesCount;
+			length += varintLength(stringIndices.get(attribute.getName()));
+			length += varintLength(stringIndices.get(attribute.getValue()));
+		}
+		length += varintLength(attributesCount);
+		ArrayList<Element> children = children(node);
+		length += varintLength(children.size());
+		for (Element child : children) {
+			int childLength = lengths.get(child);
+			length += varintLength(childLength) + childLength;
+		}
+		lengths.put(node, length);
+	}
+
+	/**
+	 * Write the given node up to and including its children count, but without its children.
+	 */
+	private void writeNode(Element node) throws IOException {
+		writeVarint(lengths.get(node));
+		writeVarint(stringIndices.get(node.getTagName()));
+		boolean hasBounds = hasBounds(node);
+		stream.write(hasBounds ? FLAG_BOUNDS : 0);
+		if (hasBounds)
+			for (int value : bounds(node))
+				writeVarint(zigzag(value));
+		ArrayList<Attr> kept = new ArrayList<Attr>();
+		NamedNodeMap attributes = node.getAttributes();
+		for (int i = 0; i < attributes.getLength(); i++) {
+			Attr attribute = (Attr) attributes.item(i);
+			if (!hasBounds || !isBoundsAttribute(attribute.getName()))
+				kept.add(attribute);
+		}
+		writeVarint(kept.size());
+		for (Attr attribute : kept) {
+			writeVarint(stringIndices.get(attribute.getName()));
+			writeVarint(stringIndices.get(attribute.getValue()));
+		}
+		writeVarint(children(node).size());
+	}
+
+	static int zigzag(int value) {
+		return (value << 1) ^ (value >> 31);
+	}
+
+	static int varintLength(int value) {
+		int length = 1;
+		while ((value & ~0x7F) != 0) {
+			value >>>= 7;
+			++length;
+		}
+		return length;
+	}
+
+	private void writeVarint(int value) throws IOException {
+		while ((value & ~0x7F) != 0) {
+			stream.write((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		stream.write(value);
+	}
+
+}
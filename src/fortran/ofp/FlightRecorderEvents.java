@@ -0,0 +1,219 @@
+package fortran.ofp;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Custom Java Flight Recorder events: parsing of each file, each phase of the run and action handlers that took
+ * longer than a threshold.
+ *
+ * The jdk.jfr API is used via reflection, so that the printer still builds and runs on Java versions without it.
+ * Events are emitted only if Flight Recorder is already initialized (e.g. by -XX:StartFlightRecording) when the
+ * printer is created, otherwise all methods do nothing.
+ */
+public class FlightRecorderEvents {
+
+	static final String CATEGORY = "Open Fortran Parser";
+
+	/**
+	 * Number of AST nodes, which may be costly to count, so it is counted only for events that are committed.
+	 */
+	public interface NodeCounter {
+		long count();
+	}
+
+	private String path;
+
+	private long slowHandlerThresholdNanos;
+
+	private Object fileFactory = null;
+
+	private Object phaseFactory = null;
+
+	private Object slowHandlerFactory = null;
+
+	private Method newEvent;
+
+	private Method begin;
+
+	private Method end;
+
+	private Method commit;
+
+	private Method shouldCommit;
+
+	private Method set;
+
+	/**
+	 * Events of files that are being parsed, innermost last.
+	 */
+	private ArrayList<Object> files = new ArrayList<Object>();
+
+	/**
+	 * Names of phases that are in progress, innermost last, with their events and token counts at their beginning.
+	 */
+	private ArrayList<Object[]> phases = new ArrayList<Object[]>();
+
+	public FlightRecorderEvents(String path, long slowHandlerThresholdNanos) {
+		this.path = path;
+		this.slowHandlerThresholdNanos = slowHandlerThresholdNanos;
+		try {
+			if (!(Boolean) Class.forName("jdk.jfr.FlightRecorder").getMethod("isInitialized").invoke(null))
+				return;
+			Class<?> event = Class.forName("jdk.jfr.Event");
+			begin = event.getMethod("begin");
+			end = event.getMethod("end");
+			commit = event.getMethod("commit");
+			shouldCommit = event.getMethod("shouldCommit");
+			set = event.getMethod("set", int.class, Object.class);
+			newEvent = Class.forName("jdk.jfr.EventFactory").getMethod("newEvent");
+			fileFactory = createFactory("fortran.ofp.File", "Fortran File",
+					"Parsing of a Fortran file, including the files it includes",
+					field(String.class, "path", "Path", false), field(long.class, "nodes", "AST Nodes", false));
+			phaseFactory = createFactory("fortran.ofp.Phase", "XML Printer Phase",
+					"Phase of the run: parsing, propagateBounds, insertTokens or persist",
+					field(String.class, "path", "Path", false), field(String.class, "phase", "Phase", false),
+					field(long.class, "nodes", "AST Nodes", false),
+					field(long.class, "tokens", "Inserted Tokens", false));
+			slowHandlerFactory = createFactory("fortran.ofp.SlowHandler", "Slow Action Handler",
+					"Invocation of a parser action handler that took longer than the threshold",
+					field(String.class, "path", "Path", false), field(String.class, "handler", "Handler", false),
+					field(long.class, "elapsed", "Elapsed Time", true));
+		} catch (ClassNotFoundException error) {
+			fileFactory = null;
+		} catch (Exception error) {
+			System.err.println("Flight Recorder events are not available: " + error);
+			fileFactory = null;
+		}
+	}
+
+	private static Object annotation(String name, Object value) throws Exception {
+		Class<?> annotationClass = Class.forName("jdk.jfr." + name);
+		return Class.forName("jdk.jfr.AnnotationElement").getConstructor(Class.class, Object.class)
+				.newInstance(annotationClass, value);
+	}
+
+	private static Object field(Class<?> type, String name, String label, boolean isTimespan) throws Exception {
+		List<Object> annotations = new ArrayList<Object>();
+		annotations.add(annotation("Label", label));
+		if (isTimespan)
+			annotations.add(annotation("Timespan", "NANOSECONDS"));
+		return Class.forName("jdk.jfr.ValueDescriptor").getConstructor(Class.class, String.class, List.class)
+				.newInstance(type, name, annotations);
+	}
+
+	private static Object createFactory(String name, String label, String description, Object... fields)
+			throws Exception {
+		List<Object> annotations = new ArrayList<Object>();
+		annotations.add(annotation("Name", name));
+		annotations.add(annotation("Label", label));
+		annotations.add(annotation("Description", description));
+		annotations.add(annotation("Category", new String[] { CATEGORY }));
+		annotations.add(annotation("StackTrace", false));
+		return Class.forName("jdk.jfr.EventFactory").getMethod("create", List.class, List.class).invoke(null,
+				annotations, Arrays.asList(fields));
+	}
+
+	public boolean isEnabled() {
+		return fileFactory != null;
+	}
+
+	/**
+	 * Return true if an action handler that took given time should be reported.
+	 */
+	public boolean isSlow(long nanos) {
+		return fileFactory != null && nanos >= slowHandlerThresholdNanos;
+	}
+
+	/**
+	 * Create a new event of given type with given field values, and call its begin() if it is to have a duration.
+	 */
+	private Object create(Object factory, boolean hasDuration, Object... values) throws Exception {
+		Object event = newEvent.invoke(factory);
+		for (int i = 0; i < values.length; i++)
+			set.invoke(event, i, values[i]);
+		if (hasDuration)
+			begin.invoke(event);
+		return event;
+	}
+
+	private void disable(Exception error) {
+		System.err.println("disabling Flight Recorder events after error: " + error);
+		fileFactory = null;
+	}
+
+	public void beginFile(String filePath) {
+		if (fileFactory == null)
+			return;
+		try {
+			files.add(create(fileFactory, true, filePath, 0L));
+		} catch (Exception error) {
+			disable(error);
+		}
+	}
+
+	public void endFile(NodeCounter nodes) {
+		if (fileFactory == null || files.isEmpty())
+			return;
+		try {
+			Object event = files.remove(files.size() - 1);
+			end.invoke(event);
+			if (!(Boolean) shouldCommit.invoke(event))
+				return;
+			set.invoke(event, 1, nodes.count());
+			commit.invoke(event);
+		} catch (Exception error) {
+			disable(error);
+		}
+	}
+
+	public void beginPhase(String name, long tokens) {
+		if (fileFactory == null)
+			return;
+		try {
+			phases.add(new Object[] { name, create(phaseFactory, true, path, name, 0L, 0L), tokens });
+		} catch (Exception error) {
+			disable(error);
+		}
+	}
+
+	/**
+	 * End the innermost phase with given name, with given number of nodes in the AST and of tokens inserted so far.
+	 * Phases nested in it that were not ended (e.g. due to an error) are discarded.
+	 */
+	public void endPhase(String name, NodeCounter nodes, long tokens) {
+		if (fileFactory == null)
+			return;
+		int index = phases.size() - 1;
+		while (index >= 0 && !phases.get(index)[0].equals(name))
+			--index;
+		if (index < 0)
+			return;
+		while (phases.size() > index + 1)
+			phases.remove(phases.size() - 1);
+		Object[] phase = phases.remove(index);
+		try {
+			end.invoke(phase[1]);
+			if (!(Boolean) shouldCommit.invoke(phase[1]))
+				return;
+			set.invoke(phase[1], 2, nodes.count());
+			set.invoke(phase[1], 3, tokens - (Long) phase[2]);
+			commit.invoke(phase[1]);
+		} catch (Exception error) {
+			disable(error);
+		}
+	}
+
+	public void slowHandler(String handler, long nanos) {
+		if (!isSlow(nanos))
+			return;
+		try {
+			commit.invoke(create(slowHandlerFactory, false, path, handler, nanos));
+		} catch (Exception error) {
+			disable(error);
+		}
+	}
+
+}
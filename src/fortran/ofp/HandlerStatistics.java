@@ -0,0 +1,175 @@
+package fortran.ofp;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+
+/**
+ * Invocation counts and latency histograms of parser action handlers, recorded by XMLPrinterInstrumented.
+ *
+ * Invocations are counted exactly, but only every n-th invocation of each handler is timed, to limit the overhead of
+ * System.nanoTime(). Times include time spent in handlers called from within the handler. Latencies are kept in
+ * log-linear buckets (like in HdrHistogram): values below 16ns exactly, and larger values with 3 significant bits, so
+ * that reported percentiles are within 12.5% of the real value.
+ */
+public class HandlerStatistics {
+
+	static final int SUB_BUCKET_BITS = 3;
+
+	static final int LINEAR_BUCKETS = 2 << SUB_BUCKET_BITS;
+
+	static final int BUCKETS = LINEAR_BUCKETS + (63 - SUB_BUCKET_BITS - 1) * (1 << SUB_BUCKET_BITS);
+
+	private String[] names;
+
+	private int samplingPeriod;
+
+	private long[] counts;
+
+	private long[] sampledCounts;
+
+	private long[] sampledTotals;
+
+	private long[] maxima;
+
+	private long[][] histograms;
+
+	private FlightRecorderEvents events = null;
+
+	public HandlerStatistics(String[] names, int samplingPeriod) {
+		if (samplingPeriod < 1)
+			throw new IllegalArgumentException("sampling period must be positive, but is " + samplingPeriod);
+		this.names = names;
+		this.samplingPeriod = samplingPeriod;
+		counts = new long[names.length];
+		sampledCounts = new long[names.length];
+		sampledTotals = new long[names.length];
+		maxima = new long[names.length];
+		histograms = new long[names.length][];
+	}
+
+	/**
+	 * Report timed invocations that were slower than the threshold of given events as Flight Recorder events.
+	 */
+	public void setEvents(FlightRecorderEvents events) {
+		this.events = events;
+	}
+
+	/**
+	 * Count an invocation of given handler. Return its start time if it should be timed, and -1 otherwise.
+	 */
+	public long begin(int handler) {
+		if (counts[handler]++ % samplingPeriod != 0)
+			return -1;
+		return System.nanoTime();
+	}
+
+	public void end(int handler, long start) {
+		if (start >= 0)
+			record(handler, System.nanoTime() - start);
+	}
+
+	/**
+	 * Record one timed invocation of given handler that took given number of nanoseconds.
+	 */
+	public void record(int handler, long nanos) {
+		if (histograms[handler] == null)
+			histograms[handler] = new long[BUCKETS];
+		++histograms[handler][bucket(nanos)];
+		++sampledCounts[handler];
+		sampledTotals[handler] += nanos;
+		if (nanos > maxima[handler])
+			maxima[handler] = nanos;
+		if (events != null && events.isSlow(nanos))
+			events.slowHandler(names[handler], nanos);
+	}
+
+	static int bucket(long value) {
+		if (value < LINEAR_BUCKETS)
+			return (int) Math.max(value, 0);
+		int exponent = 63 - Long.numberOfLeadingZeros(value);
+		int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & ((1 << SUB_BUCKET_BITS) - 1);
+		return LINEAR_BUCKETS + (exponent - SUB_BUCKET_BITS - 1) * (1 << SUB_BUCKET_BITS) + subBucket;
+	}
+
+	/**
+	 * Return the largest value that falls into given bucket.
+	 */
+	static long bucketLimit(int bucket) {
+		if (bucket < LINEAR_BUCKETS)
+			return bucket;
+		int exponent = (bucket - LINEAR_BUCKETS) / (1 << SUB_BUCKET_BITS) + SUB_BUCKET_BITS + 1;
+		long subBucket = (bucket - LINEAR_BUCKETS) % (1 << SUB_BUCKET_BITS) + (1 << SUB_BUCKET_BITS);
+		return ((subBucket + 1) << (exponent - SUB_BUCKET_BITS)) - 1;
+	}
+
+	public String getName(int handler) {
+		return names[handler];
+	}
+
+	public long getCount(int handler) {
+		return counts[handler];
+	}
+
+	/**
+	 * Return estimated total time spent in given handler, extrapolated from the timed invocations.
+	 */
+	public long getTotalNanos(int handler) {
+		if (sampledCounts[handler] == 0)
+			return 0;
+		return (long) ((double) sampledTotals[handler] * counts[handler] / sampledCounts[handler]);
+	}
+
+	public long getMaxNanos(int handler) {
+		return maxima[handler];
+	}
+
+	/**
+	 * Return upper bound of given percentile (0 to 100) of latency of timed invocations of given handler.
+	 */
+	public long getPercentileNanos(int handler, double percentile) {
+		long[] histogram = histograms[handler];
+		if (histogram == null)
+			return 0;
+		long rank = (long) Math.ceil(percentile / 100 * sampledCounts[handler]);
+		long seen = 0;
+		for (int i = 0; i < histogram.length; i++) {
+			seen += histogram[i];
+			if (seen >= Math.max(rank, 1))
+				return Math.min(bucketLimit(i), maxima[handler]);
+		}
+		return maxima[handler];
+	}
+
+	/**
+	 * Write statistics of handlers that were invoked as JSON, sorted by estimated total time, descending.
+	 */
+	public void write(Writer writer, String path) throws IOException {
+		ArrayList<Integer> handlers = new ArrayList<Integer>();
+		for (int i = 0; i < names.length; i++)
+			if (counts[i] > 0)
+				handlers.add(i);
+		Collections.sort(handlers, new Comparator<Integer>() {
+			@Override
+			public int compare(Integer a, Integer b) {
+				return Long.compare(getTotalNanos(b), getTotalNanos(a));
+			}
+		});
+		writer.write("{\n  \"file\": \"" + path.replace("\\", "\\\\").replace("\"", "\\\"") + "\",\n");
+		writer.write("  \"sampling_period\": " + samplingPeriod + ",\n");
+		writer.write("  \"handlers\": {");
+		boolean first = true;
+		for (int i : handlers) {
+			writer.write(first ? "\n" : ",\n");
+			writer.write("    \"" + names[i] + "\": {\"count\": " + counts[i] + ", \"timed\": " + sampledCounts[i]
+					+ ", \"total_ns\": " + getTotalNanos(i) + ", \"p50_ns\": " + getPercentileNanos(i, 50)
+					+ ", \"p90_ns\": " + getPercentileNanos(i, 90) + ", \"p99_ns\": " + getPercentileNanos(i, 99)
+					+ ", \"max_ns\": " + maxima[i] + "}");
+			first = false;
+		}
+		writer.write("\n  }\n}\n");
+	}
+
+}
@@ -0,0 +1,139 @@
+package fortran.ofp;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import org.w3c.dom.Attr;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+
+/**
+ * Writer of the JSON encoding of the XML document generated by XMLPrinter.
+ *
+ * Each element is written directly to the underlying writer (without building any intermediate JSON tree) as an
+ * object {"tag": ..., "attrib": {...}, "children": [...]}, where attribute values are strings, same as in XML, and
+ * children are in document order. The tree is traversed iteratively, so that trees of any depth can be written.
+ */
+public class JsonAstWriter {
+
+	private Writer writer;
+
+	/**
+	 * Output is collected here and passed to the writer in large pieces, as writing it piece by piece is much slower.
+	 */
+	private StringBuilder buffer = new StringBuilder(1 << 16);
+
+	public JsonAstWriter(Writer writer) {
+		this.writer = writer;
+	}
+
+	/**
+	 * Write given element and its whole subtree as one JSON object.
+	 */
+	public void write(Element node) throws IOException {
+		append(node);
+		flush();
+	}
+
+	private void append(Element node) throws IOException {
+		Element current = node;
+		while (true) {
+			if (buffer.length() >= 1 << 16)
+				flush();
+			appendBegin(current);
+			Element child = TreeTraversal.firstChild(current);
+			if (child != null) {
+				current = child;
+				continue;
+			}
+			// close objects of nodes that have no more children, up to the first one which has a next sibling
+			while (true) {
+				buffer.append("]}");
+				if (current == node)
+					return;
+				Element sibling = TreeTraversal.nextSibling(current);
+				if (sibling != null) {
+					buffer.append(',');
+					current = sibling;
+					break;
+				}
+				current = (Element) current.getParentNode();
+			}
+		}
+	}
+
+	/**
+	 * Write beginning of JSON object of given element, up to the opening bracket of its children list.
+	 *
+	 * The object must be completed by calling writeEnd(), and its children must be separated by calling
+	 * writeSeparator().
+	 */
+	public void writeBegin(Element node) throws IOException {
+		appendBegin(node);
+		flush();
+	}
+
+	public void writeSeparator() throws IOException {
+		writer.write(',');
+	}
+
+	public void writeEnd() throws IOException {
+		writer.write("]}");
+	}
+
+	private void flush() throws IOException {
+		writer.append(buffer);
+		buffer.setLength(0);
+	}
+
+	private void appendBegin(Element node) {
+		buffer.append("{\"tag\":");
+		appendString(node.getTagName());
+		buffer.append(",\"attrib\":{");
+		NamedNodeMap attributes = node.getAttributes();
+		for (int i = 0; i < attributes.getLength(); i++) {
+			Attr attribute = (Attr) attributes.item(i);
+			if (i > 0)
+				buffer.append(',');
+			appendString(attribute.getName());
+			buffer.append(':');
+			appendString(attribute.getValue());
+		}
+		buffer.append("},\"children\":[");
+	}
+
+	private void appendString(String string) {
+		buffer.append('"');
+		int length = string.length();
+		int begin = 0;
+		for (int i = 0; i < length; i++) {
+			char c = string.charAt(i);
+			if (c >= 0x20 && c != '"' && c != '\\')
+				continue;
+			buffer.append(string, begin, i);
+			begin = i + 1;
+			switch (c) {
+			case '"':
+				buffer.append("\\\"");
+				break;
+			case '\\':
+				buffer.append("\\\\");
+				break;
+			case '\n':
+				buffer.append("\\n");
+				break;
+			case '\r':
+				buffer.append("\\r");
+				break;
+			case '\t':
+				buffer.append("\\t");
+				break;
+			default:
+				buffer.append(String.format("\\u%04x", (int) c));
+			}
+		}
+		buffer.append(string, begin, length);
+		buffer.append('"');
+	}
+
+}
@@ -0,0 +1,29 @@
+package fortran.ofp;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Compression applied to the output stream of XMLPrinter.
+ *
+ * Implementations are registered in OutputCodecs, and selected either by name or by extension of the output path.
+ */
+public interface OutputCodec {
+
+	/**
+	 * Name used to select this codec on command line, e.g. "gzip".
+	 */
+	String getName();
+
+	/**
+	 * Extension of output paths that imply this codec, e.g. ".gz".
+	 */
+	String getExtension();
+
+	/**
+	 * Wrap given stream so that all data written is compressed. Closing the returned stream must finish compression
+	 * and close the wrapped stream.
+	 */
+	OutputStream compress(OutputStream stream) throws IOException;
+
+}
@@ -0,0 +1,64 @@
+package fortran.ofp;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Registry of available output codecs.
+ *
+ * Only gzip is available by default, other codecs (e.g. LZ4 or zstd, which need additional libraries) can be added
+ * by calling register() before the printer is constructed.
+ */
+public class OutputCodecs {
+
+	public static final int BUFFER_SIZE = 1 << 16;
+
+	private static final ArrayList<OutputCodec> codecs = new ArrayList<OutputCodec>();
+
+	static {
+		register(new GzipCodec());
+	}
+
+	public static synchronized void register(OutputCodec codec) {
+		codecs.add(codec);
+	}
+
+	public static synchronized OutputCodec forName(String name) {
+		for (OutputCodec codec : codecs)
+			if (codec.getName().equals(name))
+				return codec;
+		throw new IllegalArgumentException("unsupported compression: " + name);
+	}
+
+	/**
+	 * Return codec implied by extension of given path, or null if output should not be compressed.
+	 */
+	public static synchronized OutputCodec forPath(String path) {
+		for (OutputCodec codec : codecs)
+			if (path.endsWith(codec.getExtension()))
+				return codec;
+		return null;
+	}
+
+	public static class GzipCodec implements OutputCodec {
+
+		@Override
+		public String getName() {
+			return "gzip";
+		}
+
+		@Override
+		public String getExtension() {
+			return ".gz";
+		}
+
+		@Override
+		public OutputStream compress(OutputStream stream) throws IOException {
+			return new GZIPOutputStream(stream, BUFFER_SIZE);
+		}
+
+	}
+
+}
@@ -0,0 +1,303 @@
+package fortran.ofp;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+/**
+ * Query selecting nodes by paths of tags, e.g. //loop//call or /ofp/file/subroutine[@name='main']//call.
+ *
+ * A query is a sequence of steps, each preceded by / (child) or // (descendant), and alternative queries are separated
+ * by |. A step is a tag or *, optionally followed by predicates [@attribute] or [@attribute='value']. Queries not
+ * starting with / are relative to any node, as if they started with //, and a leading . stands for the root node, so
+ * that paths used with ElementTree, e.g. .//loop//call, can be used as they are.
+ *
+ * The query is compiled into a nondeterministic automaton with one state per step, kept as one bit of a long (so at
+ * most 64 steps in total), and evaluated in a single pre-order pass: states of each node are computed from states of its
+ * parent by a few bitwise operations. Subtrees in which no state is active are skipped.
+ */
+public class PathQuery {
+
+	private static class Step {
+
+		String tag;
+
+		ArrayList<String> attributes = new ArrayList<String>();
+
+		/**
+		 * Required value of each attribute, or null if the attribute only has to be present.
+		 */
+		ArrayList<String> values = new ArrayList<String>();
+
+		boolean matches(Element node) {
+			for (int i = 0; i < attributes.size(); ++i) {
+				if (!node.hasAttribute(attributes.get(i)))
+					return false;
+				if (values.get(i) != null && !node.getAttribute(attributes.get(i)).equals(values.get(i)))
+					return false;
+			}
+			return true;
+		}
+
+	}
+
+	private ArrayList<Step> steps = new ArrayList<Step>();
+
+	/**
+	 * States active for the root node: first step of each alternative.
+	 */
+	private long startStates = 0;
+
+	/**
+	 * States which stay active for all descendants, i.e. of steps preceded by //.
+	 */
+	private long descendantStates = 0;
+
+	/**
+	 * States of last steps of alternatives, reaching which means a match.
+	 */
+	private long finalStates = 0;
+
+	/**
+	 * States of steps with predicates, which are checked only if the tag matches.
+	 */
+	private long predicateStates = 0;
+
+	private long wildcardStates = 0;
+
+	private HashMap<String, Long> tagStates = new HashMap<String, Long>();
+
+	private String text;
+
+	public PathQuery(String query) {
+		text = query;
+		for (String alternative : splitOutsideQuotes(query, '|'))
+			compile(alternative.trim());
+	}
+
+	private void compile(String path) {
+		if (path.startsWith("."))
+			path = "/*" + path.substring(1);
+		else if (!path.startsWith("/"))
+			path = "//" + path;
+		if (steps.size() == 64)
+			throw invalid("more than 64 steps");
+		startStates |= 1L << steps.size();
+		int index = 0;
+		while (index < path.length()) {
+			if (!path.startsWith("/", index))
+				throw invalid("expected / at position " + index + " of " + path);
+			boolean descendant = path.startsWith("//", index);
+			index += descendant ? 2 : 1;
+			int nameEnd = index;
+			while (nameEnd < path.length() && isNameChar(path.charAt(nameEnd)))
+				++nameEnd;
+			if (nameEnd == index)
+				throw invalid("expected tag or * at position " + index + " of " + path);
+			if (steps.size() == 64)
+				throw invalid("more than 64 steps");
+			Step step = new Step();
+			step.tag = path.substring(index, nameEnd);
+			index = nameEnd;
+			while (index < path.length() && path.charAt(index) == '[')
+				index = parsePredicate(path, index, step);
+			long state = 1L << steps.size();
+			if (descendant)
+				descendantStates |= state;
+			if (!step.attributes.isEmpty())
+				predicateStates |= state;
+			if (step.tag.equals("*"))
+				wildcardStates |= state;
+			else {
+				Long states = tagStates.get(step.tag);
+				tagStates.put(step.tag, (states == null ? 0 : states) | state);
+			}
+			steps.add(step);
+		}
+		finalStates |= 1L << (steps.size() - 1);
+	}
+
+	/**
+	 * Parse predicate starting at given index and add it to given step, returning index after the predicate.
+	 */
+	private int parsePredicate(String path, int index, Step step) {
+		int end = -1;
+		char quote = 0;
+		for (int i = index + 1; i < path.length() && end < 0; ++i) {
+			char c = path.charAt(i);
+			if (quote != 0) {
+				if (c == quote)
+					quote = 0;
+			} else if (c == '\'' || c == '"')
+				quote = c;
+			else if (c == ']')
+				end = i;
+		}
+		if (end < 0)
+			throw invalid("unterminated predicate at position " + index + " of " + path);
+		String predicate = path.substring(index + 1, end).trim();
+		if (!predicate.startsWith("@"))
+			throw invalid("only attribute predicates are supported, not [" + predicate + "]");
+		int equals = predicate.indexOf('=');
+		if (equals < 0) {
+			step.attributes.add(predicate.substring(1).trim());
+			step.values.add(null);
+			return end + 1;
+		}
+		String value = predicate.substring(equals + 1).trim();
+		if (value.length() < 2 || value.charAt(0) != value.charAt(value.length() - 1)
+				|| value.charAt(0) != '\'' && value.charAt(0) != '"')
+			throw invalid("value in [" + predicate + "] must be quoted");
+		step.attributes.add(predicate.substring(1, equals).trim());
+		step.values.add(value.substring(1, value.length() - 1));
+		return end + 1;
+	}
+
+	private static boolean isNameChar(char c) {
+		return Character.isLetterOrDigit(c) || c == '-' || c == '_' || c == '*';
+	}
+
+	private static ArrayList<String> splitOutsideQuotes(String text, char separator) {
+		ArrayList<String> parts = new ArrayList<String>();
+		int begin = 0;
+		char quote = 0;
+		for (int i = 0; i < text.length(); ++i) {
+			char c = text.charAt(i);
+			if (quote != 0) {
+				if (c == quote)
+					quote = 0;
+			} else if (c == '\'' || c == '"')
+				quote = c;
+			else if (c == separator) {
+				parts.add(text.substring(begin, i));
+				begin = i + 1;
+			}
+		}
+		parts.add(text.substring(begin));
+		return parts;
+	}
+
+	private IllegalArgumentException invalid(String reason) {
+		return new IllegalArgumentException("invalid query \"" + text + "\": " + reason);
+	}
+
+	/**
+	 * Return those of given states whose steps match given node.
+	 */
+	private long matchingStates(long states, Element node) {
+		Long tagMatches = tagStates.get(node.getTagName());
+		states &= wildcardStates | (tagMatches == null ? 0 : tagMatches);
+		long checked = states & predicateStates;
+		while (checked != 0) {
+			long state = Long.lowestOneBit(checked);
+			if (!steps.get(Long.numberOfTrailingZeros(state)).matches(node))
+				states &= ~state;
+			checked &= ~state;
+		}
+		return states;
+	}
+
+	/**
+	 * Return states active for subnodes of given node, given states active for the node.
+	 */
+	private long childStates(long states, long matchingStates) {
+		return (states & descendantStates) | ((matchingStates & ~finalStates) << 1);
+	}
+
+	/**
+	 * Return states active for given node, by evaluating the query along the path from the document root to it, or
+	 * null if one of its ancestors matches.
+	 */
+	private Long statesOf(Element node) {
+		ArrayList<Element> ancestors = new ArrayList<Element>();
+		for (Node ancestor = node.getParentNode(); ancestor != null
+				&& ancestor.getNodeType() == Node.ELEMENT_NODE; ancestor = ancestor.getParentNode())
+			ancestors.add((Element) ancestor);
+		long states = startStates;
+		for (int i = ancestors.size() - 1; i >= 0 && states != 0; --i) {
+			long matching = matchingStates(states, ancestors.get(i));
+			if ((matching & finalStates) != 0)
+				return null;
+			states = childStates(states, matching);
+		}
+		return states;
+	}
+
+	/**
+	 * Return the outermost nodes matching the query within given node (including the node itself), in document order.
+	 *
+	 * Nodes matching the query within matching nodes are not returned, as they are in subtrees of returned ones. If an
+	 * ancestor of the given node matches, the node itself is returned.
+	 */
+	public ArrayList<Element> select(Element context) {
+		ArrayList<Element> matches = new ArrayList<Element>();
+		Long initialStates = statesOf(context);
+		if (initialStates == null) {
+			// the whole subtree is selected
+			matches.add(context);
+			return matches;
+		}
+		long states = initialStates;
+		// states active for the current node and for each of its ancestors up to the context node
+		ArrayList<Long> stack = new ArrayList<Long>();
+		Element node = context;
+		while (true) {
+			long matching = matchingStates(states, node);
+			if ((matching & finalStates) != 0)
+				matches.add(node);
+			else {
+				long nextStates = childStates(states, matching);
+				Element child = nextStates == 0 ? null : TreeTraversal.firstChild(node);
+				if (child != null) {
+					stack.add(states);
+					states = nextStates;
+					node = child;
+					continue;
+				}
+			}
+			// the subtree of the node is done, move to the next one
+			while (true) {
+				if (node == context)
+					return matches;
+				Element sibling = TreeTraversal.nextSibling(node);
+				if (sibling != null) {
+					node = sibling;
+					break;
+				}
+				node = (Element) node.getParentNode();
+				states = stack.remove(stack.size() - 1);
+			}
+		}
+	}
+
+	/**
+	 * Replace contents of given <file> node by the outermost nodes matching the query within them.
+	 *
+	 * Contents are kept as they are if the <file> node itself or one of its ancestors matches.
+	 */
+	public void applyToNodes(Element file) {
+		ArrayList<Element> matches = select(file);
+		if (matches.size() == 1 && matches.get(0) == file)
+			return;
+		while (file.getFirstChild() != null)
+			file.removeChild(file.getFirstChild());
+		for (Element match : matches)
+			file.appendChild(match);
+	}
+
+	/**
+	 * Apply the query to each <file> node within given root node, see applyToNodes().
+	 */
+	public void apply(Element root) {
+		for (Element file = TreeTraversal.firstChild(root); file != null; file = TreeTraversal.nextSibling(file))
+			if (file.getTagName().equals("file"))
+				applyToNodes(file);
+	}
+
+	public String toString() {
+		return text;
+	}
+
+}
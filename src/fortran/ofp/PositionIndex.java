@@ -0,0 +1,317 @@
+package fortran.ofp;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+import fortran.ofp.parser.java.CodeBounds;
+
+/**
+ * Index of code bounds of all nodes within a context, for fast queries of nodes at given locations in the code.
+ *
+ * findContext() gives the same result as XMLPrinterBase.findContext() on the indexed context, in O(log N) time instead
+ * of O(N). findPosition() gives the same result as XMLPrinterBase.findPosition() in O(log K) time, where K is number
+ * of subnodes of the queried node, whenever the location is not within one of the subnodes.
+ *
+ * The index reflects bounds at the time it was built, so it should be built after bounds are propagated. When a node is
+ * added to the indexed context or its bounds are extended, update() must be called for that node. Other modifications
+ * of the tree, like removing or moving nodes, require building a new index.
+ */
+public class PositionIndex {
+
+	private static final int NONE = Integer.MAX_VALUE;
+
+	private Element context;
+
+	/**
+	 * Nodes that have code bounds, in post-order, i.e. in order in which XMLPrinterBase.findContext() checks them.
+	 */
+	private ArrayList<Element> nodes;
+
+	/**
+	 * Sorted distinct locations of beginnings and ends of bounds of the nodes.
+	 */
+	private long[] locations;
+
+	/**
+	 * Segment tree over the locations and the gaps between them (gap before the first location, first location, gap
+	 * after it, etc.), in which each tree node holds the lowest post-order rank among nodes whose bounds cover it.
+	 */
+	private int[] ranks;
+
+	private int leavesOffset;
+
+	/**
+	 * Nodes added or extended after the segment tree was built, with their current bounds.
+	 */
+	private IdentityHashMap<Element, long[]> updatedNodes = new IdentityHashMap<Element, long[]>();
+
+	/**
+	 * Bounds of subnodes of nodes queried by findPosition().
+	 */
+	private IdentityHashMap<Element, Subnodes> subnodes = new IdentityHashMap<Element, Subnodes>();
+
+	public PositionIndex(Element context) {
+		this.context = context;
+		build();
+	}
+
+	public Element getContext() {
+		return context;
+	}
+
+	/**
+	 * Encode location so that comparing encoded locations is the same as comparing lines first and columns second.
+	 */
+	static long location(int line, int col) {
+		return ((long) line << 32) + col;
+	}
+
+	/**
+	 * Return encoded beginning and end of code bounds of given node, or null if it has none.
+	 */
+	static long[] bounds(Element node) {
+		CodeBounds bounds = new CodeBounds(node);
+		if (bounds.begin == null || bounds.end == null)
+			return null;
+		return new long[] { location(bounds.begin.line, bounds.begin.col), location(bounds.end.line, bounds.end.col) };
+	}
+
+	private void build() {
+		nodes = new ArrayList<Element>();
+		ArrayList<long[]> nodesBounds = new ArrayList<long[]>();
+		for (Element node = TreeTraversal.firstInPostOrder(context); node != null; node = TreeTraversal
+				.nextInPostOrder(context, node)) {
+			long[] bounds = bounds(node);
+			if (bounds == null || bounds[0] > bounds[1])
+				continue; // such node does not contain any location
+			nodes.add(node);
+			nodesBounds.add(bounds);
+		}
+		long[] allLocations = new long[2 * nodes.size()];
+		for (int i = 0; i < nodes.size(); i++) {
+			allLocations[2 * i] = nodesBounds.get(i)[0];
+			allLocations[2 * i + 1] = nodesBounds.get(i)[1];
+		}
+		Arrays.sort(allLocations);
+		int count = 0;
+		for (int i = 0; i < allLocations.length; i++)
+			if (count == 0 || allLocations[i] != allLocations[count - 1])
+				allLocations[count++] = allLocations[i];
+		locations = Arrays.copyOf(allLocations, count);
+
+		leavesOffset = 1;
+		while (leavesOffset < 2 * locations.length + 1)
+			leavesOffset <<= 1;
+		ranks = new int[2 * leavesOffset];
+		Arrays.fill(ranks, NONE);
+		for (int rank = 0; rank < nodes.size(); rank++) {
+			long[] bounds = nodesBounds.get(rank);
+			int from = leavesOffset + 2 * Arrays.binarySearch(locations, bounds[0]) + 1;
+			int to = leavesOffset + 2 * Arrays.binarySearch(locations, bounds[1]) + 2;
+			for (; from < to; from >>= 1, to >>= 1) {
+				if ((from & 1) == 1)
+					cover(from++, rank);
+				if ((to & 1) == 1)
+					cover(--to, rank);
+			}
+		}
+		updatedNodes.clear();
+	}
+
+	/**
+	 * Nodes are covered in order of their ranks, so each tree node keeps the first rank it gets.
+	 */
+	private void cover(int treeNode, int rank) {
+		if (ranks[treeNode] == NONE)
+			ranks[treeNode] = rank;
+	}
+
+	/**
+	 * Return the innermost node within the indexed context that contains given location, or null if there is none.
+	 *
+	 * Among multiple such nodes (e.g. ones with equal bounds), the first in post-order is returned.
+	 */
+	public Element findContext(int line, int col) {
+		long location = location(line, col);
+		Element found = null;
+		if (locations.length > 0) {
+			int index = Arrays.binarySearch(locations, location);
+			int rank = NONE;
+			for (int i = leavesOffset + (index >= 0 ? 2 * index + 1 : -2 * (index + 1)); i > 0; i >>= 1)
+				rank = Math.min(rank, ranks[i]);
+			if (rank != NONE)
+				found = nodes.get(rank);
+		}
+		for (Map.Entry<Element, long[]> entry : updatedNodes.entrySet()) {
+			long[] bounds = entry.getValue();
+			if (location < bounds[0] || location > bounds[1])
+				continue;
+			if (found == null || precedesInPostOrder(entry.getKey(), found))
+				found = entry.getKey();
+		}
+		return found;
+	}
+
+	private static boolean precedesInPostOrder(Node node, Node other) {
+		if (node == other)
+			return false;
+		int position = node.compareDocumentPosition(other);
+		if ((position & Node.DOCUMENT_POSITION_CONTAINS) != 0)
+			return true;
+		if ((position & Node.DOCUMENT_POSITION_CONTAINED_BY) != 0)
+			return false;
+		return (position & Node.DOCUMENT_POSITION_FOLLOWING) != 0;
+	}
+
+	/**
+	 * Return index among subnodes of a given node at which a node located at given location should be inserted, or -1
+	 * if the location is within bounds of one of the subnodes.
+	 *
+	 * The node must be within the indexed context.
+	 */
+	public int findPosition(Element node, int line, int col) {
+		Subnodes nodeSubnodes = subnodes.get(node);
+		if (nodeSubnodes == null) {
+			nodeSubnodes = new Subnodes(node);
+			subnodes.put(node, nodeSubnodes);
+		}
+		return nodeSubnodes.findPosition(location(line, col));
+	}
+
+	/**
+	 * Take into account that given node was added to the indexed context, or that its bounds were extended.
+	 *
+	 * Only the node itself is indexed anew, not its subnodes, and it must be called after each added node.
+	 */
+	public void update(Element node) {
+		long[] bounds = bounds(node);
+		if (bounds == null)
+			return;
+		updatedNodes.put(node, bounds);
+		Subnodes siblings = subnodes.get(node.getParentNode());
+		if (siblings != null)
+			siblings.update(node, bounds);
+		// checking updated nodes one by one becomes slower than rebuilding the index at some point
+		if (updatedNodes.size() > 16 + Math.sqrt(nodes.size()))
+			build();
+	}
+
+	/**
+	 * Subnodes of one node that have code bounds, in document order, with their bounds and indices among all subnodes.
+	 */
+	private static class Subnodes {
+
+		private Element parent;
+
+		private Element[] nodes = new Element[4];
+
+		private long[] begins = new long[4];
+
+		private long[] ends = new long[4];
+
+		private int[] indices = new int[4];
+
+		private int size = 0;
+
+		private int allCount = 0;
+
+		/**
+		 * True if bounds of the subnodes do not overlap and are in the same order as the subnodes.
+		 */
+		private boolean isOrdered = true;
+
+		public Subnodes(Element parent) {
+			this.parent = parent;
+			for (Element node = TreeTraversal.firstChild(parent); node != null; node = TreeTraversal
+					.nextSibling(node)) {
+				long[] bounds = bounds(node);
+				if (bounds != null)
+					insert(size, node, bounds, allCount);
+				++allCount;
+			}
+		}
+
+		private boolean isOrderedAt(int position) {
+			return position <= 0 || position >= size || ends[position - 1] < begins[position];
+		}
+
+		private void insert(int position, Element node, long[] bounds, int index) {
+			if (size == nodes.length) {
+				nodes = Arrays.copyOf(nodes, 2 * size);
+				begins = Arrays.copyOf(begins, 2 * size);
+				ends = Arrays.copyOf(ends, 2 * size);
+				indices = Arrays.copyOf(indices, 2 * size);
+			}
+			System.arraycopy(nodes, position, nodes, position + 1, size - position);
+			System.arraycopy(begins, position, begins, position + 1, size - position);
+			System.arraycopy(ends, position, ends, position + 1, size - position);
+			System.arraycopy(indices, position, indices, position + 1, size - position);
+			nodes[position] = node;
+			begins[position] = bounds[0];
+			ends[position] = bounds[1];
+			indices[position] = index;
+			++size;
+			isOrdered = isOrdered && bounds[0] <= bounds[1] && isOrderedAt(position) && isOrderedAt(position + 1);
+		}
+
+		public void update(Element node, long[] bounds) {
+			int index = -1;
+			int count = 0;
+			for (Node sibling = TreeTraversal.firstChild(parent); sibling != null; sibling = TreeTraversal
+					.nextSibling(sibling)) {
+				if (sibling == node)
+					index = count;
+				++count;
+			}
+			int position = Arrays.binarySearch(indices, 0, size, index);
+			if (position >= 0 && nodes[position] == node) {
+				begins[position] = bounds[0];
+				ends[position] = bounds[1];
+				isOrdered = isOrdered && bounds[0] <= bounds[1] && isOrderedAt(position) && isOrderedAt(position + 1);
+				return;
+			}
+			position = position >= 0 ? position : -position - 1;
+			if (count > allCount) {
+				// node was added, so all subnodes after it are shifted
+				for (int i = position; i < size; i++)
+					++indices[i];
+				allCount = count;
+			}
+			insert(position, node, bounds, index);
+		}
+
+		public int findPosition(long location) {
+			int position;
+			if (isOrdered) {
+				// first subnode that begins after the location
+				int low = 0;
+				int high = size;
+				while (low < high) {
+					int middle = (low + high) >>> 1;
+					if (begins[middle] > location)
+						high = middle;
+					else
+						low = middle + 1;
+				}
+				position = low;
+				if (position > 0 && ends[position - 1] >= location)
+					return -1;
+			} else {
+				for (position = 0; position < size; position++) {
+					if (location < begins[position])
+						break;
+					if (location <= ends[position])
+						return -1;
+				}
+			}
+			return position < size ? indices[position] : allCount;
+		}
+
+	}
+
+}
@@ -0,0 +1,146 @@
+package fortran.ofp;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Recorder of wall time, CPU time and allocated bytes of the current thread, per named phase.
+ *
+ * Phases can be nested, and then the time and memory spent in inner phases is not counted in the outer phase. Work done
+ * by other threads (e.g. parallel lexing) is counted only as wall time.
+ */
+public class Profiler {
+
+	public static class Phase {
+
+		public long count = 0;
+		public long wallNanos = 0;
+		public long cpuNanos = 0;
+		public long allocatedBytes = 0;
+
+		void add(long[] usage) {
+			++count;
+			wallNanos += usage[0];
+			cpuNanos += usage[1];
+			allocatedBytes += usage[2];
+		}
+
+	}
+
+	private static class Frame {
+
+		String name;
+		long[] begin;
+		long[] nested = new long[3];
+
+		Frame(String name, long[] begin) {
+			this.name = name;
+			this.begin = begin;
+		}
+
+	}
+
+	private boolean enabled;
+
+	private ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+	private LinkedHashMap<String, Phase> phases = new LinkedHashMap<String, Phase>();
+
+	private ArrayList<Frame> stack = new ArrayList<Frame>();
+
+	public Profiler(boolean enabled) {
+		this.enabled = enabled;
+		if (enabled && threads.isThreadCpuTimeSupported() && !threads.isThreadCpuTimeEnabled())
+			threads.setThreadCpuTimeEnabled(true);
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public Map<String, Phase> getPhases() {
+		return phases;
+	}
+
+	/**
+	 * Return current wall time, CPU time of current thread and bytes allocated by it so far.
+	 *
+	 * CPU time and allocated bytes are -1 if not supported by the JVM, and then they are recorded as 0.
+	 */
+	public long[] sample() {
+		long cpu = threads.isThreadCpuTimeSupported() ? threads.getCurrentThreadCpuTime() : -1;
+		long allocated = -1;
+		if (threads instanceof com.sun.management.ThreadMXBean)
+			allocated = ((com.sun.management.ThreadMXBean) threads)
+					.getThreadAllocatedBytes(Thread.currentThread().getId());
+		return new long[] { System.nanoTime(), cpu, allocated };
+	}
+
+	public void begin(String name) {
+		if (enabled)
+			stack.add(new Frame(name, sample()));
+	}
+
+	/**
+	 * End the innermost phase with given name. Phases nested in it that were not ended (e.g. due to an error) are
+	 * discarded.
+	 */
+	public void end(String name) {
+		if (!enabled)
+			return;
+		long[] end = sample();
+		int index = stack.size() - 1;
+		while (index >= 0 && !stack.get(index).name.equals(name))
+			--index;
+		if (index < 0)
+			return;
+		while (stack.size() > index + 1)
+			stack.remove(stack.size() - 1);
+		Frame frame = stack.remove(index);
+		long[] usage = new long[3];
+		for (int i = 0; i < usage.length; i++)
+			usage[i] = end[i] - frame.begin[i];
+		if (!stack.isEmpty()) {
+			long[] outerNested = stack.get(stack.size() - 1).nested;
+			for (int i = 0; i < usage.length; i++)
+				outerNested[i] += usage[i];
+		}
+		for (int i = 0; i < usage.length; i++)
+			usage[i] -= frame.nested[i];
+		record(name, usage);
+	}
+
+	/**
+	 * Record usage measured elsewhere: wall nanoseconds, CPU nanoseconds and allocated bytes.
+	 */
+	public void record(String name, long[] usage) {
+		if (!enabled)
+			return;
+		Phase phase = phases.get(name);
+		if (phase == null) {
+			phase = new Phase();
+			phases.put(name, phase);
+		}
+		phase.add(usage);
+	}
+
+	public void write(Writer writer, String path) throws IOException {
+		writer.write("{\n  \"file\": \"" + path.replace("\\", "\\\\").replace("\"", "\\\"") + "\",\n");
+		writer.write("  \"phases\": {");
+		boolean first = true;
+		for (Map.Entry<String, Phase> entry : phases.entrySet()) {
+			Phase phase = entry.getValue();
+			writer.write(first ? "\n" : ",\n");
+			writer.write("    \"" + entry.getKey() + "\": {\"count\": " + phase.count + ", \"wall_ns\": " + phase.wallNanos
+					+ ", \"cpu_ns\": " + phase.cpuNanos + ", \"allocated_bytes\": " + phase.allocatedBytes + "}");
+			first = false;
+		}
+		writer.write("\n  }\n}\n");
+	}
+
+}
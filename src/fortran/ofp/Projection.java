@@ -0,0 +1,142 @@
+package fortran.ofp;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+
+import org.apache.commons.cli.CommandLine;
+import org.w3c.dom.Attr;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+
+/**
+ * Selection of node kinds and attributes that are emitted.
+ *
+ * If any tags to keep are given, nodes of other kinds are replaced by their (projected) children, so that e.g. keeping
+ * subroutine, call and name results in calls nested directly in subroutines. Pruned nodes are removed together with
+ * their subtrees, and dropped attributes are removed from all nodes. The <ofp> and <file> nodes are always kept.
+ */
+public class Projection {
+
+	static final HashSet<String> STRUCTURAL_TAGS = new HashSet<String>(Arrays.asList(new String[] { "ofp", "file" }));
+
+	private HashSet<String> keptTags = new HashSet<String>();
+
+	private HashSet<String> prunedTags = new HashSet<String>();
+
+	private HashSet<String> droppedAttributes = new HashSet<String>();
+
+	public Projection(String keptTags, String prunedTags, String droppedAttributes) {
+		addAll(this.keptTags, keptTags);
+		addAll(this.prunedTags, prunedTags);
+		addAll(this.droppedAttributes, droppedAttributes);
+	}
+
+	public Projection(CommandLine cmd) {
+		this(cmd.getOptionValue("keep"), cmd.getOptionValue("prune"), cmd.getOptionValue("drop-attributes"));
+	}
+
+	private static void addAll(HashSet<String> set, String commaSeparated) {
+		if (commaSeparated == null)
+			return;
+		for (String item : commaSeparated.split(","))
+			if (item.trim().length() > 0)
+				set.add(item.trim());
+	}
+
+	public boolean isEmpty() {
+		return keptTags.isEmpty() && prunedTags.isEmpty() && droppedAttributes.isEmpty();
+	}
+
+	public boolean hasPrunedTags() {
+		return !prunedTags.isEmpty();
+	}
+
+	/**
+	 * Remove all pruned subnodes of given node, together with their subtrees. The node itself is kept.
+	 *
+	 * Unlike applyToNodes(), it does not touch the remaining nodes, so it can be used on a complete subtree while the
+	 * rest of the tree is still being built.
+	 */
+	public void prune(Element node) {
+		Element element = TreeTraversal.nextInPreOrder(node, node);
+		while (element != null) {
+			if (!prunedTags.contains(element.getTagName())) {
+				element = TreeTraversal.nextInPreOrder(node, element);
+				continue;
+			}
+			// continue after the subtree of the pruned element
+			Element pruned = element;
+			element = null;
+			for (Element ancestor = pruned; ancestor != node && element == null; ancestor = (Element) ancestor
+					.getParentNode())
+				element = TreeTraversal.nextSibling(ancestor);
+			pruned.getParentNode().removeChild(pruned);
+		}
+	}
+
+	/**
+	 * Apply the projection to given node and its whole subtree. The node itself is kept.
+	 */
+	public void apply(Element node) {
+		dropAttributes(node);
+		applyToNodes(node);
+	}
+
+	/**
+	 * Apply the projection to all subnodes of given node, but not to the node itself.
+	 *
+	 * The subtree is traversed iteratively: pruning and dropping of attributes is done when a node is entered, and
+	 * replacing of a node that is not kept by its children when it is left, i.e. after its children are projected.
+	 */
+	public void applyToNodes(Element node) {
+		Element parent = node;
+		Node child = node.getFirstChild();
+		while (true) {
+			if (child == null) {
+				// all children of the parent are projected
+				if (parent == node)
+					return;
+				Element element = parent;
+				parent = (Element) element.getParentNode();
+				child = element.getNextSibling();
+				String tag = element.getTagName();
+				if (!keptTags.isEmpty() && !keptTags.contains(tag) && !STRUCTURAL_TAGS.contains(tag)) {
+					while (element.getFirstChild() != null)
+						parent.insertBefore(element.getFirstChild(), element);
+					parent.removeChild(element);
+				}
+				continue;
+			}
+			if (child.getNodeType() != Node.ELEMENT_NODE) {
+				child = child.getNextSibling();
+				continue;
+			}
+			Element element = (Element) child;
+			if (prunedTags.contains(element.getTagName())) {
+				child = element.getNextSibling();
+				parent.removeChild(element);
+				continue;
+			}
+			dropAttributes(element);
+			parent = element;
+			child = element.getFirstChild();
+		}
+	}
+
+	public void dropAttributes(Element node) {
+		if (droppedAttributes.isEmpty())
+			return;
+		ArrayList<String> names = new ArrayList<String>();
+		NamedNodeMap attributes = node.getAttributes();
+		for (int i = 0; i < attributes.getLength(); i++) {
+			String name = ((Attr) attributes.item(i)).getName();
+			if (droppedAttributes.contains(name))
+				names.add(name);
+		}
+		for (String name : names)
+			node.removeAttribute(name);
+	}
+
+}
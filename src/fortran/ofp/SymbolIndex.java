@@ -0,0 +1,65 @@
+package fortran.ofp;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+/**
+ * Index of symbols defined, used, called and declared in the parsed file, written as a side output of the AST.
+ *
+ * Each symbol is written as one line of tab-separated fields: name, kind, scope, path and line. Kind is subroutine,
+ * function or module for definitions of program units, use for used modules, call for called subroutines, and variable
+ * for declared entities. Scope is the name of the innermost enclosing program unit (empty at the top level), and path
+ * is the path of the file in which the symbol is, which differs from the parsed file for included files. Names are in
+ * lowercase, as Fortran is case-insensitive, and tabs and line breaks in paths are replaced by spaces.
+ *
+ * Symbols are written in order of occurrence. The open_fortran_parser.symbol_index Python module merges such indexes of
+ * many files into a sorted project index.
+ */
+public class SymbolIndex {
+
+	/**
+	 * Symbols are collected here, as the index is small compared to the AST.
+	 */
+	private StringBuilder buffer = new StringBuilder();
+
+	private int count = 0;
+
+	/**
+	 * Add a symbol with given kind, name and line, located in given node of the AST.
+	 *
+	 * Scope and path are found among ancestors of the node (and the node itself). Symbols within interface blocks are
+	 * not added, as they are neither definitions nor calls.
+	 */
+	public void add(String kind, String name, Node location, int line) {
+		String scope = null;
+		String path = null;
+		for (Node node = location; node != null && node.getNodeType() == Node.ELEMENT_NODE; node = node
+				.getParentNode()) {
+			Element element = (Element) node;
+			String tag = element.getTagName();
+			if (tag.equals("interface"))
+				return;
+			if (scope == null && XMLPrinterBase.programUnitTags.contains(tag))
+				scope = element.getAttribute("name");
+			if (path == null && tag.equals("file"))
+				path = element.getAttribute("path");
+		}
+		buffer.append(name.toLowerCase()).append('\t').append(kind).append('\t');
+		buffer.append(scope == null ? "" : scope.toLowerCase()).append('\t');
+		buffer.append(path == null ? "" : path.replace('\t', ' ').replace('\n', ' ').replace('\r', ' ')).append('\t');
+		buffer.append(line).append('\n');
+		++count;
+	}
+
+	public int size() {
+		return count;
+	}
+
+	public void write(Writer writer) throws IOException {
+		writer.append(buffer);
+	}
+
+}
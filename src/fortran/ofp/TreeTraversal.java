@@ -0,0 +1,75 @@
+package fortran.ofp;
+
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+/**
+ * Iterative traversal of element subtrees.
+ *
+ * Navigation uses only the parent and sibling links of the DOM, so that whole-tree traversals need neither recursion
+ * nor explicit stacks, and work on trees of any depth without risking a StackOverflowError. Nodes other than elements
+ * are skipped.
+ */
+public final class TreeTraversal {
+
+	private TreeTraversal() {
+	}
+
+	/**
+	 * Return given node if it is an element, otherwise its first following sibling which is an element, or null.
+	 */
+	public static Element firstElement(Node node) {
+		while (node != null && node.getNodeType() != Node.ELEMENT_NODE)
+			node = node.getNextSibling();
+		return (Element) node;
+	}
+
+	public static Element firstChild(Node node) {
+		return firstElement(node.getFirstChild());
+	}
+
+	public static Element nextSibling(Node node) {
+		return firstElement(node.getNextSibling());
+	}
+
+	/**
+	 * Return the element that follows given one in pre-order within the subtree of given root, or null if it is the
+	 * last one. The first element in pre-order is the root itself.
+	 */
+	public static Element nextInPreOrder(Element root, Element node) {
+		Element child = firstChild(node);
+		if (child != null)
+			return child;
+		while (node != root) {
+			Element sibling = nextSibling(node);
+			if (sibling != null)
+				return sibling;
+			node = (Element) node.getParentNode();
+		}
+		return null;
+	}
+
+	/**
+	 * Return the first element of the subtree of given root in post-order, i.e. its leftmost leaf.
+	 */
+	public static Element firstInPostOrder(Element root) {
+		Element node = root;
+		for (Element child = firstChild(node); child != null; child = firstChild(node))
+			node = child;
+		return node;
+	}
+
+	/**
+	 * Return the element that follows given one in post-order within the subtree of given root, or null if it is the
+	 * root.
+	 */
+	public static Element nextInPostOrder(Element root, Element node) {
+		if (node == root)
+			return null;
+		Element sibling = nextSibling(node);
+		if (sibling != null)
+			return firstInPostOrder(sibling);
+		return (Element) node.getParentNode();
+	}
+
+}
@@ -2,10 +2,13 @@ package fortran.ofp;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
 
 import org.antlr.runtime.Token;
 import org.w3c.dom.Attr;
 import org.w3c.dom.Element;
+import org.w3c.dom.Node;
 
 import fortran.ofp.parser.java.IActionEnums;
 import fortran.ofp.parser.java.IFortranParser;
@@ -17,27 +20,56 @@ import fortran.ofp.parser.java.IFortranParser;
  */
 public class XMLPrinter extends XMLPrinterBase {
 
+	/**
+	 * Open <loop> contexts of DO constructs, innermost last.
+	 *
+	 * Loops are added in do_stmt() and removed when they are closed, so that label() finds the loop terminated by
+	 * a label without walking up the context hierarchy.
+	 */
+	private ArrayList<Element> openLoops = new ArrayList<Element>();
+
+	/**
+	 * Those of open loops which have a label attribute, by the label, innermost last.
+	 */
+	private HashMap<String, ArrayList<Element>> labeledLoops = new HashMap<String, ArrayList<Element>>();
+
 	public XMLPrinter(String[] args, IFortranParser parser, String filename) {
 		super(args, parser, filename);
 	}
 
-	protected void genericOperationForceOpen(int nodesCount) {
-		ArrayList<Element> nodes = contextNodes(-nodesCount, nodesCount);
-		contextOpen("operation");
-		if (nodesCount == 2)
-			setAttribute("type", "unary");
-		else if (nodesCount > 2)
-			setAttribute("type", "multiary");
-		else
-			cleanUpAfterError("didn't expect nodesCount=" + nodesCount);
+	/**
+	 * Create an <operation> node of given type, with given nodes as its operands and operators.
+	 *
+	 * Nodes which are neither operands nor operators are wrapped in <operand> nodes. The operation is not attached to
+	 * any context yet, so that it can be attached once in its final position, and each given node is moved only once.
+	 */
+	protected Element createOperation(String type, List<Element> nodes) {
+		Element operation = doc.createElement("operation");
+		operation.setAttribute("type", type);
 		for (Element node : nodes) {
-			boolean needsTransform = !node.getTagName().equals("operand") && !node.getTagName().equals("operator");
-			if (needsTransform)
-				contextOpen("operand");
-			moveHere(node);
-			if (needsTransform)
-				contextClose();
+			Element parent = operation;
+			if (!node.getTagName().equals("operand") && !node.getTagName().equals("operator")) {
+				parent = doc.createElement("operand");
+				operation.appendChild(parent);
+			}
+			parent.appendChild(node);
 		}
+		return operation;
+	}
+
+	/**
+	 * Open a new <operation> context in place of given nodes, which are the last nodes of the current context.
+	 */
+	protected void genericOperationForceOpen(List<Element> nodes) {
+		if (nodes.size() < 2)
+			cleanUpAfterError("didn't expect nodesCount=" + nodes.size());
+		Element operation = createOperation(nodes.size() == 2 ? "unary" : "multiary", nodes);
+		context.appendChild(operation);
+		context = operation;
+	}
+
+	protected void genericOperationForceOpen(int nodesCount) {
+		genericOperationForceOpen(contextLastNodes(context, nodesCount));
 	}
 
 	protected void genericOperationOpen(int numberOfOperators) {
@@ -55,8 +87,8 @@ public class XMLPrinter extends XMLPrinterBase {
 	protected void genericLoopControl(boolean hasStep) {
 		String[] contexts = { "lower-bound", "upper-bound", "step" };
 		int takenNodesCount = hasStep ? 3 : 2;
-		ArrayList<Element> takenNodes = contextNodes(-takenNodesCount, takenNodesCount);
-		context = contextNode(-takenNodesCount - 1);
+		ArrayList<Element> takenNodes = contextLastNodes(context, takenNodesCount + 1);
+		context = takenNodes.remove(0);
 		for (int i = 0; i < takenNodes.size(); ++i) {
 			contextOpen(contexts[i]);
 			moveHere(takenNodes.get(i));
@@ -170,14 +202,12 @@ public class XMLPrinter extends XMLPrinterBase {
 
 	public void label(Token lbl) {
 		boolean closedLoop = false;
-		Element outerContext = context;
-		while (outerContext != root) {
-			if (outerContext.getTagName().equals("loop") && outerContext.getAttribute("label").equals(lbl.getText())) {
-				context = outerContext;
-				closedLoop = true;
-				break;
-			}
-			outerContext = (Element) outerContext.getParentNode();
+		ArrayList<Element> loops = labeledLoops.get(lbl.getText());
+		if (loops != null) {
+			context = loops.get(loops.size() - 1);
+			// loops within the labeled one are no longer open
+			closeLoops(context, false);
+			closedLoop = true;
 		}
 		super.label(lbl);
 		if (closedLoop)
@@ -189,7 +219,8 @@ public class XMLPrinter extends XMLPrinterBase {
 		contextOpen("type-attribute");
 		if (hasExpr)
 			moveHere(value);
-		super.type_param_value(hasExpr, hasAsterisk, hasColon);
+		if (verbosity >= 80)
+			super.type_param_value(hasExpr, hasAsterisk, hasColon);
 		contextClose();
 	}
 
@@ -211,7 +242,8 @@ public class XMLPrinter extends XMLPrinterBase {
 			contextOpen("kind");
 			setAttribute("value", token2);
 		}
-		super.kind_selector(token1, token2, hasExpression);
+		if (verbosity >= 80)
+			super.kind_selector(token1, token2, hasExpression);
 		contextClose();
 	}
 
@@ -296,7 +328,8 @@ public class XMLPrinter extends XMLPrinterBase {
 			moveHere(contextNodes(value));
 			context.removeChild(value);
 		}
-		super.char_length(hasTypeParamValue);
+		if (verbosity >= 80)
+			super.char_length(hasTypeParamValue);
 		contextClose();
 	}
 
@@ -392,7 +425,8 @@ public class XMLPrinter extends XMLPrinterBase {
 		contextOpen("header");
 		moveHere(element);
 		// contextClose("index-variable");
-		super.ac_implied_do_control(hasStride);
+		if (verbosity >= 80)
+			super.ac_implied_do_control(hasStride);
 		contextClose();
 	}
 
@@ -437,7 +471,8 @@ public class XMLPrinter extends XMLPrinterBase {
 			}
 			moveHere(declaration);
 		}
-		super.declaration_type_spec(udtKeyword, type);
+		if (verbosity >= 80)
+			super.declaration_type_spec(udtKeyword, type);
 		contextClose();
 	}
 
@@ -510,6 +545,8 @@ public class XMLPrinter extends XMLPrinterBase {
 		contextCloseAllInner("variable");
 		super.entity_decl(id, hasArraySpec, hasCoarraySpec, hasCharLength, hasInitialization);
 		setAttribute("name", id);
+		if (symbols != null)
+			symbols.add("variable", id.getText(), context, id.getLine());
 		setAttribute("hasInitialValue", hasInitialization);
 		contextClose();
 		contextOpen("variable");
@@ -535,7 +572,8 @@ public class XMLPrinter extends XMLPrinterBase {
 		Element initialValue = contextNode(-1);
 		contextOpen("initial-value");
 		moveHere(initialValue);
-		super.initialization(hasExpr, hasNullInit);
+		if (verbosity >= 80)
+			super.initialization(hasExpr, hasNullInit);
 		contextClose();
 	}
 
@@ -614,7 +652,8 @@ public class XMLPrinter extends XMLPrinterBase {
 		default:
 			throw new IllegalArgumentException(Integer.toString(type));
 		}
-		super.array_spec_element(type);
+		if (verbosity >= 80)
+			super.array_spec_element(type);
 		contextClose();
 	}
 
@@ -746,7 +785,8 @@ public class XMLPrinter extends XMLPrinterBase {
 			setAttribute("type", "dimension");
 		}
 		*/
-		super.dimension_decl(id);
+		if (verbosity >= 80)
+			super.dimension_decl(id);
 		contextClose("variable");
 	}
 
@@ -1073,10 +1113,11 @@ public class XMLPrinter extends XMLPrinterBase {
 			cleanUpAfterError("didn't expect hasAllocOptList=" + hasAllocOptList);
 		*/
 		int movedCount = 1 + (hasAllocOptList ? 1 : 0);
-		ArrayList<Element> elements = contextNodes(-movedCount, movedCount);
+		ArrayList<Element> elements = contextLastNodes(context, movedCount);
 		contextOpen("allocate");
 		moveHere(elements);
-		super.allocate_stmt(label, allocateKeyword, eos, hasTypeSpec, hasAllocOptList);
+		if (verbosity >= 80)
+			super.allocate_stmt(label, allocateKeyword, eos, hasTypeSpec, hasAllocOptList);
 		contextClose();
 	}
 
@@ -1166,7 +1207,8 @@ public class XMLPrinter extends XMLPrinterBase {
 		if (hasDeallocOptList)
 			moveHere(element2);
 		moveHere(element);
-		super.deallocate_stmt(label, deallocateKeyword, eos, hasDeallocOptList);
+		if (verbosity >= 80)
+			super.deallocate_stmt(label, deallocateKeyword, eos, hasDeallocOptList);
 		contextClose();
 	}
 
@@ -1235,7 +1277,7 @@ public class XMLPrinter extends XMLPrinterBase {
 	}
 
 	public void mult_operand__mult_op(Token multOp) {
-		Element element = contextNode(-1);
+		Element element = contextLastNodes(context, 1).get(0);
 		contextOpen("operand");
 		moveHere(element);
 		if (verbosity >= 100)
@@ -1261,7 +1303,7 @@ public class XMLPrinter extends XMLPrinterBase {
 
 	public void add_operand__add_op(Token addOp) {
 		// same as mult_operand__mult_op()
-		Element element = contextNode(-1);
+		Element element = contextLastNodes(context, 1).get(0);
 		contextOpen("operand");
 		moveHere(element);
 		if (verbosity >= 100)
@@ -1329,24 +1371,12 @@ public class XMLPrinter extends XMLPrinterBase {
 			if (numAndOps == 0)
 				genericOperationForceOpen(2);
 			else {
-				int nodesCount = 2 * numAndOps + 2;
-				ArrayList<Element> nodes = contextNodes(-nodesCount, 2);
-				Element reference = contextNode(-nodesCount + 2);
-				Element operation = contextOpen("operation");
-				setAttribute("type", "unary");
-				for (Element node : nodes) {
-					boolean needsTransform = !node.getTagName().equals("operand")
-							&& !node.getTagName().equals("operator");
-					if (needsTransform)
-						contextOpen("operand");
-					moveHere(node);
-					if (needsTransform)
-						contextClose();
-				}
-				contextClose();
-				context.removeChild(operation);
-				context.insertBefore(operation, reference);
-				genericOperationOpen(numAndOps);
+				// the unary operation becomes the first operand of the multiary one, without being attached on its own
+				ArrayList<Element> nodes = contextLastNodes(context, 2 * numAndOps + 2);
+				ArrayList<Element> operands = new ArrayList<Element>();
+				operands.add(createOperation("unary", nodes.subList(0, 2)));
+				operands.addAll(nodes.subList(2, nodes.size()));
+				genericOperationForceOpen(operands);
 				// cleanUpAfterError("didn't expect hasNotOp=" + hasNotOp + " numAndOps=" + numAndOps);
 			}
 		else
@@ -1366,7 +1396,7 @@ public class XMLPrinter extends XMLPrinterBase {
 			// cleanUpAfterError("didn't expect hasNotOp=" + hasNotOp);
 		}
 		// same as mult_operand__mult_op()
-		Element element = contextNode(-1);
+		Element element = contextLastNodes(context, 1).get(0);
 		contextOpen("operand");
 		moveHere(element);
 		if (verbosity >= 100)
@@ -1390,7 +1420,7 @@ public class XMLPrinter extends XMLPrinterBase {
 
 	public void equiv_operand__equiv_op(Token equivOp) {
 		// same as mult_operand__mult_op()
-		Element element = contextNode(-1);
+		Element element = contextLastNodes(context, 1).get(0);
 		contextOpen("operand");
 		moveHere(element);
 		if (verbosity >= 100)
@@ -1431,11 +1461,11 @@ public class XMLPrinter extends XMLPrinterBase {
 	}
 
 	public void assignment_stmt(Token label, Token eos) {
-		ArrayList<Element> nodes = contextNodes();
-		if (nodes.size() < 2)
-			cleanUpAfterError("there should be at least 2 nodes for 'assignment' but " + nodes.size() + " found");
-		Element target = contextNode(-2);
-		Element value = contextNode(-1);
+		Node lastChild = context.getLastChild();
+		if (lastChild == null || lastChild.getPreviousSibling() == null)
+			cleanUpAfterError("there should be at least 2 nodes for 'assignment' but " + contextNodesCount() + " found");
+		Element target = (Element) lastChild.getPreviousSibling();
+		Element value = (Element) lastChild;
 		contextOpen("assignment");
 		contextOpen("target");
 		moveHere(target);
@@ -1460,7 +1490,8 @@ public class XMLPrinter extends XMLPrinterBase {
 		contextOpen("value");
 		moveHere(value);
 		contextClose();
-		super.pointer_assignment_stmt(label, eos, hasBoundsSpecList, hasBoundsRemappingList);
+		if (verbosity >= 80)
+			super.pointer_assignment_stmt(label, eos, hasBoundsSpecList, hasBoundsRemappingList);
 		contextClose();
 	}
 
@@ -1787,12 +1818,34 @@ public class XMLPrinter extends XMLPrinterBase {
 
 	public void do_construct() {
 		contextCloseAllInner("loop");
+		if (openLoops.lastIndexOf(context) >= 0)
+			closeLoops(context, true);
 		if (verbosity >= 100)
 			super.do_construct();
 		contextClose();
 		contextOpen("statement");
 	}
 
+	/**
+	 * Remove loops opened after given open loop (and the loop itself if inclusive) from open loops.
+	 */
+	private void closeLoops(Element loop, boolean inclusive) {
+		while (!openLoops.isEmpty()) {
+			Element last = openLoops.get(openLoops.size() - 1);
+			if (last == loop && !inclusive)
+				break;
+			openLoops.remove(openLoops.size() - 1);
+			if (last.hasAttribute("label")) {
+				ArrayList<Element> loops = labeledLoops.get(last.getAttribute("label"));
+				loops.remove(loops.size() - 1);
+				if (loops.isEmpty())
+					labeledLoops.remove(last.getAttribute("label"));
+			}
+			if (last == loop)
+				break;
+		}
+	}
+
 	public void block_do_construct() {
 		if (verbosity >= 100)
 			super.block_do_construct();
@@ -1803,12 +1856,18 @@ public class XMLPrinter extends XMLPrinterBase {
 			contextRename("statement", "loop");
 			setAttribute("type", "do-label");
 		}
-		/*
 		if (digitString != null)
-			// TODO: is this needed?
+			// the loop is terminated by a statement with this label, see label()
 			setAttribute("label", digitString);
-		*/
 		super.do_stmt(label, id, doKeyword, digitString, eos, hasLoopControl);
+		if (context.getTagName().equals("loop")) {
+			openLoops.add(context);
+			if (context.hasAttribute("label")) {
+				if (!labeledLoops.containsKey(context.getAttribute("label")))
+					labeledLoops.put(context.getAttribute("label"), new ArrayList<Element>());
+				labeledLoops.get(context.getAttribute("label")).add(context);
+			}
+		}
 		contextOpen("body");
 		contextOpen("statement");
 	}
@@ -1845,14 +1904,16 @@ public class XMLPrinter extends XMLPrinterBase {
 		Element element = contextNode(-1);
 		contextOpen("header");
 		moveHere(element);
-		super.loop_control(whileKeyword, doConstructType, hasOptExpr);
+		if (verbosity >= 80)
+			super.loop_control(whileKeyword, doConstructType, hasOptExpr);
 		contextClose();
 	}
 
 	public void do_variable(Token id) {
 		contextOpen("index-variable");
 		setAttribute("name", id);
-		super.do_variable(id);
+		if (verbosity >= 80)
+			super.do_variable(id);
 		contextClose();
 	}
 
@@ -1900,7 +1961,8 @@ public class XMLPrinter extends XMLPrinterBase {
 		contextOpen("continue");
 		if (labelNode != null)
 			moveHere(labelNode);
-		super.continue_stmt(label, continueKeyword, eos);
+		if (verbosity >= 80)
+			super.continue_stmt(label, continueKeyword, eos);
 		contextClose();
 	}
 
@@ -1924,7 +1986,8 @@ public class XMLPrinter extends XMLPrinterBase {
 		Element args = contextNode(-1);
 		contextOpen("open");
 		moveHere(args);
-		super.open_stmt(label, openKeyword, eos);
+		if (verbosity >= 80)
+			super.open_stmt(label, openKeyword, eos);
 		contextClose();
 	}
 
@@ -1957,7 +2020,8 @@ public class XMLPrinter extends XMLPrinterBase {
 		Element args = contextNode(-1);
 		contextOpen("close");
 		moveHere(args);
-		super.close_stmt(label, closeKeyword, eos);
+		if (verbosity >= 80)
+			super.close_stmt(label, closeKeyword, eos);
 		contextClose();
 	}
 
@@ -1992,7 +2056,8 @@ public class XMLPrinter extends XMLPrinterBase {
 		if (hasInputItemList)
 			moveHere(contextNode(outerContext, -3));
 		moveHere(contextNode(outerContext, -2));
-		super.read_stmt(label, readKeyword, eos, hasInputItemList);
+		if (verbosity >= 80)
+			super.read_stmt(label, readKeyword, eos, hasInputItemList);
 		contextClose();
 	}
 
@@ -2007,7 +2072,8 @@ public class XMLPrinter extends XMLPrinterBase {
 		moveHere(args);
 		if (hasOutputItemList)
 			moveHere(outputs);
-		super.write_stmt(label, writeKeyword, eos, hasOutputItemList);
+		if (verbosity >= 80)
+			super.write_stmt(label, writeKeyword, eos, hasOutputItemList);
 		contextClose();
 	}
 
@@ -2018,7 +2084,8 @@ public class XMLPrinter extends XMLPrinterBase {
 		moveHere(format);
 		if (hasOutputItemList)
 			moveHere(outputs);
-		super.print_stmt(label, printKeyword, eos, hasOutputItemList);
+		if (verbosity >= 80)
+			super.print_stmt(label, printKeyword, eos, hasOutputItemList);
 		contextClose();
 	}
 
@@ -2030,7 +2097,8 @@ public class XMLPrinter extends XMLPrinterBase {
 		} else
 			contextOpen("io-control");
 		setAttribute("argument-name", keyword == null ? "" : keyword);
-		super.io_control_spec(hasExpression, keyword, hasAsterisk);
+		if (verbosity >= 80)
+			super.io_control_spec(hasExpression, keyword, hasAsterisk);
 		contextClose("io-control");
 	}
 
@@ -2121,7 +2189,8 @@ public class XMLPrinter extends XMLPrinterBase {
 				moveHere(node);
 		contextClose();
 		moveHere(header);
-		super.io_implied_do();
+		if (verbosity >= 80)
+			super.io_implied_do();
 		contextClose();
 	}
 
@@ -2138,7 +2207,8 @@ public class XMLPrinter extends XMLPrinterBase {
 		Element element = contextNode(-1);
 		contextOpen("header");
 		moveHere(element);
-		super.io_implied_do_control(hasStride);
+		if (verbosity >= 80)
+			super.io_implied_do_control(hasStride);
 		contextClose();
 	}
 
@@ -2177,6 +2247,7 @@ public class XMLPrinter extends XMLPrinterBase {
 	}
 
 	public void main_program__begin() {
+		streamCompletedNodes();
 		contextOpen("program");
 		if (verbosity >= 100)
 			super.main_program__begin();
@@ -2224,6 +2295,7 @@ public class XMLPrinter extends XMLPrinterBase {
 	}
 
 	public void module_stmt__begin() {
+		streamCompletedNodes();
 		contextOpen("module");
 		if (verbosity >= 100)
 			super.module_stmt__begin();
@@ -2233,6 +2305,8 @@ public class XMLPrinter extends XMLPrinterBase {
 	public void module_stmt(Token label, Token moduleKeyword, Token id, Token eos) {
 		contextClose("header");
 		setAttribute("name", id);
+		if (symbols != null)
+			symbols.add("module", id.getText(), context.getParentNode(), id.getLine());
 		super.module_stmt(label, moduleKeyword, id, eos);
 		contextOpen("body");
 		contextOpen("specification");
@@ -2268,6 +2342,8 @@ public class XMLPrinter extends XMLPrinterBase {
 		if (!context.getTagName().equals("use"))
 			contextOpen("use");
 		setAttribute("name", id);
+		if (symbols != null)
+			symbols.add("use", id.getText(), context, id.getLine());
 		super.use_stmt(label, useKeyword, id, onlyKeyword, eos, hasModuleNature, hasRenameList, hasOnly);
 		contextClose("use");
 		contextOpen("declaration");
@@ -2308,6 +2384,7 @@ public class XMLPrinter extends XMLPrinterBase {
 	}
 
 	public void block_data_stmt__begin() {
+		streamCompletedNodes();
 		contextOpen("block-data");
 		if (verbosity >= 100)
 			super.block_data_stmt__begin();
@@ -2365,7 +2442,8 @@ public class XMLPrinter extends XMLPrinterBase {
 	public void generic_spec(Token keyword, Token name, int type) {
 		contextOpen("name");
 		setAttribute("id", name);
-		super.generic_spec(keyword, name, type);
+		if (verbosity >= 80)
+			super.generic_spec(keyword, name, type);
 		contextClose();
 	}
 
@@ -2434,10 +2512,14 @@ public class XMLPrinter extends XMLPrinterBase {
 		} else if (name.getTagName() != "name")
 			cleanUpAfterError("tag name is not 'name' but '" + name.getTagName() + "'");
 		contextOpen("call");
+		if (symbols != null)
+			symbols.add("call", name.getAttribute("id"), context,
+					callKeyword != null ? callKeyword.getLine() : eos.getLine());
 		moveHere(name);
 		if (arguments != null)
 			moveHere(arguments);
-		super.call_stmt(label, callKeyword, eos, hasActualArgSpecList);
+		if (verbosity >= 80)
+			super.call_stmt(label, callKeyword, eos, hasActualArgSpecList);
 		contextClose();
 	}
 
@@ -2497,6 +2579,7 @@ public class XMLPrinter extends XMLPrinterBase {
 	}
 
 	public void function_stmt__begin() {
+		streamCompletedNodes();
 		contextOpen("function");
 		contextOpen("header");
 		if (verbosity >= 100)
@@ -2508,6 +2591,8 @@ public class XMLPrinter extends XMLPrinterBase {
 		contextClose("header");
 		super.function_stmt(label, keyword, name, eos, hasGenericNameList, hasSuffix);
 		setAttribute("name", name);
+		if (symbols != null)
+			symbols.add("function", name.getText(), context.getParentNode(), name.getLine());
 		contextOpen("body");
 		contextOpen("specification");
 		contextOpen("declaration");
@@ -2525,6 +2610,7 @@ public class XMLPrinter extends XMLPrinterBase {
 	}
 
 	public void subroutine_stmt__begin() {
+		streamCompletedNodes();
 		contextOpen("subroutine");
 		contextOpen("header");
 		if (verbosity >= 100)
@@ -2536,6 +2622,8 @@ public class XMLPrinter extends XMLPrinterBase {
 		super.subroutine_stmt(label, keyword, name, eos, hasPrefix, hasDummyArgList, hasBindingSpec, hasArgSpecifier);
 		contextClose("header");
 		setAttribute("name", name);
+		if (symbols != null)
+			symbols.add("subroutine", name.getText(), context.getParentNode(), name.getLine());
 		contextOpen("body");
 		contextOpen("specification");
 		contextOpen("declaration");
@@ -2579,7 +2667,8 @@ public class XMLPrinter extends XMLPrinterBase {
 		} else
 			contextOpen("return");
 		setAttribute("hasValue", hasScalarIntExpr);
-		super.return_stmt(label, keyword, eos, hasScalarIntExpr);
+		if (verbosity >= 80)
+			super.return_stmt(label, keyword, eos, hasScalarIntExpr);
 		contextClose();
 	}
 
@@ -2642,10 +2731,18 @@ public class XMLPrinter extends XMLPrinterBase {
 			setAttribute("path", filename);
 		else
 			setAttribute("path", path);
+		events.beginFile(path.equals("ERROR_FILE_NOT_FOUND") ? filename : path);
 	}
 
 	public void end_of_file(String filename, String path) {
 		contextCloseAllInner("file");
+		final Element file = context;
+		events.endFile(new FlightRecorderEvents.NodeCounter() {
+			@Override
+			public long count() {
+				return file.getElementsByTagName("*").getLength();
+			}
+		});
 		if (verbosity >= 100)
 			super.end_of_file(filename, path);
 		contextClose();
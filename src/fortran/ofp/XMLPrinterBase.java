@@ -1,30 +1,44 @@
 package fortran.ofp;
 
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.Closeable;
 import java.io.File;
+import java.io.FileOutputStream;
+import java.io.Flushable;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.transform.OutputKeys;
-import javax.xml.transform.Transformer;
-import javax.xml.transform.TransformerException;
-import javax.xml.transform.TransformerFactory;
-import javax.xml.transform.dom.DOMSource;
-import javax.xml.transform.stream.StreamResult;
 
 import org.antlr.runtime.Token;
 import org.apache.commons.cli.CommandLine;
 import org.w3c.dom.Attr;
 import org.w3c.dom.Document;
+import org.w3c.dom.DocumentFragment;
 import org.w3c.dom.Element;
 import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 
 import fortran.ofp.parser.java.TokensList;
 import fortran.ofp.parser.java.CodeBounds;
+import fortran.ofp.parser.java.DependencyScanner;
 import fortran.ofp.parser.java.FortranLexer;
 import fortran.ofp.parser.java.FortranParserActionPrint;
 import fortran.ofp.parser.java.IFortranParser;
@@ -39,7 +53,7 @@ public class XMLPrinterBase extends FortranParserActionPrint {
 	/**
 	 * Parsed command-line arguments.
 	 */
-	private CommandLine cmd;
+	protected CommandLine cmd;
 
 	/**
 	 * Verbosity level from 0 to 100.
@@ -61,6 +75,133 @@ public class XMLPrinterBase extends FortranParserActionPrint {
 	 */
 	protected Element context = null;
 
+	/**
+	 * Format of the output: "xml", "binary", "json" or "ndjson".
+	 */
+	protected String format;
+
+	/**
+	 * Node kinds and attributes selected for output, applied to nodes as they are written out.
+	 */
+	protected Projection projection;
+
+	/**
+	 * Query selecting subtrees for output, applied before the projection, only if the "query" option is given.
+	 */
+	protected PathQuery query = null;
+
+	/**
+	 * Time and memory usage of phases of the run, recorded only if the "profile" option is given.
+	 */
+	protected Profiler profiler;
+
+	/**
+	 * Invocation counts and latencies of action handlers, recorded only by XMLPrinterInstrumented.
+	 */
+	protected HandlerStatistics handlerStatistics = null;
+
+	/**
+	 * If true, an error in an action handler wrapped by XMLPrinterRecovering does not abort the run, but the offending
+	 * statement is replaced by an <error> node, see recoverFromError().
+	 */
+	protected boolean recovery = false;
+
+	/**
+	 * Number of wrapped action handlers being executed, more than one if a handler calls another handler.
+	 */
+	private int handlerDepth = 0;
+
+	/**
+	 * The <error> node of the statement whose remaining handlers are being skipped, null if none are skipped.
+	 */
+	private Element skippedError = null;
+
+	/**
+	 * Lines of source files, read only to record text of statements replaced by <error> nodes.
+	 */
+	private HashMap<String, String[]> sourceLines = new HashMap<String, String[]>();
+
+	/**
+	 * Symbols defined, used, called and declared in the parsed file, collected only if "symbols" option is given.
+	 */
+	protected SymbolIndex symbols = null;
+
+	/**
+	 * Custom Flight Recorder events, emitted only if Flight Recorder is running.
+	 */
+	protected FlightRecorderEvents events;
+
+	/**
+	 * Counter of all nodes of the document, which visits the whole document, so Flight Recorder calls it only for phase
+	 * events that are committed.
+	 */
+	private final FlightRecorderEvents.NodeCounter documentNodes = new FlightRecorderEvents.NodeCounter() {
+		@Override
+		public long count() {
+			return doc.getElementsByTagName("*").getLength();
+		}
+	};
+
+	/**
+	 * Number of comments and directives inserted into the document so far.
+	 */
+	private long insertedTokensCount = 0;
+
+	/**
+	 * If true, completed top-level program units are written out as soon as possible and removed from the document.
+	 */
+	protected boolean streaming;
+
+	/**
+	 * If true, only the hierarchy of program units and their headers are kept: statements and declarations in bodies
+	 * of program units are discarded as soon as they are complete, and comments and directives are not inserted.
+	 */
+	protected boolean outline;
+
+	/**
+	 * If true, modules defined and used in the file are written by DependencyScanner when the printer is created, and
+	 * the tree is neither kept nor written.
+	 */
+	protected boolean dependenciesOnly;
+
+	/**
+	 * Destination of the streamed XML, null until something is streamed.
+	 */
+	private Writer streamWriter = null;
+
+	private JsonAstWriter streamJsonWriter = null;
+
+	private boolean streamedAny = false;
+
+	/**
+	 * Comments and directives of the current file which are not yet inserted into the streamed document.
+	 */
+	private ArrayList<Token> streamTokens = null;
+
+	private int streamTokensIndex = 0;
+
+	/**
+	 * Index of the context into which comments and directives are being inserted, if any.
+	 */
+	private PositionIndex positionIndex = null;
+
+	/**
+	 * Nodes into which tokens were inserted using the position index, whose bounds are not yet propagated further.
+	 */
+	private Set<Element> unpropagatedTargets = Collections.newSetFromMap(new IdentityHashMap<Element, Boolean>());
+
+	static public ArrayList<String> programUnitTags = new ArrayList<String>(
+			Arrays.asList(new String[] { "program", "module", "subroutine", "function", "block-data" }));
+
+	/**
+	 * Handlers called after a statement is complete, which end skipping of handlers of a statement after an error even
+	 * if the statement's own handler was not wrapped.
+	 */
+	static public ArrayList<String> statementBoundaryHandlers = new ArrayList<String>(
+			Arrays.asList(new String[] { "action_stmt", "declaration_construct", "specification_stmt",
+					"executable_construct", "execution_part_construct", "specification_part", "start_of_file",
+					"end_of_file" }));
+
 	static public ArrayList<String> tokenLocationsWhitelist = new ArrayList<String>(
 			Arrays.asList(new String[] { "file", "members", "body", "specification" }));
 
@@ -69,7 +210,33 @@ public class XMLPrinterBase extends FortranParserActionPrint {
 
 		// System.err.println(Arrays.toString(args));
 		cmd = new XmlPrinterArgsParser().parse(args);
+		profiler = new Profiler(cmd.hasOption("profile"));
+		if (profiler.isEnabled()) {
+			// everything done before the printer is created: JVM startup, reading and lexing the input, etc.
+			long[] usage = profiler.sample();
+			usage[0] = (System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime()) * 1000000;
+			profiler.record("startup", usage);
+		}
+		events = new FlightRecorderEvents(filename,
+				(long) (Double.parseDouble(cmd.getOptionValue("jfr-handler-threshold", "10")) * 1000000));
 		verbosity = Integer.parseInt(cmd.getOptionValue("verbosity", "100"));
+		format = cmd.getOptionValue("format", "xml");
+		if (!Arrays.asList("xml", "binary", "json", "ndjson").contains(format))
+			throw new IllegalArgumentException("unsupported output format: " + format);
+		projection = new Projection(cmd);
+		if (cmd.hasOption("query"))
+			query = new PathQuery(cmd.getOptionValue("query"));
+		if (cmd.hasOption("symbols"))
+			symbols = new SymbolIndex();
+		streaming = cmd.hasOption("streaming");
+		outline = cmd.hasOption("outline");
+		dependenciesOnly = cmd.hasOption("deps-only");
+		if (dependenciesOnly)
+			outline = true;
+		if (streaming && format.equals("binary")) {
+			System.err.println("streaming is not supported for binary output format, ignoring --streaming");
+			streaming = false;
+		}
 		if (verbosity >= 100) {
 			setVerbose(true);
 			setPrintKeywords(true);
@@ -86,6 +253,41 @@ public class XMLPrinterBase extends FortranParserActionPrint {
 			error.printStackTrace();
 			System.exit(1);
 		}
+		if (dependenciesOnly)
+			persistDependencies();
+		beginPhase("parsing");
+	}
+
+	/**
+	 * Write modules defined and used in the file, found by DependencyScanner without the parser.
+	 *
+	 * The front end parses the file afterwards anyway, but statements are discarded as in outline mode, and cleanUp()
+	 * neither inserts comments nor propagates bounds nor writes the tree.
+	 */
+	private void persistDependencies() {
+		beginPhase("dependencies");
+		try {
+			Writer writer = openOutputWriter();
+			new DependencyScanner(new File(filename)).write(filename, writer);
+			closeOutput(writer);
+		} catch (IOException error) {
+			error.printStackTrace();
+			System.exit(1);
+		}
+		endPhase("dependencies");
+	}
+
+	/**
+	 * Mark the beginning of a phase of the run, for the profiler and for Flight Recorder.
+	 */
+	protected void beginPhase(String name) {
+		profiler.begin(name);
+		events.beginPhase(name, insertedTokensCount);
+	}
+
+	protected void endPhase(String name) {
+		profiler.end(name);
+		events.endPhase(name, documentNodes, insertedTokensCount);
 	}
 
 	/**
@@ -94,6 +296,10 @@ public class XMLPrinterBase extends FortranParserActionPrint {
 	 * @param name
 	 */
 	protected Element contextOpen(String name) {
+		if (outline && (name.equals("statement") || name.equals("declaration")) && isProgramUnitPart(context))
+			discardNodes(context, 1);
+		else if (name.equals("statement") || name.equals("declaration"))
+			pruneCompletedNode(context);
 		Element new_context = doc.createElement(name);
 		if (context != null)
 			context.appendChild(new_context);
@@ -295,6 +501,20 @@ public class XMLPrinterBase extends FortranParserActionPrint {
 		return contextNodes(context, 0, 0);
 	}
 
+	/**
+	 * Same as contextNodes(context, -count, count), but siblings are followed from the last node of the context, so
+	 * that the cost depends on the number of returned nodes and not on the number of all nodes of the context.
+	 */
+	protected ArrayList<Element> contextLastNodes(Element context, int count) {
+		ArrayList<Element> nodes = new ArrayList<Element>(Collections.<Element>nCopies(count, null));
+		Node node = context.getLastChild();
+		for (int i = count - 1; i >= 0 && node != null; --i, node = node.getPreviousSibling())
+			nodes.set(i, (Element) node);
+		if (count > 0 && nodes.get(0) == null)
+			return contextNodes(context, -count, count); // there are fewer nodes, report the error
+		return nodes;
+	}
+
 	protected int contextNodesCount(Element context) {
 		return context.getChildNodes().getLength();
 	}
@@ -379,26 +599,35 @@ public class XMLPrinterBase extends FortranParserActionPrint {
 	 * Return null if (line, col) not in this context, and when it cannot be determined if it is in it or not.
 	 *
 	 * Otherwise, return an innermost context which contains a given location.
+	 *
+	 * This visits all nodes of the context, so for many queries within the same context PositionIndex is faster.
 	 */
 	public Element findContext(Element context, int line, int col) {
-		for (Element node : contextNodes(context)) {
-			Element containingNode = findContext(node, line, col);
-			if (containingNode == null)
-				continue;
-			return containingNode;
-		}
-		CodeBounds bounds = new CodeBounds(context);
+		// innermost contexts are checked first, in order
+		for (Element node = TreeTraversal.firstInPostOrder(context); node != null; node = TreeTraversal
+				.nextInPostOrder(context, node))
+			if (contains(node, line, col))
+				return node;
+		return null;
+	}
+
+	/**
+	 * Return true if (line, col) is within code bounds of a given node, and false if it is not or if the node has no
+	 * bounds.
+	 */
+	private static boolean contains(Element node, int line, int col) {
+		CodeBounds bounds = new CodeBounds(node);
 		if (bounds.begin == null || bounds.end == null)
-			return null;
+			return false;
 		if (line < bounds.begin.line || line > bounds.end.line)
-			return null;
+			return false;
 		if (line > bounds.begin.line && line < bounds.end.line)
-			return context;
-		if (line == bounds.begin.line)
-			return col >= bounds.begin.col ? context : null;
-		if (line == bounds.end.line)
-			return col <= bounds.end.col ? context : null;
-		throw new RuntimeException();
+			return true;
+		if (line == bounds.begin.line && col < bounds.begin.col)
+			return false;
+		if (line == bounds.end.line && col > bounds.end.col)
+			return false;
+		return true;
 	}
 
 	public int findPosition(Element context, int line, int col) {
@@ -427,28 +656,101 @@ public class XMLPrinterBase extends FortranParserActionPrint {
 	 * Propagate code bounds within a given context.
 	 *
 	 * Propagating code bounds means that code bounds of each node within given context are extended using bounds of all
-	 * its subnodes. This is done recursively, depth-first.
+	 * its subnodes. This is done depth-first, iteratively, so that it works on trees of any depth.
 	 *
 	 * An exception to this rule are <file> nodes, the bounds of which are not propagated outside of them.
 	 */
 	protected void propagateBounds(Element context) {
-		ArrayList<Element> nodes = contextNodes(context);
-		for (Element node : nodes) {
-			propagateBounds(node);
-			if (context == root)
+		// subnodes are visited in post-order, so that their own bounds are complete before they are propagated
+		for (Element node = TreeTraversal.firstInPostOrder(context); node != context; node = TreeTraversal
+				.nextInPostOrder(context, node)) {
+			Element parent = (Element) node.getParentNode();
+			if (parent == root)
 				continue;
 			if (node.getNodeName().equals("file"))
 				continue; // propagating bounds beyond <file> node makes them inconsistent
 			CodeBounds bounds = new CodeBounds(node);
 			if (bounds.begin == null)
 				continue;
-			CodeBounds rootBounds = new CodeBounds(context);
+			CodeBounds rootBounds = new CodeBounds(parent);
 			rootBounds.extend(bounds.begin);
 			rootBounds.extend(bounds.end);
-			rootBounds.persist(context);
+			rootBounds.persist(parent);
 		}
 	}
 
+	/**
+	 * Remove subnodes of given context, except given number of last ones, extending bounds of the context by their
+	 * bounds.
+	 *
+	 * In outline mode, it is called whenever a new statement or declaration is opened in a program unit, so that all
+	 * complete nodes but the last one are discarded. The last one is kept, as some handlers reach back for it.
+	 */
+	protected void discardNodes(Element context, int keepCount) {
+		int count = contextNodesCount(context);
+		while (count-- > keepCount) {
+			Element node = (Element) context.getFirstChild();
+			if (verbosity >= 100) {
+				propagateBounds(node);
+				CodeBounds bounds = new CodeBounds(node);
+				if (bounds.begin != null) {
+					CodeBounds contextBounds = new CodeBounds(context);
+					contextBounds.extend(bounds.begin);
+					contextBounds.extend(bounds.end);
+					contextBounds.persist(context);
+				}
+			}
+			context.removeChild(node);
+		}
+	}
+
+	/**
+	 * Remove pruned subnodes of the last but one node of given context, if it is a statement or a declaration.
+	 *
+	 * It is called whenever a new statement or declaration is opened, so that the "prune" option reduces memory usage
+	 * already while parsing. The last node is left intact, as some handlers reach back for it, and so are all nodes if a
+	 * query is given, as it is applied before the projection. Nodes are also left intact if comments and directives
+	 * are inserted after parsing, as their location depends on the pruned nodes - then all pruning is done after
+	 * they are inserted. Bounds are propagated first, so that they are the same as if the nodes were pruned only
+	 * before writing.
+	 */
+	protected void pruneCompletedNode(Element context) {
+		if (context == null || query != null || !projection.hasPrunedTags() || contextNodesCount(context) < 2)
+			return;
+		if (verbosity >= 100 && !outline)
+			return;
+		Element node = contextNode(context, -2);
+		if (!node.getTagName().equals("statement") && !node.getTagName().equals("declaration"))
+			return;
+		if (verbosity >= 100)
+			propagateBounds(node);
+		projection.prune(node);
+	}
+
+	/**
+	 * Return true if given node is the <body> of a program unit or the <specification> within it.
+	 */
+	protected boolean isProgramUnitPart(Element node) {
+		if (node == null || node == root)
+			return false;
+		Element parent = (Element) node.getParentNode();
+		if (node.getTagName().equals("body"))
+			return parent != null && programUnitTags.contains(parent.getTagName());
+		return node.getTagName().equals("specification") && isProgramUnitPart(parent);
+	}
+
+	/**
+	 * Discard all remaining contents of bodies and specifications of program units within given context, in outline
+	 * mode.
+	 */
+	protected void discardOutlineContents(Element context) {
+		if (!outline)
+			return;
+		for (Element node = context; node != null; node = TreeTraversal.nextInPreOrder(context, node))
+			if (isProgramUnitPart(node))
+				discardNodes(node, 0);
+	}
+
 	/**
 	 * Move given element from its current context to a given target context.
 	 *
@@ -502,11 +804,70 @@ public class XMLPrinterBase extends FortranParserActionPrint {
 		moveTo(context, null, element);
 	}
 
+	/**
+	 * Move a contiguous run of sibling elements, from first to last inclusive, into target context.
+	 *
+	 * The run is detached into a document fragment and spliced into the target context with a single insertion, and
+	 * the insertion point is looked up once, so moving k elements costs O(k) and not O(k * n). The elements keep their
+	 * order. The index has the same meaning as in moveTo(Element, Integer, Element), and is resolved after the run is
+	 * detached.
+	 *
+	 * @param targetContext
+	 * @param targetIndex
+	 * @param first
+	 * @param last
+	 */
+	protected void moveRangeTo(Element targetContext, Integer targetIndex, Element first, Element last) {
+		Node parent = first.getParentNode();
+		DocumentFragment fragment = doc.createDocumentFragment();
+		try {
+			Node end = last.getNextSibling();
+			for (Node node = first; node != end;) {
+				if (node == null || node == targetContext)
+					cleanUpAfterError("Cannot move range from " + first + " to " + last + " of " + parent + " to "
+							+ targetContext + ".");
+				Node next = node.getNextSibling();
+				fragment.appendChild(node);
+				node = next;
+			}
+			Node reference = null;
+			if (targetIndex != null)
+				if (targetIndex < -1)
+					reference = contextLastNodes(targetContext, -targetIndex - 1).get(0);
+				else if (targetIndex >= 0)
+					reference = contextNode(targetContext, targetIndex);
+			targetContext.insertBefore(fragment, reference);
+		} catch (org.w3c.dom.DOMException error) {
+			System.err.println("Cannot move range from " + first + " to " + last + " to " + targetContext + ".");
+			contextPrint(first);
+			System.err.println(contextNameHierarchy(first));
+			contextPrint(targetContext);
+			System.err.println(contextNameHierarchy(targetContext));
+			cleanUpAfterError(error);
+		}
+	}
+
+	/**
+	 * Move elements one by one, each as in moveTo(Element, Integer, Element).
+	 *
+	 * When appending elements that are a contiguous run of siblings, the whole run is moved at once by moveRangeTo().
+	 */
 	protected void moveTo(Element targetContext, Integer targetIndex, ArrayList<Element> elements) {
+		if (targetIndex == null && !elements.isEmpty() && areSiblingRun(elements)) {
+			moveRangeTo(targetContext, null, elements.get(0), elements.get(elements.size() - 1));
+			return;
+		}
 		for (Element element : elements)
 			moveTo(targetContext, targetIndex, element);
 	}
 
+	private static boolean areSiblingRun(ArrayList<Element> elements) {
+		for (int i = 1; i < elements.size(); ++i)
+			if (elements.get(i - 1).getNextSibling() != elements.get(i))
+				return false;
+		return true;
+	}
+
 	protected void moveTo(Element targetContext, ArrayList<Element> elements) {
 		moveTo(targetContext, null, elements);
 	}
@@ -519,8 +880,16 @@ public class XMLPrinterBase extends FortranParserActionPrint {
 		moveTo(context, null, elements);
 	}
 
+	/**
+	 * Open context of an OFP rule.
+	 *
+	 * At verbosity 0, the rule number and addendum are not recorded -- they are details of OFP grammar, not needed to
+	 * reconstruct the program.
+	 */
 	protected void printRuleHeader(int rule, String name, String addendum) {
 		contextOpen(name);
+		if (verbosity == 0)
+			return;
 		setAttribute("rule", rule);
 		if (addendum.length() > 0)
 			setAttribute("addendum", addendum);
@@ -565,19 +934,23 @@ public class XMLPrinterBase extends FortranParserActionPrint {
 	protected void insertTokens(Element context, int tokenType, String tokenContextName, String tokenTextAttributeName)
 			throws IOException {
 		// System.err.println("all tokens: " + new TokensList(new File(filename)));
-		TokensList tokens = new TokensList(new File(filename), tokenType);
+		TokensList tokens = new TokensList(new File(filename), tokenType, cmd.hasOption("parallel-lexing"));
 		// System.err.println("found tokens: " + tokens);
 		insertTokens(context, tokens, tokenContextName, tokenTextAttributeName);
 	}
 
 	protected void insertTokens(Element context, ArrayList<Token> tokens, String tokenContextName,
 			String tokenTextAttributeName) {
+		positionIndex = new PositionIndex(context);
 		for (Token token : tokens)
 			insertToken(context, token, tokenContextName, tokenTextAttributeName);
+		positionIndex = null;
+		unpropagatedTargets.clear();
 	}
 
 	protected void insertToken(Element context, Token token, String tokenContextName, String tokenTextAttributeName) {
 		TokenTarget target = findTarget(context, token);
+		++insertedTokensCount;
 
 		Element tokenNode = contextOpen(tokenContextName);
 		setAttribute(tokenTextAttributeName, token.getText());
@@ -593,7 +966,51 @@ public class XMLPrinterBase extends FortranParserActionPrint {
 		else
 			throw new IllegalArgumentException("location within target is invalid");
 
-		propagateBounds(target.element);
+		if (positionIndex == null || positionIndex.getContext() != context) {
+			propagateBounds(target.element);
+			return;
+		}
+		positionIndex.update(tokenNode);
+		propagateInsertedBounds(target.element, bounds);
+	}
+
+	/**
+	 * Do the same as propagateBounds() on given target after a token with given bounds was inserted into it, but
+	 * without visiting the whole subtree of the target, and update the position index accordingly.
+	 *
+	 * All bounds in the indexed context were propagated before tokens were inserted, so the only bounds that change are
+	 * those of the target, and of the nodes between it and previous targets within it.
+	 */
+	private void propagateInsertedBounds(Element target, CodeBounds bounds) {
+		Iterator<Element> iterator = unpropagatedTargets.iterator();
+		while (iterator.hasNext()) {
+			Element node = iterator.next();
+			Node ancestor = node;
+			while (ancestor != null && ancestor != target)
+				ancestor = ancestor.getParentNode();
+			if (ancestor == null)
+				continue;
+			iterator.remove();
+			for (Element parent; node != target && !node.getNodeName().equals("file"); node = parent) {
+				parent = (Element) node.getParentNode();
+				if (parent == root)
+					break;
+				CodeBounds nodeBounds = new CodeBounds(node);
+				CodeBounds parentBounds = new CodeBounds(parent);
+				parentBounds.extend(nodeBounds.begin);
+				parentBounds.extend(nodeBounds.end);
+				parentBounds.persist(parent);
+				positionIndex.update(parent);
+			}
+		}
+		if (target == root)
+			return;
+		CodeBounds targetBounds = new CodeBounds(target);
+		targetBounds.extend(bounds.begin);
+		targetBounds.extend(bounds.end);
+		targetBounds.persist(target);
+		positionIndex.update(target);
+		unpropagatedTargets.add(target);
 	}
 
 	private class TokenTarget {
@@ -611,7 +1028,8 @@ public class XMLPrinterBase extends FortranParserActionPrint {
 	private TokenTarget findTarget(Element context, Token token) {
 		int line = token.getLine();
 		int col_begin = token.getCharPositionInLine();
-		Element target = findContext(context, line, col_begin);
+		PositionIndex index = positionIndex != null && positionIndex.getContext() == context ? positionIndex : null;
+		Element target = index != null ? index.findContext(line, col_begin) : findContext(context, line, col_begin);
 		/* debug-only
 		int col_end = col_begin + comment.getText().length();
 		Element targetAlt = findContext(context, line, col_end);
@@ -626,7 +1044,9 @@ public class XMLPrinterBase extends FortranParserActionPrint {
 				throw new IllegalArgumentException();
 			*/
 		}
-		int targetIndex = findPosition(target, line, col_begin);
+		int targetIndex = index != null ? index.findPosition(target, line, col_begin) : -1;
+		if (targetIndex < 0)
+			targetIndex = findPosition(target, line, col_begin);
 		/* debug-only
 		int targetIndexAlt = findPosition(target, line, col_end);
 		if (targetIndex != targetIndexAlt) {
@@ -691,21 +1111,247 @@ public class XMLPrinterBase extends FortranParserActionPrint {
 		return new TokenTarget(target, targetIndex);
 	}
 
-	public void persist() throws TransformerException {
-		TransformerFactory transformerFactory = TransformerFactory.newInstance();
-		Transformer transformer = transformerFactory.newTransformer();
-		transformer.setOutputProperty(OutputKeys.INDENT, "yes");
-		transformer.setOutputProperty("{http://xml.apache.org/xslt}indent-amount", "2");
-		DOMSource source = new DOMSource(doc);
-		StreamResult result;
+	/**
+	 * Write out and release all nodes of the outermost <file> context, if in streaming mode and if it is the current
+	 * context.
+	 *
+	 * It should be called only when all nodes of that context are complete, i.e. when a new top-level program unit
+	 * begins. Before writing, bounds are propagated and comments/directives located up to the end of the written nodes
+	 * are inserted, same as cleanUp() does for the whole document.
+	 */
+	protected void streamCompletedNodes() {
+		if (!streaming || context == null || context.getParentNode() != root || !context.getTagName().equals("file"))
+			return;
+		Element file = context;
+		if (contextNodesCount(file) == 0)
+			return;
+		try {
+			streamOpen(file);
+			discardOutlineContents(file);
+			if (verbosity >= 100) {
+				beginPhase("propagateBounds");
+				propagateBounds(file);
+				endPhase("propagateBounds");
+				CodeBounds bounds = new CodeBounds(file);
+				if (bounds.end != null && !outline) {
+					beginPhase("insertTokens");
+					insertStreamTokens(bounds.end.line);
+					endPhase("insertTokens");
+					beginPhase("propagateBounds");
+					propagateBounds(file);
+					endPhase("propagateBounds");
+				}
+			}
+			beginPhase("persist");
+			streamNodes(file);
+			endPhase("persist");
+		} catch (Exception error) {
+			cleanUpAfterError(error);
+		}
+	}
+
+	/**
+	 * Insert not yet inserted comments and directives located at or before given line (or all, if null).
+	 */
+	private void insertStreamTokens(Integer lastLine) throws IOException {
+		if (streamTokens == null) {
+			streamTokens = new ArrayList<Token>();
+			for (Token token : new TokensList(new File(filename), null, cmd.hasOption("parallel-lexing")))
+				if (token.getType() == FortranLexer.LINE_COMMENT || token.getType() == FortranLexer.PREPROCESS_LINE)
+					streamTokens.add(token);
+		}
+		positionIndex = new PositionIndex(root);
+		while (streamTokensIndex < streamTokens.size()) {
+			Token token = streamTokens.get(streamTokensIndex);
+			if (lastLine != null && token.getLine() > lastLine)
+				break;
+			if (token.getType() == FortranLexer.LINE_COMMENT)
+				insertToken(root, token, "comment", "text");
+			else
+				insertToken(root, token, "directive", "text");
+			streamTokens.set(streamTokensIndex++, null);
+		}
+		positionIndex = null;
+		unpropagatedTargets.clear();
+	}
+
+	/**
+	 * Return codec selected by the "compression" option or implied by extension of the output path, or null.
+	 */
+	private OutputCodec outputCodec() {
+		if (cmd.hasOption("compression"))
+			return OutputCodecs.forName(cmd.getOptionValue("compression"));
+		if (cmd.hasOption("output"))
+			return OutputCodecs.forPath(cmd.getOptionValue("output"));
+		return null;
+	}
+
+	private OutputStream openOutput() throws IOException {
+		OutputStream stream;
 		if (cmd.hasOption("output"))
-			result = new StreamResult(new File(cmd.getOptionValue("output")));
+			stream = new FileOutputStream(cmd.getOptionValue("output"));
 		else
-			result = new StreamResult(System.out);
-		transformer.transform(source, result);
+			stream = System.out;
+		OutputCodec codec = outputCodec();
+		if (codec != null)
+			stream = codec.compress(stream);
+		return stream;
+	}
+
+	private Writer openOutputWriter() throws IOException {
+		return new BufferedWriter(new OutputStreamWriter(openOutput(), "UTF-8"), 1 << 16);
+	}
+
+	/**
+	 * Flush given output and close it, unless it is the (uncompressed) System.out.
+	 */
+	private void closeOutput(Flushable output) throws IOException {
+		output.flush();
+		if (cmd.hasOption("output") || outputCodec() != null)
+			((Closeable) output).close();
+	}
+
+	/**
+	 * Open the output and write start tags of the document and of given <file> context, unless already done.
+	 *
+	 * Bounds of the <file> context are not known at this point, so in streaming mode they are not written.
+	 */
+	private void streamOpen(Element file) throws IOException {
+		if (streamWriter != null)
+			return;
+		streamWriter = openOutputWriter();
+		projection.dropAttributes(root);
+		projection.dropAttributes(file);
+		if (format.equals("json") || format.equals("ndjson"))
+			streamJsonWriter = new JsonAstWriter(streamWriter);
+		if (format.equals("json")) {
+			streamJsonWriter.writeBegin(root);
+			streamJsonWriter.writeBegin(file);
+			return;
+		}
+		if (format.equals("ndjson"))
+			return;
+		streamWriter.write(XmlAstWriter.DECLARATION + "\n");
+		streamWriter.write(startTag(root) + "\n");
+		streamWriter.write("  " + startTag(file) + "\n");
+	}
+
+	/**
+	 * Write all nodes of given <file> context and remove them from it.
+	 */
+	private void streamNodes(Element file) throws IOException {
+		if (query != null)
+			query.applyToNodes(file);
+		projection.applyToNodes(file);
+		if (streamJsonWriter != null) {
+			for (Element node : contextNodes(file)) {
+				if (format.equals("json") && streamedAny)
+					streamJsonWriter.writeSeparator();
+				streamJsonWriter.write(node);
+				if (format.equals("ndjson"))
+					streamWriter.write('\n');
+				streamedAny = true;
+				file.removeChild(node);
+			}
+			return;
+		}
+		XmlAstWriter xmlWriter = new XmlAstWriter(streamWriter);
+		for (Element node : contextNodes(file)) {
+			xmlWriter.write(node, 2);
+			file.removeChild(node);
+		}
+	}
+
+	private String startTag(Element element) {
+		StringBuilder tag = new StringBuilder("<").append(element.getTagName());
+		for (Attr attribute : contextAttributes(element)) {
+			tag.append(" ").append(attribute.getName()).append("=\"");
+			XmlAstWriter.appendEscaped(tag, attribute.getValue());
+			tag.append("\"");
+		}
+		return tag.append(">").toString();
+	}
+
+	/**
+	 * Finish streaming: write the remaining nodes and close the file and document tags.
+	 */
+	private void persistStream() throws IOException {
+		Element file = contextNode(root, 0);
+		streamOpen(file);
+		discardOutlineContents(root);
+		if (verbosity >= 100) {
+			beginPhase("propagateBounds");
+			propagateBounds(root);
+			endPhase("propagateBounds");
+		}
+		if (verbosity >= 100 && !outline) {
+			beginPhase("insertTokens");
+			insertStreamTokens(null);
+			endPhase("insertTokens");
+			beginPhase("propagateBounds");
+			propagateBounds(root);
+			endPhase("propagateBounds");
+		}
+		beginPhase("persist");
+		streamNodes(file);
+		if (format.equals("json")) {
+			streamJsonWriter.writeEnd();
+			streamJsonWriter.writeEnd();
+			streamWriter.write('\n');
+		} else if (format.equals("xml")) {
+			streamWriter.write("  </" + file.getTagName() + ">\n");
+			streamWriter.write("</" + root.getTagName() + ">\n");
+		}
+		closeOutput(streamWriter);
+		endPhase("persist");
+	}
+
+	public void persist() throws IOException {
+		if (query != null)
+			query.apply(root);
+		// unless comments were inserted, most pruned nodes are already removed by pruneCompletedNode()
+		if (!projection.isEmpty())
+			projection.apply(root);
+		if (format.equals("binary")) {
+			persistBinary();
+			return;
+		}
+		if (format.equals("json") || format.equals("ndjson")) {
+			persistJson();
+			return;
+		}
+		Writer writer = openOutputWriter();
+		new XmlAstWriter(writer).write(doc);
+		closeOutput(writer);
+	}
+
+	private void persistBinary() throws IOException {
+		OutputStream bufferedStream = new BufferedOutputStream(openOutput(), 1 << 16);
+		new BinaryAstWriter().write(doc, bufferedStream);
+		closeOutput(bufferedStream);
+	}
+
+	/**
+	 * Write the document as one JSON object or, in "ndjson" format, each node of each <file> as one line.
+	 */
+	private void persistJson() throws IOException {
+		Writer writer = openOutputWriter();
+		JsonAstWriter jsonWriter = new JsonAstWriter(writer);
+		if (format.equals("json")) {
+			jsonWriter.write(root);
+			writer.write('\n');
+		} else
+			for (Element file : contextNodes(root))
+				for (Element node : contextNodes(file)) {
+					jsonWriter.write(node);
+					writer.write('\n');
+				}
+		closeOutput(writer);
 	}
 
 	public void cleanUpAfterError(String comment, Exception error) {
+		if (recovery && handlerDepth > 0)
+			throw new IllegalStateException(comment, error);
 		if (comment != null)
 			System.err.println(comment);
 		new RuntimeException("Aborting construction of the AST.", error).printStackTrace();
@@ -725,11 +1371,204 @@ public class XMLPrinterBase extends FortranParserActionPrint {
 		cleanUpAfterError(null, null);
 	}
 
+	/**
+	 * Return false if the handler should be skipped, because an error occurred earlier in the same statement.
+	 *
+	 * Skipping ends with the handler which ends the statement, i.e. the one given the end-of-statement token, which is
+	 * skipped as well, or with any of statementBoundaryHandlers, which is not skipped. Each handler which is not skipped
+	 * must be followed by endHandler().
+	 *
+	 * @param name name of the handler
+	 * @param eos end-of-statement token given to the handler, or null
+	 */
+	protected boolean beginHandler(String name, Token eos) {
+		if (skippedError != null) {
+			if (eos != null) {
+				extendError(skippedError, eos);
+				skippedError = null;
+				return false;
+			}
+			if (!statementBoundaryHandlers.contains(name))
+				return false;
+			skippedError = null;
+		}
+		++handlerDepth;
+		return true;
+	}
+
+	protected void endHandler() {
+		--handlerDepth;
+	}
+
+	/**
+	 * Replace contents of the innermost open statement by an <error> node, and skip the remaining handlers of the
+	 * statement, unless the failed handler was the one which ends it.
+	 *
+	 * The <error> node has the name of the failed handler, the error message, code bounds of the statement (as far as
+	 * they are known) and its source code as the text. The error is also reported on System.err, and the run continues
+	 * with the next statement. Errors of handlers called by other handlers are recovered from in the outermost one.
+	 *
+	 * @param name name of the failed handler
+	 * @param error
+	 * @param endsStatement true if the failed handler was given the end-of-statement token
+	 * @param tokens tokens given to the failed handler
+	 */
+	protected void recoverFromError(String name, RuntimeException error, boolean endsStatement, Token... tokens) {
+		if (handlerDepth > 1)
+			throw error;
+		Element statement = context == null ? null : contextTryFind("statement", "declaration");
+		if (statement == null)
+			statement = context;
+		if (statement == null || statement == root) {
+			recovery = false;
+			cleanUpAfterError("Cannot recover from error in " + name + ".", error);
+		}
+		Element errorNode = doc.createElement("error");
+		errorNode.setAttribute("handler", name);
+		String message = error.getMessage();
+		if (message == null)
+			message = error.getCause() == null ? error.toString() : error.getCause().toString();
+		errorNode.setAttribute("message", message);
+		if (statement.getTagName().equals("statement") || statement.getTagName().equals("declaration")) {
+			propagateBounds(statement);
+			CodeBounds bounds = new CodeBounds(statement);
+			if (bounds.begin != null)
+				bounds.persist(errorNode);
+			while (statement.getFirstChild() != null)
+				statement.removeChild(statement.getFirstChild());
+		}
+		statement.appendChild(errorNode);
+		context = statement;
+		for (Token token : tokens)
+			extendError(errorNode, token);
+		extendError(errorNode, null);
+		CodeBounds bounds = new CodeBounds(errorNode);
+		System.err.println(filename + ":" + (bounds.begin == null ? "?" : bounds.begin.line) + ": error in " + name
+				+ ": " + message);
+		if (!endsStatement)
+			skippedError = errorNode;
+	}
+
+	/**
+	 * Extend code bounds of an <error> node by a token, if any, and update its text to the source lines within the
+	 * bounds.
+	 */
+	private void extendError(Element errorNode, Token token) {
+		CodeBounds bounds = new CodeBounds(errorNode);
+		if (token != null && token.getLine() > 0 && token.getText() != null) {
+			if (bounds.begin == null)
+				bounds = new CodeBounds(token);
+			else
+				bounds.extend(token);
+			bounds.persist(errorNode);
+		}
+		if (bounds.begin == null)
+			return;
+		Element file = (Element) errorNode.getParentNode();
+		while (file != null && !file.getTagName().equals("file"))
+			file = file.getParentNode() instanceof Element ? (Element) file.getParentNode() : null;
+		String path = file == null ? filename : file.getAttribute("path");
+		String[] lines = sourceLines.get(path);
+		if (lines == null) {
+			try {
+				lines = new String(Files.readAllBytes(Paths.get(path)), StandardCharsets.UTF_8).split("\\r?\\n", -1);
+			} catch (IOException readError) {
+				lines = new String[0];
+			}
+			sourceLines.put(path, lines);
+		}
+		StringBuilder text = new StringBuilder();
+		for (int line = bounds.begin.line; line <= bounds.end.line && line <= lines.length; ++line) {
+			if (line > bounds.begin.line)
+				text.append('\n');
+			text.append(lines[line - 1]);
+		}
+		errorNode.setAttribute("text", text.toString());
+	}
+
+	/**
+	 * Write recorded time and memory usage of phases as JSON to the path given via "profile" option, if any.
+	 */
+	private void persistProfile() {
+		if (!profiler.isEnabled())
+			return;
+		try {
+			Writer writer = new OutputStreamWriter(new FileOutputStream(cmd.getOptionValue("profile")), "UTF-8");
+			profiler.write(writer, filename);
+			writer.close();
+		} catch (IOException error) {
+			error.printStackTrace();
+		}
+	}
+
+	/**
+	 * Write collected symbols to the path given via "symbols" option, if any.
+	 */
+	private void persistSymbols() {
+		if (symbols == null)
+			return;
+		try {
+			Writer writer = new OutputStreamWriter(new FileOutputStream(cmd.getOptionValue("symbols")), "UTF-8");
+			symbols.write(writer);
+			writer.close();
+		} catch (IOException error) {
+			error.printStackTrace();
+		}
+	}
+
+	/**
+	 * Write recorded handler statistics as JSON to the path given via "handler-stats" option, or to System.err.
+	 */
+	private void persistHandlerStatistics() {
+		if (handlerStatistics == null) {
+			if (cmd.hasOption("handler-stats"))
+				System.err.println("handler statistics are recorded only by fortran.ofp.XMLPrinterInstrumented");
+			return;
+		}
+		String path = cmd.getOptionValue("handler-stats", "-");
+		try {
+			if (path.equals("-")) {
+				Writer writer = new OutputStreamWriter(System.err, "UTF-8");
+				handlerStatistics.write(writer, filename);
+				writer.flush();
+				return;
+			}
+			Writer writer = new OutputStreamWriter(new FileOutputStream(path), "UTF-8");
+			handlerStatistics.write(writer, filename);
+			writer.close();
+		} catch (IOException error) {
+			error.printStackTrace();
+		}
+	}
+
 	public void cleanUp() {
+		endPhase("parsing");
+		if (dependenciesOnly) {
+			persistProfile();
+			return;
+		}
 		while (context != root)
 			contextClose(context);
+		if (streaming && contextNodesCount(root) == 1) {
+			try {
+				persistStream();
+			} catch (Exception error) {
+				error.printStackTrace();
+				System.exit(1);
+			}
+			persistSymbols();
+			persistProfile();
+			persistHandlerStatistics();
+			return;
+		}
+		discardOutlineContents(root);
 		if (verbosity >= 100) {
+			beginPhase("propagateBounds");
 			propagateBounds(context);
+			endPhase("propagateBounds");
+		}
+		if (verbosity >= 100 && !outline) {
+			beginPhase("insertTokens");
 			try {
 				insertTokens(context, FortranLexer.LINE_COMMENT, "comment", "text");
 				insertTokens(context, FortranLexer.PREPROCESS_LINE, "directive", "text");
@@ -737,14 +1576,22 @@ public class XMLPrinterBase extends FortranParserActionPrint {
 				error.printStackTrace();
 				System.exit(1);
 			}
+			endPhase("insertTokens");
+			beginPhase("propagateBounds");
 			propagateBounds(context);
+			endPhase("propagateBounds");
 		}
+		beginPhase("persist");
 		try {
 			persist();
 		} catch (Exception error) {
 			error.printStackTrace();
 			System.exit(1);
 		}
+		endPhase("persist");
+		persistSymbols();
+		persistProfile();
+		persistHandlerStatistics();
 	}
 
 }
@@ -0,0 +1,1982 @@
+package fortran.ofp;
+
+import org.antlr.runtime.Token;
+
+import fortran.ofp.parser.java.IFortranParser;
+
+/**
+ * XMLPrinter which counts invocations and measures latency of all its action handlers, see HandlerStatistics.
+ *
+ * Generated from XMLPrinter.java by generate_instrumented_printer.py, do not edit manually.
+ */
+public class XMLPrinterInstrumented extends XMLPrinter {
+
+	static final String[] HANDLERS = {
+			"generic_name_list_part", "generic_name_list__begin", "generic_name_list", "specification_part",
+			"declaration_construct", "execution_part_construct", "specification_stmt", "executable_construct",
+			"action_stmt", "keyword", "name", "constant", "scalar_constant", "literal_constant", "label",
+			"type_param_value", "intrinsic_type_spec", "kind_selector", "int_literal_constant", "boz_literal_constant",
+			"real_literal_constant", "char_selector", "char_length", "scalar_int_literal_constant",
+			"char_literal_constant", "logical_literal_constant", "derived_type_stmt", "derived_type_spec",
+			"array_constructor", "ac_spec", "ac_value", "ac_value_list__begin", "ac_value_list", "ac_implied_do",
+			"ac_implied_do_control", "type_declaration_stmt", "declaration_type_spec", "attr_spec", "entity_decl",
+			"entity_decl_list__begin", "entity_decl_list", "initialization", "access_spec", "language_binding_spec",
+			"array_spec", "array_spec_element", "intent_spec", "access_id_list__begin", "access_id_list",
+			"allocatable_decl_list__begin", "asynchronous_stmt", "codimension_decl_list__begin", "data_stmt_object",
+			"data_stmt_object_list__begin", "data_stmt_object_list", "data_stmt_value", "data_stmt_value_list__begin",
+			"data_stmt_value_list", "hollerith_literal_constant", "dimension_stmt", "dimension_decl",
+			"named_constant_def_list__begin", "named_constant_def_list", "named_constant_def",
+			"pointer_decl_list__begin", "save_stmt", "target_decl_list__begin", "target_decl_list", "value_stmt",
+			"volatile_stmt", "implicit_stmt", "letter_spec", "letter_spec_list__begin", "letter_spec_list",
+			"namelist_stmt", "namelist_group_name", "namelist_group_object_list", "equivalence_set_list__begin",
+			"equivalence_set_list", "equivalence_object", "equivalence_object_list__begin", "equivalence_object_list",
+			"common_block_name", "common_block_object_list__begin", "common_block_object_list", "variable",
+			"designator_or_func_ref", "substring_range", "data_ref", "part_ref", "section_subscript",
+			"section_subscript_list__begin", "section_subscript_list", "allocate_stmt", "alloc_opt",
+			"alloc_opt_list__begin", "alloc_opt_list", "allocation", "allocation_list__begin", "allocation_list",
+			"allocate_object", "allocate_object_list__begin", "allocate_object_list", "deallocate_stmt", "dealloc_opt",
+			"dealloc_opt_list__begin", "dealloc_opt_list", "primary", "parenthesized_expr", "power_operand",
+			"power_operand__power_op", "mult_operand", "mult_operand__mult_op", "signed_operand", "add_operand",
+			"add_operand__add_op", "level_2_expr", "power_op", "mult_op", "add_op", "level_3_expr", "concat_op",
+			"rel_op", "and_operand", "and_operand__not_op", "or_operand", "equiv_operand", "equiv_operand__equiv_op",
+			"not_op", "and_op", "or_op", "equiv_op", "assignment_stmt", "pointer_assignment_stmt", "forall_construct",
+			"forall_construct_stmt", "forall_header", "forall_triplet_spec", "forall_triplet_spec_list__begin",
+			"forall_triplet_spec_list", "forall_assignment_stmt", "end_forall_stmt", "forall_stmt__begin",
+			"forall_stmt", "block", "if_construct", "if_then_stmt", "else_if_stmt", "else_stmt", "end_if_stmt",
+			"if_stmt__begin", "if_stmt", "block_construct", "case_construct", "select_case_stmt", "case_stmt",
+			"end_select_stmt", "case_selector", "case_value_range", "case_value_range_list__begin",
+			"case_value_range_list", "case_value_range_suffix", "case_value", "associate_construct", "associate_stmt",
+			"association_list__begin", "association_list", "association", "selector", "end_associate_stmt",
+			"type_guard_stmt", "do_construct", "block_do_construct", "do_stmt", "label_do_stmt", "loop_control",
+			"do_variable", "end_do", "end_do_stmt", "do_term_action_stmt", "cycle_stmt", "exit_stmt", "goto_stmt",
+			"continue_stmt", "stop_stmt", "open_stmt", "connect_spec", "connect_spec_list__begin", "connect_spec_list",
+			"close_stmt", "close_spec", "close_spec_list__begin", "close_spec_list", "read_stmt", "write_stmt",
+			"print_stmt", "io_control_spec", "io_control_spec_list__begin", "io_control_spec_list", "format",
+			"input_item", "input_item_list__begin", "input_item_list", "output_item", "output_item_list__begin",
+			"output_item_list", "io_implied_do", "io_implied_do_object", "io_implied_do_control", "format_stmt",
+			"format_specification", "format_item_list__begin", "format_item_list", "main_program__begin",
+			"ext_function_subprogram", "main_program", "program_stmt", "end_program_stmt", "module",
+			"module_stmt__begin", "module_stmt", "end_module_stmt", "module_subprogram", "use_stmt",
+			"rename_list__begin", "rename_list", "only_list__begin", "only_list", "block_data",
+			"block_data_stmt__begin", "interface_block", "interface_specification", "interface_stmt__begin",
+			"interface_stmt", "end_interface_stmt", "interface_body", "generic_spec", "import_stmt", "external_stmt",
+			"procedure_declaration_stmt", "proc_decl", "proc_decl_list__begin", "proc_decl_list", "intrinsic_stmt",
+			"call_stmt", "procedure_designator", "actual_arg_spec", "actual_arg_spec_list__begin",
+			"actual_arg_spec_list", "actual_arg", "function_subprogram", "function_stmt__begin", "function_stmt",
+			"prefix_spec", "end_function_stmt", "subroutine_stmt__begin", "subroutine_stmt", "dummy_arg",
+			"dummy_arg_list__begin", "dummy_arg_list", "end_subroutine_stmt", "return_stmt", "contains_stmt",
+			"separate_module_subprogram", "separate_module_subprogram__begin", "mp_subprogram_stmt",
+			"end_mp_subprogram_stmt", "start_of_file", "end_of_file", "next_token"
+	};
+
+	public XMLPrinterInstrumented(String[] args, IFortranParser parser, String filename) {
+		super(args, parser, filename);
+		handlerStatistics = new HandlerStatistics(HANDLERS,
+				Integer.parseInt(cmd.getOptionValue("handler-stats-sampling", "16")));
+		handlerStatistics.setEvents(events);
+	}
+
+	@Override
+	public void generic_name_list_part(Token id) {
+		long start = handlerStatistics.begin(0);
+		super.generic_name_list_part(id);
+		handlerStatistics.end(0, start);
+	}
+
+	@Override
+	public void generic_name_list__begin() {
+		long start = handlerStatistics.begin(1);
+		super.generic_name_list__begin();
+		handlerStatistics.end(1, start);
+	}
+
+	@Override
+	public void generic_name_list(int count) {
+		long start = handlerStatistics.begin(2);
+		super.generic_name_list(count);
+		handlerStatistics.end(2, start);
+	}
+
+	@Override
+	public void specification_part(int numUseStmts, int numImportStmts, int numImplStmts, int numDeclConstructs) {
+		long start = handlerStatistics.begin(3);
+		super.specification_part(numUseStmts, numImportStmts, numImplStmts, numDeclConstructs);
+		handlerStatistics.end(3, start);
+	}
+
+	@Override
+	public void declaration_construct() {
+		long start = handlerStatistics.begin(4);
+		super.declaration_construct();
+		handlerStatistics.end(4, start);
+	}
+
+	@Override
+	public void execution_part_construct() {
+		long start = handlerStatistics.begin(5);
+		super.execution_part_construct();
+		handlerStatistics.end(5, start);
+	}
+
+	@Override
+	public void specification_stmt() {
+		long start = handlerStatistics.begin(6);
+		super.specification_stmt();
+		handlerStatistics.end(6, start);
+	}
+
+	@Override
+	public void executable_construct() {
+		long start = handlerStatistics.begin(7);
+		super.executable_construct();
+		handlerStatistics.end(7, start);
+	}
+
+	@Override
+	public void action_stmt() {
+		long start = handlerStatistics.begin(8);
+		super.action_stmt();
+		handlerStatistics.end(8, start);
+	}
+
+	@Override
+	public void keyword() {
+		long start = handlerStatistics.begin(9);
+		super.keyword();
+		handlerStatistics.end(9, start);
+	}
+
+	@Override
+	public void name(Token id) {
+		long start = handlerStatistics.begin(10);
+		super.name(id);
+		handlerStatistics.end(10, start);
+	}
+
+	@Override
+	public void constant(Token id) {
+		long start = handlerStatistics.begin(11);
+		super.constant(id);
+		handlerStatistics.end(11, start);
+	}
+
+	@Override
+	public void scalar_constant() {
+		long start = handlerStatistics.begin(12);
+		super.scalar_constant();
+		handlerStatistics.end(12, start);
+	}
+
+	@Override
+	public void literal_constant() {
+		long start = handlerStatistics.begin(13);
+		super.literal_constant();
+		handlerStatistics.end(13, start);
+	}
+
+	@Override
+	public void label(Token lbl) {
+		long start = handlerStatistics.begin(14);
+		super.label(lbl);
+		handlerStatistics.end(14, start);
+	}
+
+	@Override
+	public void type_param_value(boolean hasExpr, boolean hasAsterisk, boolean hasColon) {
+		long start = handlerStatistics.begin(15);
+		super.type_param_value(hasExpr, hasAsterisk, hasColon);
+		handlerStatistics.end(15, start);
+	}
+
+	@Override
+	public void intrinsic_type_spec(Token keyword1, Token keyword2, int type, boolean hasKindSelector) {
+		long start = handlerStatistics.begin(16);
+		super.intrinsic_type_spec(keyword1, keyword2, type, hasKindSelector);
+		handlerStatistics.end(16, start);
+	}
+
+	@Override
+	public void kind_selector(Token token1, Token token2, boolean hasExpression) {
+		long start = handlerStatistics.begin(17);
+		super.kind_selector(token1, token2, hasExpression);
+		handlerStatistics.end(17, start);
+	}
+
+	@Override
+	public void int_literal_constant(Token digitString, Token kindParam) {
+		long start = handlerStatistics.begin(18);
+		super.int_literal_constant(digitString, kindParam);
+		handlerStatistics.end(18, start);
+	}
+
+	@Override
+	public void boz_literal_constant(Token constant) {
+		long start = handlerStatistics.begin(19);
+		super.boz_literal_constant(constant);
+		handlerStatistics.end(19, start);
+	}
+
+	@Override
+	public void real_literal_constant(Token realConstant, Token kindParam) {
+		long start = handlerStatistics.begin(20);
+		super.real_literal_constant(realConstant, kindParam);
+		handlerStatistics.end(20, start);
+	}
+
+	@Override
+	public void char_selector(Token tk1, Token tk2, int kindOrLen1, int kindOrLen2, boolean hasAsterisk) {
+		long start = handlerStatistics.begin(21);
+		super.char_selector(tk1, tk2, kindOrLen1, kindOrLen2, hasAsterisk);
+		handlerStatistics.end(21, start);
+	}
+
+	@Override
+	public void char_length(boolean hasTypeParamValue) {
+		long start = handlerStatistics.begin(22);
+		super.char_length(hasTypeParamValue);
+		handlerStatistics.end(22, start);
+	}
+
+	@Override
+	public void scalar_int_literal_constant() {
+		long start = handlerStatistics.begin(23);
+		super.scalar_int_literal_constant();
+		handlerStatistics.end(23, start);
+	}
+
+	@Override
+	public void char_literal_constant(Token digitString, Token id, Token str) {
+		long start = handlerStatistics.begin(24);
+		super.char_literal_constant(digitString, id, str);
+		handlerStatistics.end(24, start);
+	}
+
+	@Override
+	public void logical_literal_constant(Token logicalValue, boolean isTrue, Token kindParam) {
+		long start = handlerStatistics.begin(25);
+		super.logical_literal_constant(logicalValue, isTrue, kindParam);
+		handlerStatistics.end(25, start);
+	}
+
+	@Override
+	public void derived_type_stmt(Token label, Token keyword, Token id, Token eos, boolean hasTypeAttrSpecList,
+			boolean hasGenericNameList) {
+		long start = handlerStatistics.begin(26);
+		super.derived_type_stmt(label, keyword, id, eos, hasTypeAttrSpecList, hasGenericNameList);
+		handlerStatistics.end(26, start);
+	}
+
+	@Override
+	public void derived_type_spec(Token typeName, boolean hasTypeParamSpecList) {
+		long start = handlerStatistics.begin(27);
+		super.derived_type_spec(typeName, hasTypeParamSpecList);
+		handlerStatistics.end(27, start);
+	}
+
+	@Override
+	public void array_constructor() {
+		long start = handlerStatistics.begin(28);
+		super.array_constructor();
+		handlerStatistics.end(28, start);
+	}
+
+	@Override
+	public void ac_spec() {
+		long start = handlerStatistics.begin(29);
+		super.ac_spec();
+		handlerStatistics.end(29, start);
+	}
+
+	@Override
+	public void ac_value() {
+		long start = handlerStatistics.begin(30);
+		super.ac_value();
+		handlerStatistics.end(30, start);
+	}
+
+	@Override
+	public void ac_value_list__begin() {
+		long start = handlerStatistics.begin(31);
+		super.ac_value_list__begin();
+		handlerStatistics.end(31, start);
+	}
+
+	@Override
+	public void ac_value_list(int count) {
+		long start = handlerStatistics.begin(32);
+		super.ac_value_list(count);
+		handlerStatistics.end(32, start);
+	}
+
+	@Override
+	public void ac_implied_do() {
+		long start = handlerStatistics.begin(33);
+		super.ac_implied_do();
+		handlerStatistics.end(33, start);
+	}
+
+	@Override
+	public void ac_implied_do_control(boolean hasStride) {
+		long start = handlerStatistics.begin(34);
+		super.ac_implied_do_control(hasStride);
+		handlerStatistics.end(34, start);
+	}
+
+	@Override
+	public void type_declaration_stmt(Token label, int numAttributes, Token eos) {
+		long start = handlerStatistics.begin(35);
+		super.type_declaration_stmt(label, numAttributes, eos);
+		handlerStatistics.end(35, start);
+	}
+
+	@Override
+	public void declaration_type_spec(Token udtKeyword, int type) {
+		long start = handlerStatistics.begin(36);
+		super.declaration_type_spec(udtKeyword, type);
+		handlerStatistics.end(36, start);
+	}
+
+	@Override
+	public void attr_spec(Token attrKeyword, int attr) {
+		long start = handlerStatistics.begin(37);
+		super.attr_spec(attrKeyword, attr);
+		handlerStatistics.end(37, start);
+	}
+
+	@Override
+	public void entity_decl(Token id, boolean hasArraySpec, boolean hasCoarraySpec, boolean hasCharLength,
+			boolean hasInitialization) {
+		long start = handlerStatistics.begin(38);
+		super.entity_decl(id, hasArraySpec, hasCoarraySpec, hasCharLength, hasInitialization);
+		handlerStatistics.end(38, start);
+	}
+
+	@Override
+	public void entity_decl_list__begin() {
+		long start = handlerStatistics.begin(39);
+		super.entity_decl_list__begin();
+		handlerStatistics.end(39, start);
+	}
+
+	@Override
+	public void entity_decl_list(int count) {
+		long start = handlerStatistics.begin(40);
+		super.entity_decl_list(count);
+		handlerStatistics.end(40, start);
+	}
+
+	@Override
+	public void initialization(boolean hasExpr, boolean hasNullInit) {
+		long start = handlerStatistics.begin(41);
+		super.initialization(hasExpr, hasNullInit);
+		handlerStatistics.end(41, start);
+	}
+
+	@Override
+	public void access_spec(Token keyword, int type) {
+		long start = handlerStatistics.begin(42);
+		super.access_spec(keyword, type);
+		handlerStatistics.end(42, start);
+	}
+
+	@Override
+	public void language_binding_spec(Token keyword, Token id, boolean hasName) {
+		long start = handlerStatistics.begin(43);
+		super.language_binding_spec(keyword, id, hasName);
+		handlerStatistics.end(43, start);
+	}
+
+	@Override
+	public void array_spec(int count) {
+		long start = handlerStatistics.begin(44);
+		super.array_spec(count);
+		handlerStatistics.end(44, start);
+	}
+
+	@Override
+	public void array_spec_element(int type) {
+		long start = handlerStatistics.begin(45);
+		super.array_spec_element(type);
+		handlerStatistics.end(45, start);
+	}
+
+	@Override
+	public void intent_spec(Token intentKeyword1, Token intentKeyword2, int intent) {
+		long start = handlerStatistics.begin(46);
+		super.intent_spec(intentKeyword1, intentKeyword2, intent);
+		handlerStatistics.end(46, start);
+	}
+
+	@Override
+	public void access_id_list__begin() {
+		long start = handlerStatistics.begin(47);
+		super.access_id_list__begin();
+		handlerStatistics.end(47, start);
+	}
+
+	@Override
+	public void access_id_list(int count) {
+		long start = handlerStatistics.begin(48);
+		super.access_id_list(count);
+		handlerStatistics.end(48, start);
+	}
+
+	@Override
+	public void allocatable_decl_list__begin() {
+		long start = handlerStatistics.begin(49);
+		super.allocatable_decl_list__begin();
+		handlerStatistics.end(49, start);
+	}
+
+	@Override
+	public void asynchronous_stmt(Token label, Token keyword, Token eos) {
+		long start = handlerStatistics.begin(50);
+		super.asynchronous_stmt(label, keyword, eos);
+		handlerStatistics.end(50, start);
+	}
+
+	@Override
+	public void codimension_decl_list__begin() {
+		long start = handlerStatistics.begin(51);
+		super.codimension_decl_list__begin();
+		handlerStatistics.end(51, start);
+	}
+
+	@Override
+	public void data_stmt_object() {
+		long start = handlerStatistics.begin(52);
+		super.data_stmt_object();
+		handlerStatistics.end(52, start);
+	}
+
+	@Override
+	public void data_stmt_object_list__begin() {
+		long start = handlerStatistics.begin(53);
+		super.data_stmt_object_list__begin();
+		handlerStatistics.end(53, start);
+	}
+
+	@Override
+	public void data_stmt_object_list(int count) {
+		long start = handlerStatistics.begin(54);
+		super.data_stmt_object_list(count);
+		handlerStatistics.end(54, start);
+	}
+
+	@Override
+	public void data_stmt_value(Token asterisk) {
+		long start = handlerStatistics.begin(55);
+		super.data_stmt_value(asterisk);
+		handlerStatistics.end(55, start);
+	}
+
+	@Override
+	public void data_stmt_value_list__begin() {
+		long start = handlerStatistics.begin(56);
+		super.data_stmt_value_list__begin();
+		handlerStatistics.end(56, start);
+	}
+
+	@Override
+	public void data_stmt_value_list(int count) {
+		long start = handlerStatistics.begin(57);
+		super.data_stmt_value_list(count);
+		handlerStatistics.end(57, start);
+	}
+
+	@Override
+	public void hollerith_literal_constant(Token hollerithConstant) {
+		long start = handlerStatistics.begin(58);
+		super.hollerith_literal_constant(hollerithConstant);
+		handlerStatistics.end(58, start);
+	}
+
+	@Override
+	public void dimension_stmt(Token label, Token keyword, Token eos, int count) {
+		long start = handlerStatistics.begin(59);
+		super.dimension_stmt(label, keyword, eos, count);
+		handlerStatistics.end(59, start);
+	}
+
+	@Override
+	public void dimension_decl(Token id) {
+		long start = handlerStatistics.begin(60);
+		super.dimension_decl(id);
+		handlerStatistics.end(60, start);
+	}
+
+	@Override
+	public void named_constant_def_list__begin() {
+		long start = handlerStatistics.begin(61);
+		super.named_constant_def_list__begin();
+		handlerStatistics.end(61, start);
+	}
+
+	@Override
+	public void named_constant_def_list(int count) {
+		long start = handlerStatistics.begin(62);
+		super.named_constant_def_list(count);
+		handlerStatistics.end(62, start);
+	}
+
+	@Override
+	public void named_constant_def(Token id) {
+		long start = handlerStatistics.begin(63);
+		super.named_constant_def(id);
+		handlerStatistics.end(63, start);
+	}
+
+	@Override
+	public void pointer_decl_list__begin() {
+		long start = handlerStatistics.begin(64);
+		super.pointer_decl_list__begin();
+		handlerStatistics.end(64, start);
+	}
+
+	@Override
+	public void save_stmt(Token label, Token keyword, Token eos, boolean hasSavedEntityList) {
+		long start = handlerStatistics.begin(65);
+		super.save_stmt(label, keyword, eos, hasSavedEntityList);
+		handlerStatistics.end(65, start);
+	}
+
+	@Override
+	public void target_decl_list__begin() {
+		long start = handlerStatistics.begin(66);
+		super.target_decl_list__begin();
+		handlerStatistics.end(66, start);
+	}
+
+	@Override
+	public void target_decl_list(int count) {
+		long start = handlerStatistics.begin(67);
+		super.target_decl_list(count);
+		handlerStatistics.end(67, start);
+	}
+
+	@Override
+	public void value_stmt(Token label, Token keyword, Token eos) {
+		long start = handlerStatistics.begin(68);
+		super.value_stmt(label, keyword, eos);
+		handlerStatistics.end(68, start);
+	}
+
+	@Override
+	public void volatile_stmt(Token label, Token keyword, Token eos) {
+		long start = handlerStatistics.begin(69);
+		super.volatile_stmt(label, keyword, eos);
+		handlerStatistics.end(69, start);
+	}
+
+	@Override
+	public void implicit_stmt(Token label, Token implicitKeyword, Token noneKeyword, Token eos,
+			boolean hasImplicitSpecList) {
+		long start = handlerStatistics.begin(70);
+		super.implicit_stmt(label, implicitKeyword, noneKeyword, eos, hasImplicitSpecList);
+		handlerStatistics.end(70, start);
+	}
+
+	@Override
+	public void letter_spec(Token id1, Token id2) {
+		long start = handlerStatistics.begin(71);
+		super.letter_spec(id1, id2);
+		handlerStatistics.end(71, start);
+	}
+
+	@Override
+	public void letter_spec_list__begin() {
+		long start = handlerStatistics.begin(72);
+		super.letter_spec_list__begin();
+		handlerStatistics.end(72, start);
+	}
+
+	@Override
+	public void letter_spec_list(int count) {
+		long start = handlerStatistics.begin(73);
+		super.letter_spec_list(count);
+		handlerStatistics.end(73, start);
+	}
+
+	@Override
+	public void namelist_stmt(Token label, Token keyword, Token eos, int count) {
+		long start = handlerStatistics.begin(74);
+		super.namelist_stmt(label, keyword, eos, count);
+		handlerStatistics.end(74, start);
+	}
+
+	@Override
+	public void namelist_group_name(Token id) {
+		long start = handlerStatistics.begin(75);
+		super.namelist_group_name(id);
+		handlerStatistics.end(75, start);
+	}
+
+	@Override
+	public void namelist_group_object_list(int count) {
+		long start = handlerStatistics.begin(76);
+		super.namelist_group_object_list(count);
+		handlerStatistics.end(76, start);
+	}
+
+	@Override
+	public void equivalence_set_list__begin() {
+		long start = handlerStatistics.begin(77);
+		super.equivalence_set_list__begin();
+		handlerStatistics.end(77, start);
+	}
+
+	@Override
+	public void equivalence_set_list(int count) {
+		long start = handlerStatistics.begin(78);
+		super.equivalence_set_list(count);
+		handlerStatistics.end(78, start);
+	}
+
+	@Override
+	public void equivalence_object() {
+		long start = handlerStatistics.begin(79);
+		super.equivalence_object();
+		handlerStatistics.end(79, start);
+	}
+
+	@Override
+	public void equivalence_object_list__begin() {
+		long start = handlerStatistics.begin(80);
+		super.equivalence_object_list__begin();
+		handlerStatistics.end(80, start);
+	}
+
+	@Override
+	public void equivalence_object_list(int count) {
+		long start = handlerStatistics.begin(81);
+		super.equivalence_object_list(count);
+		handlerStatistics.end(81, start);
+	}
+
+	@Override
+	public void common_block_name(Token id) {
+		long start = handlerStatistics.begin(82);
+		super.common_block_name(id);
+		handlerStatistics.end(82, start);
+	}
+
+	@Override
+	public void common_block_object_list__begin() {
+		long start = handlerStatistics.begin(83);
+		super.common_block_object_list__begin();
+		handlerStatistics.end(83, start);
+	}
+
+	@Override
+	public void common_block_object_list(int count) {
+		long start = handlerStatistics.begin(84);
+		super.common_block_object_list(count);
+		handlerStatistics.end(84, start);
+	}
+
+	@Override
+	public void variable() {
+		long start = handlerStatistics.begin(85);
+		super.variable();
+		handlerStatistics.end(85, start);
+	}
+
+	@Override
+	public void designator_or_func_ref() {
+		long start = handlerStatistics.begin(86);
+		super.designator_or_func_ref();
+		handlerStatistics.end(86, start);
+	}
+
+	@Override
+	public void substring_range(boolean hasLowerBound, boolean hasUpperBound) {
+		long start = handlerStatistics.begin(87);
+		super.substring_range(hasLowerBound, hasUpperBound);
+		handlerStatistics.end(87, start);
+	}
+
+	@Override
+	public void data_ref(int numPartRef) {
+		long start = handlerStatistics.begin(88);
+		super.data_ref(numPartRef);
+		handlerStatistics.end(88, start);
+	}
+
+	@Override
+	public void part_ref(Token id, boolean hasSectionSubscriptList, boolean hasImageSelector) {
+		long start = handlerStatistics.begin(89);
+		super.part_ref(id, hasSectionSubscriptList, hasImageSelector);
+		handlerStatistics.end(89, start);
+	}
+
+	@Override
+	public void section_subscript(boolean hasLowerBound, boolean hasUpperBound, boolean hasStride,
+			boolean isAmbiguous) {
+		long start = handlerStatistics.begin(90);
+		super.section_subscript(hasLowerBound, hasUpperBound, hasStride, isAmbiguous);
+		handlerStatistics.end(90, start);
+	}
+
+	@Override
+	public void section_subscript_list__begin() {
+		long start = handlerStatistics.begin(91);
+		super.section_subscript_list__begin();
+		handlerStatistics.end(91, start);
+	}
+
+	@Override
+	public void section_subscript_list(int count) {
+		long start = handlerStatistics.begin(92);
+		super.section_subscript_list(count);
+		handlerStatistics.end(92, start);
+	}
+
+	@Override
+	public void allocate_stmt(Token label, Token allocateKeyword, Token eos, boolean hasTypeSpec,
+			boolean hasAllocOptList) {
+		long start = handlerStatistics.begin(93);
+		super.allocate_stmt(label, allocateKeyword, eos, hasTypeSpec, hasAllocOptList);
+		handlerStatistics.end(93, start);
+	}
+
+	@Override
+	public void alloc_opt(Token allocOpt) {
+		long start = handlerStatistics.begin(94);
+		super.alloc_opt(allocOpt);
+		handlerStatistics.end(94, start);
+	}
+
+	@Override
+	public void alloc_opt_list__begin() {
+		long start = handlerStatistics.begin(95);
+		super.alloc_opt_list__begin();
+		handlerStatistics.end(95, start);
+	}
+
+	@Override
+	public void alloc_opt_list(int count) {
+		long start = handlerStatistics.begin(96);
+		super.alloc_opt_list(count);
+		handlerStatistics.end(96, start);
+	}
+
+	@Override
+	public void allocation(boolean hasAllocateShapeSpecList, boolean hasAllocateCoarraySpec) {
+		long start = handlerStatistics.begin(97);
+		super.allocation(hasAllocateShapeSpecList, hasAllocateCoarraySpec);
+		handlerStatistics.end(97, start);
+	}
+
+	@Override
+	public void allocation_list__begin() {
+		long start = handlerStatistics.begin(98);
+		super.allocation_list__begin();
+		handlerStatistics.end(98, start);
+	}
+
+	@Override
+	public void allocation_list(int count) {
+		long start = handlerStatistics.begin(99);
+		super.allocation_list(count);
+		handlerStatistics.end(99, start);
+	}
+
+	@Override
+	public void allocate_object() {
+		long start = handlerStatistics.begin(100);
+		super.allocate_object();
+		handlerStatistics.end(100, start);
+	}
+
+	@Override
+	public void allocate_object_list__begin() {
+		long start = handlerStatistics.begin(101);
+		super.allocate_object_list__begin();
+		handlerStatistics.end(101, start);
+	}
+
+	@Override
+	public void allocate_object_list(int count) {
+		long start = handlerStatistics.begin(102);
+		super.allocate_object_list(count);
+		handlerStatistics.end(102, start);
+	}
+
+	@Override
+	public void deallocate_stmt(Token label, Token deallocateKeyword, Token eos, boolean hasDeallocOptList) {
+		long start = handlerStatistics.begin(103);
+		super.deallocate_stmt(label, deallocateKeyword, eos, hasDeallocOptList);
+		handlerStatistics.end(103, start);
+	}
+
+	@Override
+	public void dealloc_opt(Token id) {
+		long start = handlerStatistics.begin(104);
+		super.dealloc_opt(id);
+		handlerStatistics.end(104, start);
+	}
+
+	@Override
+	public void dealloc_opt_list__begin() {
+		long start = handlerStatistics.begin(105);
+		super.dealloc_opt_list__begin();
+		handlerStatistics.end(105, start);
+	}
+
+	@Override
+	public void dealloc_opt_list(int count) {
+		long start = handlerStatistics.begin(106);
+		super.dealloc_opt_list(count);
+		handlerStatistics.end(106, start);
+	}
+
+	@Override
+	public void primary() {
+		long start = handlerStatistics.begin(107);
+		super.primary();
+		handlerStatistics.end(107, start);
+	}
+
+	@Override
+	public void parenthesized_expr() {
+		long start = handlerStatistics.begin(108);
+		super.parenthesized_expr();
+		handlerStatistics.end(108, start);
+	}
+
+	@Override
+	public void power_operand(boolean hasPowerOperand) {
+		long start = handlerStatistics.begin(109);
+		super.power_operand(hasPowerOperand);
+		handlerStatistics.end(109, start);
+	}
+
+	@Override
+	public void power_operand__power_op(Token powerOp) {
+		long start = handlerStatistics.begin(110);
+		super.power_operand__power_op(powerOp);
+		handlerStatistics.end(110, start);
+	}
+
+	@Override
+	public void mult_operand(int numMultOps) {
+		long start = handlerStatistics.begin(111);
+		super.mult_operand(numMultOps);
+		handlerStatistics.end(111, start);
+	}
+
+	@Override
+	public void mult_operand__mult_op(Token multOp) {
+		long start = handlerStatistics.begin(112);
+		super.mult_operand__mult_op(multOp);
+		handlerStatistics.end(112, start);
+	}
+
+	@Override
+	public void signed_operand(Token addOp) {
+		long start = handlerStatistics.begin(113);
+		super.signed_operand(addOp);
+		handlerStatistics.end(113, start);
+	}
+
+	@Override
+	public void add_operand(int numAddOps) {
+		long start = handlerStatistics.begin(114);
+		super.add_operand(numAddOps);
+		handlerStatistics.end(114, start);
+	}
+
+	@Override
+	public void add_operand__add_op(Token addOp) {
+		long start = handlerStatistics.begin(115);
+		super.add_operand__add_op(addOp);
+		handlerStatistics.end(115, start);
+	}
+
+	@Override
+	public void level_2_expr(int numConcatOps) {
+		long start = handlerStatistics.begin(116);
+		super.level_2_expr(numConcatOps);
+		handlerStatistics.end(116, start);
+	}
+
+	@Override
+	public void power_op(Token powerKeyword) {
+		long start = handlerStatistics.begin(117);
+		super.power_op(powerKeyword);
+		handlerStatistics.end(117, start);
+	}
+
+	@Override
+	public void mult_op(Token multKeyword) {
+		long start = handlerStatistics.begin(118);
+		super.mult_op(multKeyword);
+		handlerStatistics.end(118, start);
+	}
+
+	@Override
+	public void add_op(Token addKeyword) {
+		long start = handlerStatistics.begin(119);
+		super.add_op(addKeyword);
+		handlerStatistics.end(119, start);
+	}
+
+	@Override
+	public void level_3_expr(Token relOp) {
+		long start = handlerStatistics.begin(120);
+		super.level_3_expr(relOp);
+		handlerStatistics.end(120, start);
+	}
+
+	@Override
+	public void concat_op(Token concatKeyword) {
+		long start = handlerStatistics.begin(121);
+		super.concat_op(concatKeyword);
+		handlerStatistics.end(121, start);
+	}
+
+	@Override
+	public void rel_op(Token relOp) {
+		long start = handlerStatistics.begin(122);
+		super.rel_op(relOp);
+		handlerStatistics.end(122, start);
+	}
+
+	@Override
+	public void and_operand(boolean hasNotOp, int numAndOps) {
+		long start = handlerStatistics.begin(123);
+		super.and_operand(hasNotOp, numAndOps);
+		handlerStatistics.end(123, start);
+	}
+
+	@Override
+	public void and_operand__not_op(boolean hasNotOp) {
+		long start = handlerStatistics.begin(124);
+		super.and_operand__not_op(hasNotOp);
+		handlerStatistics.end(124, start);
+	}
+
+	@Override
+	public void or_operand(int numOrOps) {
+		long start = handlerStatistics.begin(125);
+		super.or_operand(numOrOps);
+		handlerStatistics.end(125, start);
+	}
+
+	@Override
+	public void equiv_operand(int numEquivOps) {
+		long start = handlerStatistics.begin(126);
+		super.equiv_operand(numEquivOps);
+		handlerStatistics.end(126, start);
+	}
+
+	@Override
+	public void equiv_operand__equiv_op(Token equivOp) {
+		long start = handlerStatistics.begin(127);
+		super.equiv_operand__equiv_op(equivOp);
+		handlerStatistics.end(127, start);
+	}
+
+	@Override
+	public void not_op(Token notOp) {
+		long start = handlerStatistics.begin(128);
+		super.not_op(notOp);
+		handlerStatistics.end(128, start);
+	}
+
+	@Override
+	public void and_op(Token andOp) {
+		long start = handlerStatistics.begin(129);
+		super.and_op(andOp);
+		handlerStatistics.end(129, start);
+	}
+
+	@Override
+	public void or_op(Token orOp) {
+		long start = handlerStatistics.begin(130);
+		super.or_op(orOp);
+		handlerStatistics.end(130, start);
+	}
+
+	@Override
+	public void equiv_op(Token equivOp) {
+		long start = handlerStatistics.begin(131);
+		super.equiv_op(equivOp);
+		handlerStatistics.end(131, start);
+	}
+
+	@Override
+	public void assignment_stmt(Token label, Token eos) {
+		long start = handlerStatistics.begin(132);
+		super.assignment_stmt(label, eos);
+		handlerStatistics.end(132, start);
+	}
+
+	@Override
+	public void pointer_assignment_stmt(Token label, Token eos, boolean hasBoundsSpecList,
+			boolean hasBoundsRemappingList) {
+		long start = handlerStatistics.begin(133);
+		super.pointer_assignment_stmt(label, eos, hasBoundsSpecList, hasBoundsRemappingList);
+		handlerStatistics.end(133, start);
+	}
+
+	@Override
+	public void forall_construct() {
+		long start = handlerStatistics.begin(134);
+		super.forall_construct();
+		handlerStatistics.end(134, start);
+	}
+
+	@Override
+	public void forall_construct_stmt(Token label, Token id, Token forallKeyword, Token eos) {
+		long start = handlerStatistics.begin(135);
+		super.forall_construct_stmt(label, id, forallKeyword, eos);
+		handlerStatistics.end(135, start);
+	}
+
+	@Override
+	public void forall_header() {
+		long start = handlerStatistics.begin(136);
+		super.forall_header();
+		handlerStatistics.end(136, start);
+	}
+
+	@Override
+	public void forall_triplet_spec(Token id, boolean hasStride) {
+		long start = handlerStatistics.begin(137);
+		super.forall_triplet_spec(id, hasStride);
+		handlerStatistics.end(137, start);
+	}
+
+	@Override
+	public void forall_triplet_spec_list__begin() {
+		long start = handlerStatistics.begin(138);
+		super.forall_triplet_spec_list__begin();
+		handlerStatistics.end(138, start);
+	}
+
+	@Override
+	public void forall_triplet_spec_list(int count) {
+		long start = handlerStatistics.begin(139);
+		super.forall_triplet_spec_list(count);
+		handlerStatistics.end(139, start);
+	}
+
+	@Override
+	public void forall_assignment_stmt(boolean isPointerAssignment) {
+		long start = handlerStatistics.begin(140);
+		super.forall_assignment_stmt(isPointerAssignment);
+		handlerStatistics.end(140, start);
+	}
+
+	@Override
+	public void end_forall_stmt(Token label, Token endKeyword, Token forallKeyword, Token id, Token eos) {
+		long start = handlerStatistics.begin(141);
+		super.end_forall_stmt(label, endKeyword, forallKeyword, id, eos);
+		handlerStatistics.end(141, start);
+	}
+
+	@Override
+	public void forall_stmt__begin() {
+		long start = handlerStatistics.begin(142);
+		super.forall_stmt__begin();
+		handlerStatistics.end(142, start);
+	}
+
+	@Override
+	public void forall_stmt(Token label, Token forallKeyword) {
+		long start = handlerStatistics.begin(143);
+		super.forall_stmt(label, forallKeyword);
+		handlerStatistics.end(143, start);
+	}
+
+	@Override
+	public void block() {
+		long start = handlerStatistics.begin(144);
+		super.block();
+		handlerStatistics.end(144, start);
+	}
+
+	@Override
+	public void if_construct() {
+		long start = handlerStatistics.begin(145);
+		super.if_construct();
+		handlerStatistics.end(145, start);
+	}
+
+	@Override
+	public void if_then_stmt(Token label, Token id, Token ifKeyword, Token thenKeyword, Token eos) {
+		long start = handlerStatistics.begin(146);
+		super.if_then_stmt(label, id, ifKeyword, thenKeyword, eos);
+		handlerStatistics.end(146, start);
+	}
+
+	@Override
+	public void else_if_stmt(Token label, Token elseKeyword, Token ifKeyword, Token thenKeyword, Token id, Token eos) {
+		long start = handlerStatistics.begin(147);
+		super.else_if_stmt(label, elseKeyword, ifKeyword, thenKeyword, id, eos);
+		handlerStatistics.end(147, start);
+	}
+
+	@Override
+	public void else_stmt(Token label, Token elseKeyword, Token id, Token eos) {
+		long start = handlerStatistics.begin(148);
+		super.else_stmt(label, elseKeyword, id, eos);
+		handlerStatistics.end(148, start);
+	}
+
+	@Override
+	public void end_if_stmt(Token label, Token endKeyword, Token ifKeyword, Token id, Token eos) {
+		long start = handlerStatistics.begin(149);
+		super.end_if_stmt(label, endKeyword, ifKeyword, id, eos);
+		handlerStatistics.end(149, start);
+	}
+
+	@Override
+	public void if_stmt__begin() {
+		long start = handlerStatistics.begin(150);
+		super.if_stmt__begin();
+		handlerStatistics.end(150, start);
+	}
+
+	@Override
+	public void if_stmt(Token label, Token ifKeyword) {
+		long start = handlerStatistics.begin(151);
+		super.if_stmt(label, ifKeyword);
+		handlerStatistics.end(151, start);
+	}
+
+	@Override
+	public void block_construct() {
+		long start = handlerStatistics.begin(152);
+		super.block_construct();
+		handlerStatistics.end(152, start);
+	}
+
+	@Override
+	public void case_construct() {
+		long start = handlerStatistics.begin(153);
+		super.case_construct();
+		handlerStatistics.end(153, start);
+	}
+
+	@Override
+	public void select_case_stmt(Token label, Token id, Token selectKeyword, Token caseKeyword, Token eos) {
+		long start = handlerStatistics.begin(154);
+		super.select_case_stmt(label, id, selectKeyword, caseKeyword, eos);
+		handlerStatistics.end(154, start);
+	}
+
+	@Override
+	public void case_stmt(Token label, Token caseKeyword, Token id, Token eos) {
+		long start = handlerStatistics.begin(155);
+		super.case_stmt(label, caseKeyword, id, eos);
+		handlerStatistics.end(155, start);
+	}
+
+	@Override
+	public void end_select_stmt(Token label, Token endKeyword, Token selectKeyword, Token id, Token eos) {
+		long start = handlerStatistics.begin(156);
+		super.end_select_stmt(label, endKeyword, selectKeyword, id, eos);
+		handlerStatistics.end(156, start);
+	}
+
+	@Override
+	public void case_selector(Token defaultToken) {
+		long start = handlerStatistics.begin(157);
+		super.case_selector(defaultToken);
+		handlerStatistics.end(157, start);
+	}
+
+	@Override
+	public void case_value_range() {
+		long start = handlerStatistics.begin(158);
+		super.case_value_range();
+		handlerStatistics.end(158, start);
+	}
+
+	@Override
+	public void case_value_range_list__begin() {
+		long start = handlerStatistics.begin(159);
+		super.case_value_range_list__begin();
+		handlerStatistics.end(159, start);
+	}
+
+	@Override
+	public void case_value_range_list(int count) {
+		long start = handlerStatistics.begin(160);
+		super.case_value_range_list(count);
+		handlerStatistics.end(160, start);
+	}
+
+	@Override
+	public void case_value_range_suffix() {
+		long start = handlerStatistics.begin(161);
+		super.case_value_range_suffix();
+		handlerStatistics.end(161, start);
+	}
+
+	@Override
+	public void case_value() {
+		long start = handlerStatistics.begin(162);
+		super.case_value();
+		handlerStatistics.end(162, start);
+	}
+
+	@Override
+	public void associate_construct() {
+		long start = handlerStatistics.begin(163);
+		super.associate_construct();
+		handlerStatistics.end(163, start);
+	}
+
+	@Override
+	public void associate_stmt(Token label, Token id, Token associateKeyword, Token eos) {
+		long start = handlerStatistics.begin(164);
+		super.associate_stmt(label, id, associateKeyword, eos);
+		handlerStatistics.end(164, start);
+	}
+
+	@Override
+	public void association_list__begin() {
+		long start = handlerStatistics.begin(165);
+		super.association_list__begin();
+		handlerStatistics.end(165, start);
+	}
+
+	@Override
+	public void association_list(int count) {
+		long start = handlerStatistics.begin(166);
+		super.association_list(count);
+		handlerStatistics.end(166, start);
+	}
+
+	@Override
+	public void association(Token id) {
+		long start = handlerStatistics.begin(167);
+		super.association(id);
+		handlerStatistics.end(167, start);
+	}
+
+	@Override
+	public void selector() {
+		long start = handlerStatistics.begin(168);
+		super.selector();
+		handlerStatistics.end(168, start);
+	}
+
+	@Override
+	public void end_associate_stmt(Token label, Token endKeyword, Token associateKeyword, Token id, Token eos) {
+		long start = handlerStatistics.begin(169);
+		super.end_associate_stmt(label, endKeyword, associateKeyword, id, eos);
+		handlerStatistics.end(169, start);
+	}
+
+	@Override
+	public void type_guard_stmt(Token label, Token typeKeyword, Token isOrDefaultKeyword, Token selectConstructName,
+			Token eos) {
+		long start = handlerStatistics.begin(170);
+		super.type_guard_stmt(label, typeKeyword, isOrDefaultKeyword, selectConstructName, eos);
+		handlerStatistics.end(170, start);
+	}
+
+	@Override
+	public void do_construct() {
+		long start = handlerStatistics.begin(171);
+		super.do_construct();
+		handlerStatistics.end(171, start);
+	}
+
+	@Override
+	public void block_do_construct() {
+		long start = handlerStatistics.begin(172);
+		super.block_do_construct();
+		handlerStatistics.end(172, start);
+	}
+
+	@Override
+	public void do_stmt(Token label, Token id, Token doKeyword, Token digitString, Token eos, boolean hasLoopControl) {
+		long start = handlerStatistics.begin(173);
+		super.do_stmt(label, id, doKeyword, digitString, eos, hasLoopControl);
+		handlerStatistics.end(173, start);
+	}
+
+	@Override
+	public void label_do_stmt(Token label, Token id, Token doKeyword, Token digitString, Token eos,
+			boolean hasLoopControl) {
+		long start = handlerStatistics.begin(174);
+		super.label_do_stmt(label, id, doKeyword, digitString, eos, hasLoopControl);
+		handlerStatistics.end(174, start);
+	}
+
+	@Override
+	public void loop_control(Token whileKeyword, int doConstructType, boolean hasOptExpr) {
+		long start = handlerStatistics.begin(175);
+		super.loop_control(whileKeyword, doConstructType, hasOptExpr);
+		handlerStatistics.end(175, start);
+	}
+
+	@Override
+	public void do_variable(Token id) {
+		long start = handlerStatistics.begin(176);
+		super.do_variable(id);
+		handlerStatistics.end(176, start);
+	}
+
+	@Override
+	public void end_do() {
+		long start = handlerStatistics.begin(177);
+		super.end_do();
+		handlerStatistics.end(177, start);
+	}
+
+	@Override
+	public void end_do_stmt(Token label, Token endKeyword, Token doKeyword, Token id, Token eos) {
+		long start = handlerStatistics.begin(178);
+		super.end_do_stmt(label, endKeyword, doKeyword, id, eos);
+		handlerStatistics.end(178, start);
+	}
+
+	@Override
+	public void do_term_action_stmt(Token label, Token endKeyword, Token doKeyword, Token id, Token eos,
+			boolean inserted) {
+		long start = handlerStatistics.begin(179);
+		super.do_term_action_stmt(label, endKeyword, doKeyword, id, eos, inserted);
+		handlerStatistics.end(179, start);
+	}
+
+	@Override
+	public void cycle_stmt(Token label, Token cycleKeyword, Token id, Token eos) {
+		long start = handlerStatistics.begin(180);
+		super.cycle_stmt(label, cycleKeyword, id, eos);
+		handlerStatistics.end(180, start);
+	}
+
+	@Override
+	public void exit_stmt(Token label, Token exitKeyword, Token id, Token eos) {
+		long start = handlerStatistics.begin(181);
+		super.exit_stmt(label, exitKeyword, id, eos);
+		handlerStatistics.end(181, start);
+	}
+
+	@Override
+	public void goto_stmt(Token label, Token goKeyword, Token toKeyword, Token target_label, Token eos) {
+		long start = handlerStatistics.begin(182);
+		super.goto_stmt(label, goKeyword, toKeyword, target_label, eos);
+		handlerStatistics.end(182, start);
+	}
+
+	@Override
+	public void continue_stmt(Token label, Token continueKeyword, Token eos) {
+		long start = handlerStatistics.begin(183);
+		super.continue_stmt(label, continueKeyword, eos);
+		handlerStatistics.end(183, start);
+	}
+
+	@Override
+	public void stop_stmt(Token label, Token stopKeyword, Token eos, boolean hasStopCode) {
+		long start = handlerStatistics.begin(184);
+		super.stop_stmt(label, stopKeyword, eos, hasStopCode);
+		handlerStatistics.end(184, start);
+	}
+
+	@Override
+	public void open_stmt(Token label, Token openKeyword, Token eos) {
+		long start = handlerStatistics.begin(185);
+		super.open_stmt(label, openKeyword, eos);
+		handlerStatistics.end(185, start);
+	}
+
+	@Override
+	public void connect_spec(Token id) {
+		long start = handlerStatistics.begin(186);
+		super.connect_spec(id);
+		handlerStatistics.end(186, start);
+	}
+
+	@Override
+	public void connect_spec_list__begin() {
+		long start = handlerStatistics.begin(187);
+		super.connect_spec_list__begin();
+		handlerStatistics.end(187, start);
+	}
+
+	@Override
+	public void connect_spec_list(int count) {
+		long start = handlerStatistics.begin(188);
+		super.connect_spec_list(count);
+		handlerStatistics.end(188, start);
+	}
+
+	@Override
+	public void close_stmt(Token label, Token closeKeyword, Token eos) {
+		long start = handlerStatistics.begin(189);
+		super.close_stmt(label, closeKeyword, eos);
+		handlerStatistics.end(189, start);
+	}
+
+	@Override
+	public void close_spec(Token closeSpec) {
+		long start = handlerStatistics.begin(190);
+		super.close_spec(closeSpec);
+		handlerStatistics.end(190, start);
+	}
+
+	@Override
+	public void close_spec_list__begin() {
+		long start = handlerStatistics.begin(191);
+		super.close_spec_list__begin();
+		handlerStatistics.end(191, start);
+	}
+
+	@Override
+	public void close_spec_list(int count) {
+		long start = handlerStatistics.begin(192);
+		super.close_spec_list(count);
+		handlerStatistics.end(192, start);
+	}
+
+	@Override
+	public void read_stmt(Token label, Token readKeyword, Token eos, boolean hasInputItemList) {
+		long start = handlerStatistics.begin(193);
+		super.read_stmt(label, readKeyword, eos, hasInputItemList);
+		handlerStatistics.end(193, start);
+	}
+
+	@Override
+	public void write_stmt(Token label, Token writeKeyword, Token eos, boolean hasOutputItemList) {
+		long start = handlerStatistics.begin(194);
+		super.write_stmt(label, writeKeyword, eos, hasOutputItemList);
+		handlerStatistics.end(194, start);
+	}
+
+	@Override
+	public void print_stmt(Token label, Token printKeyword, Token eos, boolean hasOutputItemList) {
+		long start = handlerStatistics.begin(195);
+		super.print_stmt(label, printKeyword, eos, hasOutputItemList);
+		handlerStatistics.end(195, start);
+	}
+
+	@Override
+	public void io_control_spec(boolean hasExpression, Token keyword, boolean hasAsterisk) {
+		long start = handlerStatistics.begin(196);
+		super.io_control_spec(hasExpression, keyword, hasAsterisk);
+		handlerStatistics.end(196, start);
+	}
+
+	@Override
+	public void io_control_spec_list__begin() {
+		long start = handlerStatistics.begin(197);
+		super.io_control_spec_list__begin();
+		handlerStatistics.end(197, start);
+	}
+
+	@Override
+	public void io_control_spec_list(int count) {
+		long start = handlerStatistics.begin(198);
+		super.io_control_spec_list(count);
+		handlerStatistics.end(198, start);
+	}
+
+	@Override
+	public void format() {
+		long start = handlerStatistics.begin(199);
+		super.format();
+		handlerStatistics.end(199, start);
+	}
+
+	@Override
+	public void input_item() {
+		long start = handlerStatistics.begin(200);
+		super.input_item();
+		handlerStatistics.end(200, start);
+	}
+
+	@Override
+	public void input_item_list__begin() {
+		long start = handlerStatistics.begin(201);
+		super.input_item_list__begin();
+		handlerStatistics.end(201, start);
+	}
+
+	@Override
+	public void input_item_list(int count) {
+		long start = handlerStatistics.begin(202);
+		super.input_item_list(count);
+		handlerStatistics.end(202, start);
+	}
+
+	@Override
+	public void output_item() {
+		long start = handlerStatistics.begin(203);
+		super.output_item();
+		handlerStatistics.end(203, start);
+	}
+
+	@Override
+	public void output_item_list__begin() {
+		long start = handlerStatistics.begin(204);
+		super.output_item_list__begin();
+		handlerStatistics.end(204, start);
+	}
+
+	@Override
+	public void output_item_list(int count) {
+		long start = handlerStatistics.begin(205);
+		super.output_item_list(count);
+		handlerStatistics.end(205, start);
+	}
+
+	@Override
+	public void io_implied_do() {
+		long start = handlerStatistics.begin(206);
+		super.io_implied_do();
+		handlerStatistics.end(206, start);
+	}
+
+	@Override
+	public void io_implied_do_object() {
+		long start = handlerStatistics.begin(207);
+		super.io_implied_do_object();
+		handlerStatistics.end(207, start);
+	}
+
+	@Override
+	public void io_implied_do_control(boolean hasStride) {
+		long start = handlerStatistics.begin(208);
+		super.io_implied_do_control(hasStride);
+		handlerStatistics.end(208, start);
+	}
+
+	@Override
+	public void format_stmt(Token label, Token formatKeyword, Token eos) {
+		long start = handlerStatistics.begin(209);
+		super.format_stmt(label, formatKeyword, eos);
+		handlerStatistics.end(209, start);
+	}
+
+	@Override
+	public void format_specification(boolean hasFormatItemList) {
+		long start = handlerStatistics.begin(210);
+		super.format_specification(hasFormatItemList);
+		handlerStatistics.end(210, start);
+	}
+
+	@Override
+	public void format_item_list__begin() {
+		long start = handlerStatistics.begin(211);
+		super.format_item_list__begin();
+		handlerStatistics.end(211, start);
+	}
+
+	@Override
+	public void format_item_list(int count) {
+		long start = handlerStatistics.begin(212);
+		super.format_item_list(count);
+		handlerStatistics.end(212, start);
+	}
+
+	@Override
+	public void main_program__begin() {
+		long start = handlerStatistics.begin(213);
+		super.main_program__begin();
+		handlerStatistics.end(213, start);
+	}
+
+	@Override
+	public void ext_function_subprogram(boolean hasPrefix) {
+		long start = handlerStatistics.begin(214);
+		super.ext_function_subprogram(hasPrefix);
+		handlerStatistics.end(214, start);
+	}
+
+	@Override
+	public void main_program(boolean hasProgramStmt, boolean hasExecutionPart, boolean hasInternalSubprogramPart) {
+		long start = handlerStatistics.begin(215);
+		super.main_program(hasProgramStmt, hasExecutionPart, hasInternalSubprogramPart);
+		handlerStatistics.end(215, start);
+	}
+
+	@Override
+	public void program_stmt(Token label, Token programKeyword, Token id, Token eos) {
+		long start = handlerStatistics.begin(216);
+		super.program_stmt(label, programKeyword, id, eos);
+		handlerStatistics.end(216, start);
+	}
+
+	@Override
+	public void end_program_stmt(Token label, Token endKeyword, Token programKeyword, Token id, Token eos) {
+		long start = handlerStatistics.begin(217);
+		super.end_program_stmt(label, endKeyword, programKeyword, id, eos);
+		handlerStatistics.end(217, start);
+	}
+
+	@Override
+	public void module() {
+		long start = handlerStatistics.begin(218);
+		super.module();
+		handlerStatistics.end(218, start);
+	}
+
+	@Override
+	public void module_stmt__begin() {
+		long start = handlerStatistics.begin(219);
+		super.module_stmt__begin();
+		handlerStatistics.end(219, start);
+	}
+
+	@Override
+	public void module_stmt(Token label, Token moduleKeyword, Token id, Token eos) {
+		long start = handlerStatistics.begin(220);
+		super.module_stmt(label, moduleKeyword, id, eos);
+		handlerStatistics.end(220, start);
+	}
+
+	@Override
+	public void end_module_stmt(Token label, Token endKeyword, Token moduleKeyword, Token id, Token eos) {
+		long start = handlerStatistics.begin(221);
+		super.end_module_stmt(label, endKeyword, moduleKeyword, id, eos);
+		handlerStatistics.end(221, start);
+	}
+
+	@Override
+	public void module_subprogram(boolean hasPrefix) {
+		long start = handlerStatistics.begin(222);
+		super.module_subprogram(hasPrefix);
+		handlerStatistics.end(222, start);
+	}
+
+	@Override
+	public void use_stmt(Token label, Token useKeyword, Token id, Token onlyKeyword, Token eos, boolean hasModuleNature,
+			boolean hasRenameList, boolean hasOnly) {
+		long start = handlerStatistics.begin(223);
+		super.use_stmt(label, useKeyword, id, onlyKeyword, eos, hasModuleNature, hasRenameList, hasOnly);
+		handlerStatistics.end(223, start);
+	}
+
+	@Override
+	public void rename_list__begin() {
+		long start = handlerStatistics.begin(224);
+		super.rename_list__begin();
+		handlerStatistics.end(224, start);
+	}
+
+	@Override
+	public void rename_list(int count) {
+		long start = handlerStatistics.begin(225);
+		super.rename_list(count);
+		handlerStatistics.end(225, start);
+	}
+
+	@Override
+	public void only_list__begin() {
+		long start = handlerStatistics.begin(226);
+		super.only_list__begin();
+		handlerStatistics.end(226, start);
+	}
+
+	@Override
+	public void only_list(int count) {
+		long start = handlerStatistics.begin(227);
+		super.only_list(count);
+		handlerStatistics.end(227, start);
+	}
+
+	@Override
+	public void block_data() {
+		long start = handlerStatistics.begin(228);
+		super.block_data();
+		handlerStatistics.end(228, start);
+	}
+
+	@Override
+	public void block_data_stmt__begin() {
+		long start = handlerStatistics.begin(229);
+		super.block_data_stmt__begin();
+		handlerStatistics.end(229, start);
+	}
+
+	@Override
+	public void interface_block() {
+		long start = handlerStatistics.begin(230);
+		super.interface_block();
+		handlerStatistics.end(230, start);
+	}
+
+	@Override
+	public void interface_specification() {
+		long start = handlerStatistics.begin(231);
+		super.interface_specification();
+		handlerStatistics.end(231, start);
+	}
+
+	@Override
+	public void interface_stmt__begin() {
+		long start = handlerStatistics.begin(232);
+		super.interface_stmt__begin();
+		handlerStatistics.end(232, start);
+	}
+
+	@Override
+	public void interface_stmt(Token label, Token abstractToken, Token keyword, Token eos, boolean hasGenericSpec) {
+		long start = handlerStatistics.begin(233);
+		super.interface_stmt(label, abstractToken, keyword, eos, hasGenericSpec);
+		handlerStatistics.end(233, start);
+	}
+
+	@Override
+	public void end_interface_stmt(Token label, Token kw1, Token kw2, Token eos, boolean hasGenericSpec) {
+		long start = handlerStatistics.begin(234);
+		super.end_interface_stmt(label, kw1, kw2, eos, hasGenericSpec);
+		handlerStatistics.end(234, start);
+	}
+
+	@Override
+	public void interface_body(boolean hasPrefix) {
+		long start = handlerStatistics.begin(235);
+		super.interface_body(hasPrefix);
+		handlerStatistics.end(235, start);
+	}
+
+	@Override
+	public void generic_spec(Token keyword, Token name, int type) {
+		long start = handlerStatistics.begin(236);
+		super.generic_spec(keyword, name, type);
+		handlerStatistics.end(236, start);
+	}
+
+	@Override
+	public void import_stmt(Token label, Token importKeyword, Token eos, boolean hasGenericNameList) {
+		long start = handlerStatistics.begin(237);
+		super.import_stmt(label, importKeyword, eos, hasGenericNameList);
+		handlerStatistics.end(237, start);
+	}
+
+	@Override
+	public void external_stmt(Token label, Token externalKeyword, Token eos) {
+		long start = handlerStatistics.begin(238);
+		super.external_stmt(label, externalKeyword, eos);
+		handlerStatistics.end(238, start);
+	}
+
+	@Override
+	public void procedure_declaration_stmt(Token label, Token procedureKeyword, Token eos, boolean hasProcInterface,
+			int count) {
+		long start = handlerStatistics.begin(239);
+		super.procedure_declaration_stmt(label, procedureKeyword, eos, hasProcInterface, count);
+		handlerStatistics.end(239, start);
+	}
+
+	@Override
+	public void proc_decl(Token id, boolean hasNullInit) {
+		long start = handlerStatistics.begin(240);
+		super.proc_decl(id, hasNullInit);
+		handlerStatistics.end(240, start);
+	}
+
+	@Override
+	public void proc_decl_list__begin() {
+		long start = handlerStatistics.begin(241);
+		super.proc_decl_list__begin();
+		handlerStatistics.end(241, start);
+	}
+
+	@Override
+	public void proc_decl_list(int count) {
+		long start = handlerStatistics.begin(242);
+		super.proc_decl_list(count);
+		handlerStatistics.end(242, start);
+	}
+
+	@Override
+	public void intrinsic_stmt(Token label, Token intrinsicKeyword, Token eos) {
+		long start = handlerStatistics.begin(243);
+		super.intrinsic_stmt(label, intrinsicKeyword, eos);
+		handlerStatistics.end(243, start);
+	}
+
+	@Override
+	public void call_stmt(Token label, Token callKeyword, Token eos, boolean hasActualArgSpecList) {
+		long start = handlerStatistics.begin(244);
+		super.call_stmt(label, callKeyword, eos, hasActualArgSpecList);
+		handlerStatistics.end(244, start);
+	}
+
+	@Override
+	public void procedure_designator() {
+		long start = handlerStatistics.begin(245);
+		super.procedure_designator();
+		handlerStatistics.end(245, start);
+	}
+
+	@Override
+	public void actual_arg_spec(Token keyword) {
+		long start = handlerStatistics.begin(246);
+		super.actual_arg_spec(keyword);
+		handlerStatistics.end(246, start);
+	}
+
+	@Override
+	public void actual_arg_spec_list__begin() {
+		long start = handlerStatistics.begin(247);
+		super.actual_arg_spec_list__begin();
+		handlerStatistics.end(247, start);
+	}
+
+	@Override
+	public void actual_arg_spec_list(int count) {
+		long start = handlerStatistics.begin(248);
+		super.actual_arg_spec_list(count);
+		handlerStatistics.end(248, start);
+	}
+
+	@Override
+	public void actual_arg(boolean hasExpr, Token label) {
+		long start = handlerStatistics.begin(249);
+		super.actual_arg(hasExpr, label);
+		handlerStatistics.end(249, start);
+	}
+
+	@Override
+	public void function_subprogram(boolean hasExePart, boolean hasIntSubProg) {
+		long start = handlerStatistics.begin(250);
+		super.function_subprogram(hasExePart, hasIntSubProg);
+		handlerStatistics.end(250, start);
+	}
+
+	@Override
+	public void function_stmt__begin() {
+		long start = handlerStatistics.begin(251);
+		super.function_stmt__begin();
+		handlerStatistics.end(251, start);
+	}
+
+	@Override
+	public void function_stmt(Token label, Token keyword, Token name, Token eos, boolean hasGenericNameList,
+			boolean hasSuffix) {
+		long start = handlerStatistics.begin(252);
+		super.function_stmt(label, keyword, name, eos, hasGenericNameList, hasSuffix);
+		handlerStatistics.end(252, start);
+	}
+
+	@Override
+	public void prefix_spec(boolean isDecTypeSpec) {
+		long start = handlerStatistics.begin(253);
+		super.prefix_spec(isDecTypeSpec);
+		handlerStatistics.end(253, start);
+	}
+
+	@Override
+	public void end_function_stmt(Token label, Token keyword1, Token keyword2, Token name, Token eos) {
+		long start = handlerStatistics.begin(254);
+		super.end_function_stmt(label, keyword1, keyword2, name, eos);
+		handlerStatistics.end(254, start);
+	}
+
+	@Override
+	public void subroutine_stmt__begin() {
+		long start = handlerStatistics.begin(255);
+		super.subroutine_stmt__begin();
+		handlerStatistics.end(255, start);
+	}
+
+	@Override
+	public void subroutine_stmt(Token label, Token keyword, Token name, Token eos, boolean hasPrefix,
+			boolean hasDummyArgList, boolean hasBindingSpec, boolean hasArgSpecifier) {
+		long start = handlerStatistics.begin(256);
+		super.subroutine_stmt(label, keyword, name, eos, hasPrefix, hasDummyArgList, hasBindingSpec, hasArgSpecifier);
+		handlerStatistics.end(256, start);
+	}
+
+	@Override
+	public void dummy_arg(Token dummy) {
+		long start = handlerStatistics.begin(257);
+		super.dummy_arg(dummy);
+		handlerStatistics.end(257, start);
+	}
+
+	@Override
+	public void dummy_arg_list__begin() {
+		long start = handlerStatistics.begin(258);
+		super.dummy_arg_list__begin();
+		handlerStatistics.end(258, start);
+	}
+
+	@Override
+	public void dummy_arg_list(int count) {
+		long start = handlerStatistics.begin(259);
+		super.dummy_arg_list(count);
+		handlerStatistics.end(259, start);
+	}
+
+	@Override
+	public void end_subroutine_stmt(Token label, Token keyword1, Token keyword2, Token name, Token eos) {
+		long start = handlerStatistics.begin(260);
+		super.end_subroutine_stmt(label, keyword1, keyword2, name, eos);
+		handlerStatistics.end(260, start);
+	}
+
+	@Override
+	public void return_stmt(Token label, Token keyword, Token eos, boolean hasScalarIntExpr) {
+		long start = handlerStatistics.begin(261);
+		super.return_stmt(label, keyword, eos, hasScalarIntExpr);
+		handlerStatistics.end(261, start);
+	}
+
+	@Override
+	public void contains_stmt(Token label, Token keyword, Token eos) {
+		long start = handlerStatistics.begin(262);
+		super.contains_stmt(label, keyword, eos);
+		handlerStatistics.end(262, start);
+	}
+
+	@Override
+	public void separate_module_subprogram(boolean hasExecutionPart, boolean hasInternalSubprogramPart) {
+		long start = handlerStatistics.begin(263);
+		super.separate_module_subprogram(hasExecutionPart, hasInternalSubprogramPart);
+		handlerStatistics.end(263, start);
+	}
+
+	@Override
+	public void separate_module_subprogram__begin() {
+		long start = handlerStatistics.begin(264);
+		super.separate_module_subprogram__begin();
+		handlerStatistics.end(264, start);
+	}
+
+	@Override
+	public void mp_subprogram_stmt(Token label, Token moduleKeyword, Token procedureKeyword, Token name, Token eos) {
+		long start = handlerStatistics.begin(265);
+		super.mp_subprogram_stmt(label, moduleKeyword, procedureKeyword, name, eos);
+		handlerStatistics.end(265, start);
+	}
+
+	@Override
+	public void end_mp_subprogram_stmt(Token label, Token keyword1, Token keyword2, Token name, Token eos) {
+		long start = handlerStatistics.begin(266);
+		super.end_mp_subprogram_stmt(label, keyword1, keyword2, name, eos);
+		handlerStatistics.end(266, start);
+	}
+
+	@Override
+	public void start_of_file(String filename, String path) {
+		long start = handlerStatistics.begin(267);
+		super.start_of_file(filename, path);
+		handlerStatistics.end(267, start);
+	}
+
+	@Override
+	public void end_of_file(String filename, String path) {
+		long start = handlerStatistics.begin(268);
+		super.end_of_file(filename, path);
+		handlerStatistics.end(268, start);
+	}
+
+	@Override
+	public void next_token(Token tk) {
+		long start = handlerStatistics.begin(269);
+		super.next_token(tk);
+		handlerStatistics.end(269, start);
+	}
+
+}
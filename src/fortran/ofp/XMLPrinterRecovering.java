@@ -0,0 +1,3543 @@
+package fortran.ofp;
+
+import org.antlr.runtime.Token;
+
+import fortran.ofp.parser.java.IFortranParser;
+
+/**
+ * XMLPrinter which does not abort on errors in its action handlers, but replaces the offending statement by an
+ * <error> node and continues with the next statement, see XMLPrinterBase.recoverFromError().
+ *
+ * Generated from XMLPrinter.java by generate_instrumented_printer.py, do not edit manually.
+ */
+public class XMLPrinterRecovering extends XMLPrinter {
+
+	public XMLPrinterRecovering(String[] args, IFortranParser parser, String filename) {
+		super(args, parser, filename);
+		recovery = true;
+	}
+
+	@Override
+	public void generic_name_list_part(Token id) {
+		if (!beginHandler("generic_name_list_part", null))
+			return;
+		try {
+			super.generic_name_list_part(id);
+		} catch (RuntimeException error) {
+			recoverFromError("generic_name_list_part", error, false, id);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void generic_name_list__begin() {
+		if (!beginHandler("generic_name_list__begin", null))
+			return;
+		try {
+			super.generic_name_list__begin();
+		} catch (RuntimeException error) {
+			recoverFromError("generic_name_list__begin", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void generic_name_list(int count) {
+		if (!beginHandler("generic_name_list", null))
+			return;
+		try {
+			super.generic_name_list(count);
+		} catch (RuntimeException error) {
+			recoverFromError("generic_name_list", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void specification_part(int numUseStmts, int numImportStmts, int numImplStmts, int numDeclConstructs) {
+		if (!beginHandler("specification_part", null))
+			return;
+		try {
+			super.specification_part(numUseStmts, numImportStmts, numImplStmts, numDeclConstructs);
+		} catch (RuntimeException error) {
+			recoverFromError("specification_part", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void declaration_construct() {
+		if (!beginHandler("declaration_construct", null))
+			return;
+		try {
+			super.declaration_construct();
+		} catch (RuntimeException error) {
+			recoverFromError("declaration_construct", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void execution_part_construct() {
+		if (!beginHandler("execution_part_construct", null))
+			return;
+		try {
+			super.execution_part_construct();
+		} catch (RuntimeException error) {
+			recoverFromError("execution_part_construct", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void specification_stmt() {
+		if (!beginHandler("specification_stmt", null))
+			return;
+		try {
+			super.specification_stmt();
+		} catch (RuntimeException error) {
+			recoverFromError("specification_stmt", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void executable_construct() {
+		if (!beginHandler("executable_construct", null))
+			return;
+		try {
+			super.executable_construct();
+		} catch (RuntimeException error) {
+			recoverFromError("executable_construct", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void action_stmt() {
+		if (!beginHandler("action_stmt", null))
+			return;
+		try {
+			super.action_stmt();
+		} catch (RuntimeException error) {
+			recoverFromError("action_stmt", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void keyword() {
+		if (!beginHandler("keyword", null))
+			return;
+		try {
+			super.keyword();
+		} catch (RuntimeException error) {
+			recoverFromError("keyword", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void name(Token id) {
+		if (!beginHandler("name", null))
+			return;
+		try {
+			super.name(id);
+		} catch (RuntimeException error) {
+			recoverFromError("name", error, false, id);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void constant(Token id) {
+		if (!beginHandler("constant", null))
+			return;
+		try {
+			super.constant(id);
+		} catch (RuntimeException error) {
+			recoverFromError("constant", error, false, id);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void scalar_constant() {
+		if (!beginHandler("scalar_constant", null))
+			return;
+		try {
+			super.scalar_constant();
+		} catch (RuntimeException error) {
+			recoverFromError("scalar_constant", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void literal_constant() {
+		if (!beginHandler("literal_constant", null))
+			return;
+		try {
+			super.literal_constant();
+		} catch (RuntimeException error) {
+			recoverFromError("literal_constant", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void label(Token lbl) {
+		if (!beginHandler("label", null))
+			return;
+		try {
+			super.label(lbl);
+		} catch (RuntimeException error) {
+			recoverFromError("label", error, false, lbl);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void type_param_value(boolean hasExpr, boolean hasAsterisk, boolean hasColon) {
+		if (!beginHandler("type_param_value", null))
+			return;
+		try {
+			super.type_param_value(hasExpr, hasAsterisk, hasColon);
+		} catch (RuntimeException error) {
+			recoverFromError("type_param_value", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void intrinsic_type_spec(Token keyword1, Token keyword2, int type, boolean hasKindSelector) {
+		if (!beginHandler("intrinsic_type_spec", null))
+			return;
+		try {
+			super.intrinsic_type_spec(keyword1, keyword2, type, hasKindSelector);
+		} catch (RuntimeException error) {
+			recoverFromError("intrinsic_type_spec", error, false, keyword1, keyword2);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void kind_selector(Token token1, Token token2, boolean hasExpression) {
+		if (!beginHandler("kind_selector", null))
+			return;
+		try {
+			super.kind_selector(token1, token2, hasExpression);
+		} catch (RuntimeException error) {
+			recoverFromError("kind_selector", error, false, token1, token2);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void int_literal_constant(Token digitString, Token kindParam) {
+		if (!beginHandler("int_literal_constant", null))
+			return;
+		try {
+			super.int_literal_constant(digitString, kindParam);
+		} catch (RuntimeException error) {
+			recoverFromError("int_literal_constant", error, false, digitString, kindParam);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void boz_literal_constant(Token constant) {
+		if (!beginHandler("boz_literal_constant", null))
+			return;
+		try {
+			super.boz_literal_constant(constant);
+		} catch (RuntimeException error) {
+			recoverFromError("boz_literal_constant", error, false, constant);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void real_literal_constant(Token realConstant, Token kindParam) {
+		if (!beginHandler("real_literal_constant", null))
+			return;
+		try {
+			super.real_literal_constant(realConstant, kindParam);
+		} catch (RuntimeException error) {
+			recoverFromError("real_literal_constant", error, false, realConstant, kindParam);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void char_selector(Token tk1, Token tk2, int kindOrLen1, int kindOrLen2, boolean hasAsterisk) {
+		if (!beginHandler("char_selector", null))
+			return;
+		try {
+			super.char_selector(tk1, tk2, kindOrLen1, kindOrLen2, hasAsterisk);
+		} catch (RuntimeException error) {
+			recoverFromError("char_selector", error, false, tk1, tk2);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void char_length(boolean hasTypeParamValue) {
+		if (!beginHandler("char_length", null))
+			return;
+		try {
+			super.char_length(hasTypeParamValue);
+		} catch (RuntimeException error) {
+			recoverFromError("char_length", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void scalar_int_literal_constant() {
+		if (!beginHandler("scalar_int_literal_constant", null))
+			return;
+		try {
+			super.scalar_int_literal_constant();
+		} catch (RuntimeException error) {
+			recoverFromError("scalar_int_literal_constant", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void char_literal_constant(Token digitString, Token id, Token str) {
+		if (!beginHandler("char_literal_constant", null))
+			return;
+		try {
+			super.char_literal_constant(digitString, id, str);
+		} catch (RuntimeException error) {
+			recoverFromError("char_literal_constant", error, false, digitString, id, str);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void logical_literal_constant(Token logicalValue, boolean isTrue, Token kindParam) {
+		if (!beginHandler("logical_literal_constant", null))
+			return;
+		try {
+			super.logical_literal_constant(logicalValue, isTrue, kindParam);
+		} catch (RuntimeException error) {
+			recoverFromError("logical_literal_constant", error, false, logicalValue, kindParam);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void derived_type_stmt(Token label, Token keyword, Token id, Token eos, boolean hasTypeAttrSpecList,
+			boolean hasGenericNameList) {
+		if (!beginHandler("derived_type_stmt", eos))
+			return;
+		try {
+			super.derived_type_stmt(label, keyword, id, eos, hasTypeAttrSpecList, hasGenericNameList);
+		} catch (RuntimeException error) {
+			recoverFromError("derived_type_stmt", error, true, label, keyword, id, eos);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void derived_type_spec(Token typeName, boolean hasTypeParamSpecList) {
+		if (!beginHandler("derived_type_spec", null))
+			return;
+		try {
+			super.derived_type_spec(typeName, hasTypeParamSpecList);
+		} catch (RuntimeException error) {
+			recoverFromError("derived_type_spec", error, false, typeName);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void array_constructor() {
+		if (!beginHandler("array_constructor", null))
+			return;
+		try {
+			super.array_constructor();
+		} catch (RuntimeException error) {
+			recoverFromError("array_constructor", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void ac_spec() {
+		if (!beginHandler("ac_spec", null))
+			return;
+		try {
+			super.ac_spec();
+		} catch (RuntimeException error) {
+			recoverFromError("ac_spec", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void ac_value() {
+		if (!beginHandler("ac_value", null))
+			return;
+		try {
+			super.ac_value();
+		} catch (RuntimeException error) {
+			recoverFromError("ac_value", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void ac_value_list__begin() {
+		if (!beginHandler("ac_value_list__begin", null))
+			return;
+		try {
+			super.ac_value_list__begin();
+		} catch (RuntimeException error) {
+			recoverFromError("ac_value_list__begin", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void ac_value_list(int count) {
+		if (!beginHandler("ac_value_list", null))
+			return;
+		try {
+			super.ac_value_list(count);
+		} catch (RuntimeException error) {
+			recoverFromError("ac_value_list", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void ac_implied_do() {
+		if (!beginHandler("ac_implied_do", null))
+			return;
+		try {
+			super.ac_implied_do();
+		} catch (RuntimeException error) {
+			recoverFromError("ac_implied_do", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void ac_implied_do_control(boolean hasStride) {
+		if (!beginHandler("ac_implied_do_control", null))
+			return;
+		try {
+			super.ac_implied_do_control(hasStride);
+		} catch (RuntimeException error) {
+			recoverFromError("ac_implied_do_control", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void type_declaration_stmt(Token label, int numAttributes, Token eos) {
+		if (!beginHandler("type_declaration_stmt", eos))
+			return;
+		try {
+			super.type_declaration_stmt(label, numAttributes, eos);
+		} catch (RuntimeException error) {
+			recoverFromError("type_declaration_stmt", error, true, label, eos);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void declaration_type_spec(Token udtKeyword, int type) {
+		if (!beginHandler("declaration_type_spec", null))
+			return;
+		try {
+			super.declaration_type_spec(udtKeyword, type);
+		} catch (RuntimeException error) {
+			recoverFromError("declaration_type_spec", error, false, udtKeyword);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void attr_spec(Token attrKeyword, int attr) {
+		if (!beginHandler("attr_spec", null))
+			return;
+		try {
+			super.attr_spec(attrKeyword, attr);
+		} catch (RuntimeException error) {
+			recoverFromError("attr_spec", error, false, attrKeyword);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void entity_decl(Token id, boolean hasArraySpec, boolean hasCoarraySpec, boolean hasCharLength,
+			boolean hasInitialization) {
+		if (!beginHandler("entity_decl", null))
+			return;
+		try {
+			super.entity_decl(id, hasArraySpec, hasCoarraySpec, hasCharLength, hasInitialization);
+		} catch (RuntimeException error) {
+			recoverFromError("entity_decl", error, false, id);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void entity_decl_list__begin() {
+		if (!beginHandler("entity_decl_list__begin", null))
+			return;
+		try {
+			super.entity_decl_list__begin();
+		} catch (RuntimeException error) {
+			recoverFromError("entity_decl_list__begin", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void entity_decl_list(int count) {
+		if (!beginHandler("entity_decl_list", null))
+			return;
+		try {
+			super.entity_decl_list(count);
+		} catch (RuntimeException error) {
+			recoverFromError("entity_decl_list", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void initialization(boolean hasExpr, boolean hasNullInit) {
+		if (!beginHandler("initialization", null))
+			return;
+		try {
+			super.initialization(hasExpr, hasNullInit);
+		} catch (RuntimeException error) {
+			recoverFromError("initialization", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void access_spec(Token keyword, int type) {
+		if (!beginHandler("access_spec", null))
+			return;
+		try {
+			super.access_spec(keyword, type);
+		} catch (RuntimeException error) {
+			recoverFromError("access_spec", error, false, keyword);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void language_binding_spec(Token keyword, Token id, boolean hasName) {
+		if (!beginHandler("language_binding_spec", null))
+			return;
+		try {
+			super.language_binding_spec(keyword, id, hasName);
+		} catch (RuntimeException error) {
+			recoverFromError("language_binding_spec", error, false, keyword, id);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void array_spec(int count) {
+		if (!beginHandler("array_spec", null))
+			return;
+		try {
+			super.array_spec(count);
+		} catch (RuntimeException error) {
+			recoverFromError("array_spec", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void array_spec_element(int type) {
+		if (!beginHandler("array_spec_element", null))
+			return;
+		try {
+			super.array_spec_element(type);
+		} catch (RuntimeException error) {
+			recoverFromError("array_spec_element", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void intent_spec(Token intentKeyword1, Token intentKeyword2, int intent) {
+		if (!beginHandler("intent_spec", null))
+			return;
+		try {
+			super.intent_spec(intentKeyword1, intentKeyword2, intent);
+		} catch (RuntimeException error) {
+			recoverFromError("intent_spec", error, false, intentKeyword1, intentKeyword2);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void access_id_list__begin() {
+		if (!beginHandler("access_id_list__begin", null))
+			return;
+		try {
+			super.access_id_list__begin();
+		} catch (RuntimeException error) {
+			recoverFromError("access_id_list__begin", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void access_id_list(int count) {
+		if (!beginHandler("access_id_list", null))
+			return;
+		try {
+			super.access_id_list(count);
+		} catch (RuntimeException error) {
+			recoverFromError("access_id_list", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void allocatable_decl_list__begin() {
+		if (!beginHandler("allocatable_decl_list__begin", null))
+			return;
+		try {
+			super.allocatable_decl_list__begin();
+		} catch (RuntimeException error) {
+			recoverFromError("allocatable_decl_list__begin", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void asynchronous_stmt(Token label, Token keyword, Token eos) {
+		if (!beginHandler("asynchronous_stmt", eos))
+			return;
+		try {
+			super.asynchronous_stmt(label, keyword, eos);
+		} catch (RuntimeException error) {
+			recoverFromError("asynchronous_stmt", error, true, label, keyword, eos);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void codimension_decl_list__begin() {
+		if (!beginHandler("codimension_decl_list__begin", null))
+			return;
+		try {
+			super.codimension_decl_list__begin();
+		} catch (RuntimeException error) {
+			recoverFromError("codimension_decl_list__begin", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void data_stmt_object() {
+		if (!beginHandler("data_stmt_object", null))
+			return;
+		try {
+			super.data_stmt_object();
+		} catch (RuntimeException error) {
+			recoverFromError("data_stmt_object", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void data_stmt_object_list__begin() {
+		if (!beginHandler("data_stmt_object_list__begin", null))
+			return;
+		try {
+			super.data_stmt_object_list__begin();
+		} catch (RuntimeException error) {
+			recoverFromError("data_stmt_object_list__begin", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void data_stmt_object_list(int count) {
+		if (!beginHandler("data_stmt_object_list", null))
+			return;
+		try {
+			super.data_stmt_object_list(count);
+		} catch (RuntimeException error) {
+			recoverFromError("data_stmt_object_list", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void data_stmt_value(Token asterisk) {
+		if (!beginHandler("data_stmt_value", null))
+			return;
+		try {
+			super.data_stmt_value(asterisk);
+		} catch (RuntimeException error) {
+			recoverFromError("data_stmt_value", error, false, asterisk);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void data_stmt_value_list__begin() {
+		if (!beginHandler("data_stmt_value_list__begin", null))
+			return;
+		try {
+			super.data_stmt_value_list__begin();
+		} catch (RuntimeException error) {
+			recoverFromError("data_stmt_value_list__begin", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void data_stmt_value_list(int count) {
+		if (!beginHandler("data_stmt_value_list", null))
+			return;
+		try {
+			super.data_stmt_value_list(count);
+		} catch (RuntimeException error) {
+			recoverFromError("data_stmt_value_list", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void hollerith_literal_constant(Token hollerithConstant) {
+		if (!beginHandler("hollerith_literal_constant", null))
+			return;
+		try {
+			super.hollerith_literal_constant(hollerithConstant);
+		} catch (RuntimeException error) {
+			recoverFromError("hollerith_literal_constant", error, false, hollerithConstant);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void dimension_stmt(Token label, Token keyword, Token eos, int count) {
+		if (!beginHandler("dimension_stmt", eos))
+			return;
+		try {
+			super.dimension_stmt(label, keyword, eos, count);
+		} catch (RuntimeException error) {
+			recoverFromError("dimension_stmt", error, true, label, keyword, eos);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void dimension_decl(Token id) {
+		if (!beginHandler("dimension_decl", null))
+			return;
+		try {
+			super.dimension_decl(id);
+		} catch (RuntimeException error) {
+			recoverFromError("dimension_decl", error, false, id);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void named_constant_def_list__begin() {
+		if (!beginHandler("named_constant_def_list__begin", null))
+			return;
+		try {
+			super.named_constant_def_list__begin();
+		} catch (RuntimeException error) {
+			recoverFromError("named_constant_def_list__begin", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void named_constant_def_list(int count) {
+		if (!beginHandler("named_constant_def_list", null))
+			return;
+		try {
+			super.named_constant_def_list(count);
+		} catch (RuntimeException error) {
+			recoverFromError("named_constant_def_list", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void named_constant_def(Token id) {
+		if (!beginHandler("named_constant_def", null))
+			return;
+		try {
+			super.named_constant_def(id);
+		} catch (RuntimeException error) {
+			recoverFromError("named_constant_def", error, false, id);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void pointer_decl_list__begin() {
+		if (!beginHandler("pointer_decl_list__begin", null))
+			return;
+		try {
+			super.pointer_decl_list__begin();
+		} catch (RuntimeException error) {
+			recoverFromError("pointer_decl_list__begin", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void save_stmt(Token label, Token keyword, Token eos, boolean hasSavedEntityList) {
+		if (!beginHandler("save_stmt", eos))
+			return;
+		try {
+			super.save_stmt(label, keyword, eos, hasSavedEntityList);
+		} catch (RuntimeException error) {
+			recoverFromError("save_stmt", error, true, label, keyword, eos);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void target_decl_list__begin() {
+		if (!beginHandler("target_decl_list__begin", null))
+			return;
+		try {
+			super.target_decl_list__begin();
+		} catch (RuntimeException error) {
+			recoverFromError("target_decl_list__begin", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void target_decl_list(int count) {
+		if (!beginHandler("target_decl_list", null))
+			return;
+		try {
+			super.target_decl_list(count);
+		} catch (RuntimeException error) {
+			recoverFromError("target_decl_list", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void value_stmt(Token label, Token keyword, Token eos) {
+		if (!beginHandler("value_stmt", eos))
+			return;
+		try {
+			super.value_stmt(label, keyword, eos);
+		} catch (RuntimeException error) {
+			recoverFromError("value_stmt", error, true, label, keyword, eos);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void volatile_stmt(Token label, Token keyword, Token eos) {
+		if (!beginHandler("volatile_stmt", eos))
+			return;
+		try {
+			super.volatile_stmt(label, keyword, eos);
+		} catch (RuntimeException error) {
+			recoverFromError("volatile_stmt", error, true, label, keyword, eos);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void implicit_stmt(Token label, Token implicitKeyword, Token noneKeyword, Token eos,
+			boolean hasImplicitSpecList) {
+		if (!beginHandler("implicit_stmt", eos))
+			return;
+		try {
+			super.implicit_stmt(label, implicitKeyword, noneKeyword, eos, hasImplicitSpecList);
+		} catch (RuntimeException error) {
+			recoverFromError("implicit_stmt", error, true, label, implicitKeyword, noneKeyword, eos);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void letter_spec(Token id1, Token id2) {
+		if (!beginHandler("letter_spec", null))
+			return;
+		try {
+			super.letter_spec(id1, id2);
+		} catch (RuntimeException error) {
+			recoverFromError("letter_spec", error, false, id1, id2);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void letter_spec_list__begin() {
+		if (!beginHandler("letter_spec_list__begin", null))
+			return;
+		try {
+			super.letter_spec_list__begin();
+		} catch (RuntimeException error) {
+			recoverFromError("letter_spec_list__begin", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void letter_spec_list(int count) {
+		if (!beginHandler("letter_spec_list", null))
+			return;
+		try {
+			super.letter_spec_list(count);
+		} catch (RuntimeException error) {
+			recoverFromError("letter_spec_list", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void namelist_stmt(Token label, Token keyword, Token eos, int count) {
+		if (!beginHandler("namelist_stmt", eos))
+			return;
+		try {
+			super.namelist_stmt(label, keyword, eos, count);
+		} catch (RuntimeException error) {
+			recoverFromError("namelist_stmt", error, true, label, keyword, eos);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void namelist_group_name(Token id) {
+		if (!beginHandler("namelist_group_name", null))
+			return;
+		try {
+			super.namelist_group_name(id);
+		} catch (RuntimeException error) {
+			recoverFromError("namelist_group_name", error, false, id);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void namelist_group_object_list(int count) {
+		if (!beginHandler("namelist_group_object_list", null))
+			return;
+		try {
+			super.namelist_group_object_list(count);
+		} catch (RuntimeException error) {
+			recoverFromError("namelist_group_object_list", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void equivalence_set_list__begin() {
+		if (!beginHandler("equivalence_set_list__begin", null))
+			return;
+		try {
+			super.equivalence_set_list__begin();
+		} catch (RuntimeException error) {
+			recoverFromError("equivalence_set_list__begin", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void equivalence_set_list(int count) {
+		if (!beginHandler("equivalence_set_list", null))
+			return;
+		try {
+			super.equivalence_set_list(count);
+		} catch (RuntimeException error) {
+			recoverFromError("equivalence_set_list", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void equivalence_object() {
+		if (!beginHandler("equivalence_object", null))
+			return;
+		try {
+			super.equivalence_object();
+		} catch (RuntimeException error) {
+			recoverFromError("equivalence_object", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void equivalence_object_list__begin() {
+		if (!beginHandler("equivalence_object_list__begin", null))
+			return;
+		try {
+			super.equivalence_object_list__begin();
+		} catch (RuntimeException error) {
+			recoverFromError("equivalence_object_list__begin", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void equivalence_object_list(int count) {
+		if (!beginHandler("equivalence_object_list", null))
+			return;
+		try {
+			super.equivalence_object_list(count);
+		} catch (RuntimeException error) {
+			recoverFromError("equivalence_object_list", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void common_block_name(Token id) {
+		if (!beginHandler("common_block_name", null))
+			return;
+		try {
+			super.common_block_name(id);
+		} catch (RuntimeException error) {
+			recoverFromError("common_block_name", error, false, id);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void common_block_object_list__begin() {
+		if (!beginHandler("common_block_object_list__begin", null))
+			return;
+		try {
+			super.common_block_object_list__begin();
+		} catch (RuntimeException error) {
+			recoverFromError("common_block_object_list__begin", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void common_block_object_list(int count) {
+		if (!beginHandler("common_block_object_list", null))
+			return;
+		try {
+			super.common_block_object_list(count);
+		} catch (RuntimeException error) {
+			recoverFromError("common_block_object_list", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void variable() {
+		if (!beginHandler("variable", null))
+			return;
+		try {
+			super.variable();
+		} catch (RuntimeException error) {
+			recoverFromError("variable", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void designator_or_func_ref() {
+		if (!beginHandler("designator_or_func_ref", null))
+			return;
+		try {
+			super.designator_or_func_ref();
+		} catch (RuntimeException error) {
+			recoverFromError("designator_or_func_ref", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void substring_range(boolean hasLowerBound, boolean hasUpperBound) {
+		if (!beginHandler("substring_range", null))
+			return;
+		try {
+			super.substring_range(hasLowerBound, hasUpperBound);
+		} catch (RuntimeException error) {
+			recoverFromError("substring_range", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void data_ref(int numPartRef) {
+		if (!beginHandler("data_ref", null))
+			return;
+		try {
+			super.data_ref(numPartRef);
+		} catch (RuntimeException error) {
+			recoverFromError("data_ref", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void part_ref(Token id, boolean hasSectionSubscriptList, boolean hasImageSelector) {
+		if (!beginHandler("part_ref", null))
+			return;
+		try {
+			super.part_ref(id, hasSectionSubscriptList, hasImageSelector);
+		} catch (RuntimeException error) {
+			recoverFromError("part_ref", error, false, id);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void section_subscript(boolean hasLowerBound, boolean hasUpperBound, boolean hasStride,
+			boolean isAmbiguous) {
+		if (!beginHandler("section_subscript", null))
+			return;
+		try {
+			super.section_subscript(hasLowerBound, hasUpperBound, hasStride, isAmbiguous);
+		} catch (RuntimeException error) {
+			recoverFromError("section_subscript", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void section_subscript_list__begin() {
+		if (!beginHandler("section_subscript_list__begin", null))
+			return;
+		try {
+			super.section_subscript_list__begin();
+		} catch (RuntimeException error) {
+			recoverFromError("section_subscript_list__begin", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void section_subscript_list(int count) {
+		if (!beginHandler("section_subscript_list", null))
+			return;
+		try {
+			super.section_subscript_list(count);
+		} catch (RuntimeException error) {
+			recoverFromError("section_subscript_list", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void allocate_stmt(Token label, Token allocateKeyword, Token eos, boolean hasTypeSpec,
+			boolean hasAllocOptList) {
+		if (!beginHandler("allocate_stmt", eos))
+			return;
+		try {
+			super.allocate_stmt(label, allocateKeyword, eos, hasTypeSpec, hasAllocOptList);
+		} catch (RuntimeException error) {
+			recoverFromError("allocate_stmt", error, true, label, allocateKeyword, eos);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void alloc_opt(Token allocOpt) {
+		if (!beginHandler("alloc_opt", null))
+			return;
+		try {
+			super.alloc_opt(allocOpt);
+		} catch (RuntimeException error) {
+			recoverFromError("alloc_opt", error, false, allocOpt);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void alloc_opt_list__begin() {
+		if (!beginHandler("alloc_opt_list__begin", null))
+			return;
+		try {
+			super.alloc_opt_list__begin();
+		} catch (RuntimeException error) {
+			recoverFromError("alloc_opt_list__begin", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void alloc_opt_list(int count) {
+		if (!beginHandler("alloc_opt_list", null))
+			return;
+		try {
+			super.alloc_opt_list(count);
+		} catch (RuntimeException error) {
+			recoverFromError("alloc_opt_list", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void allocation(boolean hasAllocateShapeSpecList, boolean hasAllocateCoarraySpec) {
+		if (!beginHandler("allocation", null))
+			return;
+		try {
+			super.allocation(hasAllocateShapeSpecList, hasAllocateCoarraySpec);
+		} catch (RuntimeException error) {
+			recoverFromError("allocation", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void allocation_list__begin() {
+		if (!beginHandler("allocation_list__begin", null))
+			return;
+		try {
+			super.allocation_list__begin();
+		} catch (RuntimeException error) {
+			recoverFromError("allocation_list__begin", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void allocation_list(int count) {
+		if (!beginHandler("allocation_list", null))
+			return;
+		try {
+			super.allocation_list(count);
+		} catch (RuntimeException error) {
+			recoverFromError("allocation_list", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void allocate_object() {
+		if (!beginHandler("allocate_object", null))
+			return;
+		try {
+			super.allocate_object();
+		} catch (RuntimeException error) {
+			recoverFromError("allocate_object", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void allocate_object_list__begin() {
+		if (!beginHandler("allocate_object_list__begin", null))
+			return;
+		try {
+			super.allocate_object_list__begin();
+		} catch (RuntimeException error) {
+			recoverFromError("allocate_object_list__begin", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void allocate_object_list(int count) {
+		if (!beginHandler("allocate_object_list", null))
+			return;
+		try {
+			super.allocate_object_list(count);
+		} catch (RuntimeException error) {
+			recoverFromError("allocate_object_list", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void deallocate_stmt(Token label, Token deallocateKeyword, Token eos, boolean hasDeallocOptList) {
+		if (!beginHandler("deallocate_stmt", eos))
+			return;
+		try {
+			super.deallocate_stmt(label, deallocateKeyword, eos, hasDeallocOptList);
+		} catch (RuntimeException error) {
+			recoverFromError("deallocate_stmt", error, true, label, deallocateKeyword, eos);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void dealloc_opt(Token id) {
+		if (!beginHandler("dealloc_opt", null))
+			return;
+		try {
+			super.dealloc_opt(id);
+		} catch (RuntimeException error) {
+			recoverFromError("dealloc_opt", error, false, id);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void dealloc_opt_list__begin() {
+		if (!beginHandler("dealloc_opt_list__begin", null))
+			return;
+		try {
+			super.dealloc_opt_list__begin();
+		} catch (RuntimeException error) {
+			recoverFromError("dealloc_opt_list__begin", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void dealloc_opt_list(int count) {
+		if (!beginHandler("dealloc_opt_list", null))
+			return;
+		try {
+			super.dealloc_opt_list(count);
+		} catch (RuntimeException error) {
+			recoverFromError("dealloc_opt_list", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void primary() {
+		if (!beginHandler("primary", null))
+			return;
+		try {
+			super.primary();
+		} catch (RuntimeException error) {
+			recoverFromError("primary", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void parenthesized_expr() {
+		if (!beginHandler("parenthesized_expr", null))
+			return;
+		try {
+			super.parenthesized_expr();
+		} catch (RuntimeException error) {
+			recoverFromError("parenthesized_expr", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void power_operand(boolean hasPowerOperand) {
+		if (!beginHandler("power_operand", null))
+			return;
+		try {
+			super.power_operand(hasPowerOperand);
+		} catch (RuntimeException error) {
+			recoverFromError("power_operand", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void power_operand__power_op(Token powerOp) {
+		if (!beginHandler("power_operand__power_op", null))
+			return;
+		try {
+			super.power_operand__power_op(powerOp);
+		} catch (RuntimeException error) {
+			recoverFromError("power_operand__power_op", error, false, powerOp);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void mult_operand(int numMultOps) {
+		if (!beginHandler("mult_operand", null))
+			return;
+		try {
+			super.mult_operand(numMultOps);
+		} catch (RuntimeException error) {
+			recoverFromError("mult_operand", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void mult_operand__mult_op(Token multOp) {
+		if (!beginHandler("mult_operand__mult_op", null))
+			return;
+		try {
+			super.mult_operand__mult_op(multOp);
+		} catch (RuntimeException error) {
+			recoverFromError("mult_operand__mult_op", error, false, multOp);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void signed_operand(Token addOp) {
+		if (!beginHandler("signed_operand", null))
+			return;
+		try {
+			super.signed_operand(addOp);
+		} catch (RuntimeException error) {
+			recoverFromError("signed_operand", error, false, addOp);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void add_operand(int numAddOps) {
+		if (!beginHandler("add_operand", null))
+			return;
+		try {
+			super.add_operand(numAddOps);
+		} catch (RuntimeException error) {
+			recoverFromError("add_operand", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void add_operand__add_op(Token addOp) {
+		if (!beginHandler("add_operand__add_op", null))
+			return;
+		try {
+			super.add_operand__add_op(addOp);
+		} catch (RuntimeException error) {
+			recoverFromError("add_operand__add_op", error, false, addOp);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void level_2_expr(int numConcatOps) {
+		if (!beginHandler("level_2_expr", null))
+			return;
+		try {
+			super.level_2_expr(numConcatOps);
+		} catch (RuntimeException error) {
+			recoverFromError("level_2_expr", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void power_op(Token powerKeyword) {
+		if (!beginHandler("power_op", null))
+			return;
+		try {
+			super.power_op(powerKeyword);
+		} catch (RuntimeException error) {
+			recoverFromError("power_op", error, false, powerKeyword);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void mult_op(Token multKeyword) {
+		if (!beginHandler("mult_op", null))
+			return;
+		try {
+			super.mult_op(multKeyword);
+		} catch (RuntimeException error) {
+			recoverFromError("mult_op", error, false, multKeyword);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void add_op(Token addKeyword) {
+		if (!beginHandler("add_op", null))
+			return;
+		try {
+			super.add_op(addKeyword);
+		} catch (RuntimeException error) {
+			recoverFromError("add_op", error, false, addKeyword);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void level_3_expr(Token relOp) {
+		if (!beginHandler("level_3_expr", null))
+			return;
+		try {
+			super.level_3_expr(relOp);
+		} catch (RuntimeException error) {
+			recoverFromError("level_3_expr", error, false, relOp);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void concat_op(Token concatKeyword) {
+		if (!beginHandler("concat_op", null))
+			return;
+		try {
+			super.concat_op(concatKeyword);
+		} catch (RuntimeException error) {
+			recoverFromError("concat_op", error, false, concatKeyword);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void rel_op(Token relOp) {
+		if (!beginHandler("rel_op", null))
+			return;
+		try {
+			super.rel_op(relOp);
+		} catch (RuntimeException error) {
+			recoverFromError("rel_op", error, false, relOp);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void and_operand(boolean hasNotOp, int numAndOps) {
+		if (!beginHandler("and_operand", null))
+			return;
+		try {
+			super.and_operand(hasNotOp, numAndOps);
+		} catch (RuntimeException error) {
+			recoverFromError("and_operand", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void and_operand__not_op(boolean hasNotOp) {
+		if (!beginHandler("and_operand__not_op", null))
+			return;
+		try {
+			super.and_operand__not_op(hasNotOp);
+		} catch (RuntimeException error) {
+			recoverFromError("and_operand__not_op", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void or_operand(int numOrOps) {
+		if (!beginHandler("or_operand", null))
+			return;
+		try {
+			super.or_operand(numOrOps);
+		} catch (RuntimeException error) {
+			recoverFromError("or_operand", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void equiv_operand(int numEquivOps) {
+		if (!beginHandler("equiv_operand", null))
+			return;
+		try {
+			super.equiv_operand(numEquivOps);
+		} catch (RuntimeException error) {
+			recoverFromError("equiv_operand", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void equiv_operand__equiv_op(Token equivOp) {
+		if (!beginHandler("equiv_operand__equiv_op", null))
+			return;
+		try {
+			super.equiv_operand__equiv_op(equivOp);
+		} catch (RuntimeException error) {
+			recoverFromError("equiv_operand__equiv_op", error, false, equivOp);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void not_op(Token notOp) {
+		if (!beginHandler("not_op", null))
+			return;
+		try {
+			super.not_op(notOp);
+		} catch (RuntimeException error) {
+			recoverFromError("not_op", error, false, notOp);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void and_op(Token andOp) {
+		if (!beginHandler("and_op", null))
+			return;
+		try {
+			super.and_op(andOp);
+		} catch (RuntimeException error) {
+			recoverFromError("and_op", error, false, andOp);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void or_op(Token orOp) {
+		if (!beginHandler("or_op", null))
+			return;
+		try {
+			super.or_op(orOp);
+		} catch (RuntimeException error) {
+			recoverFromError("or_op", error, false, orOp);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void equiv_op(Token equivOp) {
+		if (!beginHandler("equiv_op", null))
+			return;
+		try {
+			super.equiv_op(equivOp);
+		} catch (RuntimeException error) {
+			recoverFromError("equiv_op", error, false, equivOp);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void assignment_stmt(Token label, Token eos) {
+		if (!beginHandler("assignment_stmt", eos))
+			return;
+		try {
+			super.assignment_stmt(label, eos);
+		} catch (RuntimeException error) {
+			recoverFromError("assignment_stmt", error, true, label, eos);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void pointer_assignment_stmt(Token label, Token eos, boolean hasBoundsSpecList,
+			boolean hasBoundsRemappingList) {
+		if (!beginHandler("pointer_assignment_stmt", eos))
+			return;
+		try {
+			super.pointer_assignment_stmt(label, eos, hasBoundsSpecList, hasBoundsRemappingList);
+		} catch (RuntimeException error) {
+			recoverFromError("pointer_assignment_stmt", error, true, label, eos);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void forall_construct() {
+		if (!beginHandler("forall_construct", null))
+			return;
+		try {
+			super.forall_construct();
+		} catch (RuntimeException error) {
+			recoverFromError("forall_construct", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void forall_construct_stmt(Token label, Token id, Token forallKeyword, Token eos) {
+		if (!beginHandler("forall_construct_stmt", eos))
+			return;
+		try {
+			super.forall_construct_stmt(label, id, forallKeyword, eos);
+		} catch (RuntimeException error) {
+			recoverFromError("forall_construct_stmt", error, true, label, id, forallKeyword, eos);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void forall_header() {
+		if (!beginHandler("forall_header", null))
+			return;
+		try {
+			super.forall_header();
+		} catch (RuntimeException error) {
+			recoverFromError("forall_header", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void forall_triplet_spec(Token id, boolean hasStride) {
+		if (!beginHandler("forall_triplet_spec", null))
+			return;
+		try {
+			super.forall_triplet_spec(id, hasStride);
+		} catch (RuntimeException error) {
+			recoverFromError("forall_triplet_spec", error, false, id);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void forall_triplet_spec_list__begin() {
+		if (!beginHandler("forall_triplet_spec_list__begin", null))
+			return;
+		try {
+			super.forall_triplet_spec_list__begin();
+		} catch (RuntimeException error) {
+			recoverFromError("forall_triplet_spec_list__begin", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void forall_triplet_spec_list(int count) {
+		if (!beginHandler("forall_triplet_spec_list", null))
+			return;
+		try {
+			super.forall_triplet_spec_list(count);
+		} catch (RuntimeException error) {
+			recoverFromError("forall_triplet_spec_list", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void forall_assignment_stmt(boolean isPointerAssignment) {
+		if (!beginHandler("forall_assignment_stmt", null))
+			return;
+		try {
+			super.forall_assignment_stmt(isPointerAssignment);
+		} catch (RuntimeException error) {
+			recoverFromError("forall_assignment_stmt", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void end_forall_stmt(Token label, Token endKeyword, Token forallKeyword, Token id, Token eos) {
+		if (!beginHandler("end_forall_stmt", eos))
+			return;
+		try {
+			super.end_forall_stmt(label, endKeyword, forallKeyword, id, eos);
+		} catch (RuntimeException error) {
+			recoverFromError("end_forall_stmt", error, true, label, endKeyword, forallKeyword, id, eos);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void forall_stmt__begin() {
+		if (!beginHandler("forall_stmt__begin", null))
+			return;
+		try {
+			super.forall_stmt__begin();
+		} catch (RuntimeException error) {
+			recoverFromError("forall_stmt__begin", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void forall_stmt(Token label, Token forallKeyword) {
+		if (!beginHandler("forall_stmt", null))
+			return;
+		try {
+			super.forall_stmt(label, forallKeyword);
+		} catch (RuntimeException error) {
+			recoverFromError("forall_stmt", error, false, label, forallKeyword);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void block() {
+		if (!beginHandler("block", null))
+			return;
+		try {
+			super.block();
+		} catch (RuntimeException error) {
+			recoverFromError("block", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void if_construct() {
+		if (!beginHandler("if_construct", null))
+			return;
+		try {
+			super.if_construct();
+		} catch (RuntimeException error) {
+			recoverFromError("if_construct", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void if_then_stmt(Token label, Token id, Token ifKeyword, Token thenKeyword, Token eos) {
+		if (!beginHandler("if_then_stmt", eos))
+			return;
+		try {
+			super.if_then_stmt(label, id, ifKeyword, thenKeyword, eos);
+		} catch (RuntimeException error) {
+			recoverFromError("if_then_stmt", error, true, label, id, ifKeyword, thenKeyword, eos);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void else_if_stmt(Token label, Token elseKeyword, Token ifKeyword, Token thenKeyword, Token id, Token eos) {
+		if (!beginHandler("else_if_stmt", eos))
+			return;
+		try {
+			super.else_if_stmt(label, elseKeyword, ifKeyword, thenKeyword, id, eos);
+		} catch (RuntimeException error) {
+			recoverFromError("else_if_stmt", error, true, label, elseKeyword, ifKeyword, thenKeyword, id, eos);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void else_stmt(Token label, Token elseKeyword, Token id, Token eos) {
+		if (!beginHandler("else_stmt", eos))
+			return;
+		try {
+			super.else_stmt(label, elseKeyword, id, eos);
+		} catch (RuntimeException error) {
+			recoverFromError("else_stmt", error, true, label, elseKeyword, id, eos);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void end_if_stmt(Token label, Token endKeyword, Token ifKeyword, Token id, Token eos) {
+		if (!beginHandler("end_if_stmt", eos))
+			return;
+		try {
+			super.end_if_stmt(label, endKeyword, ifKeyword, id, eos);
+		} catch (RuntimeException error) {
+			recoverFromError("end_if_stmt", error, true, label, endKeyword, ifKeyword, id, eos);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void if_stmt__begin() {
+		if (!beginHandler("if_stmt__begin", null))
+			return;
+		try {
+			super.if_stmt__begin();
+		} catch (RuntimeException error) {
+			recoverFromError("if_stmt__begin", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void if_stmt(Token label, Token ifKeyword) {
+		if (!beginHandler("if_stmt", null))
+			return;
+		try {
+			super.if_stmt(label, ifKeyword);
+		} catch (RuntimeException error) {
+			recoverFromError("if_stmt", error, false, label, ifKeyword);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void block_construct() {
+		if (!beginHandler("block_construct", null))
+			return;
+		try {
+			super.block_construct();
+		} catch (RuntimeException error) {
+			recoverFromError("block_construct", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void case_construct() {
+		if (!beginHandler("case_construct", null))
+			return;
+		try {
+			super.case_construct();
+		} catch (RuntimeException error) {
+			recoverFromError("case_construct", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void select_case_stmt(Token label, Token id, Token selectKeyword, Token caseKeyword, Token eos) {
+		if (!beginHandler("select_case_stmt", eos))
+			return;
+		try {
+			super.select_case_stmt(label, id, selectKeyword, caseKeyword, eos);
+		} catch (RuntimeException error) {
+			recoverFromError("select_case_stmt", error, true, label, id, selectKeyword, caseKeyword, eos);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void case_stmt(Token label, Token caseKeyword, Token id, Token eos) {
+		if (!beginHandler("case_stmt", eos))
+			return;
+		try {
+			super.case_stmt(label, caseKeyword, id, eos);
+		} catch (RuntimeException error) {
+			recoverFromError("case_stmt", error, true, label, caseKeyword, id, eos);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void end_select_stmt(Token label, Token endKeyword, Token selectKeyword, Token id, Token eos) {
+		if (!beginHandler("end_select_stmt", eos))
+			return;
+		try {
+			super.end_select_stmt(label, endKeyword, selectKeyword, id, eos);
+		} catch (RuntimeException error) {
+			recoverFromError("end_select_stmt", error, true, label, endKeyword, selectKeyword, id, eos);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void case_selector(Token defaultToken) {
+		if (!beginHandler("case_selector", null))
+			return;
+		try {
+			super.case_selector(defaultToken);
+		} catch (RuntimeException error) {
+			recoverFromError("case_selector", error, false, defaultToken);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void case_value_range() {
+		if (!beginHandler("case_value_range", null))
+			return;
+		try {
+			super.case_value_range();
+		} catch (RuntimeException error) {
+			recoverFromError("case_value_range", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void case_value_range_list__begin() {
+		if (!beginHandler("case_value_range_list__begin", null))
+			return;
+		try {
+			super.case_value_range_list__begin();
+		} catch (RuntimeException error) {
+			recoverFromError("case_value_range_list__begin", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void case_value_range_list(int count) {
+		if (!beginHandler("case_value_range_list", null))
+			return;
+		try {
+			super.case_value_range_list(count);
+		} catch (RuntimeException error) {
+			recoverFromError("case_value_range_list", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void case_value_range_suffix() {
+		if (!beginHandler("case_value_range_suffix", null))
+			return;
+		try {
+			super.case_value_range_suffix();
+		} catch (RuntimeException error) {
+			recoverFromError("case_value_range_suffix", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void case_value() {
+		if (!beginHandler("case_value", null))
+			return;
+		try {
+			super.case_value();
+		} catch (RuntimeException error) {
+			recoverFromError("case_value", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void associate_construct() {
+		if (!beginHandler("associate_construct", null))
+			return;
+		try {
+			super.associate_construct();
+		} catch (RuntimeException error) {
+			recoverFromError("associate_construct", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void associate_stmt(Token label, Token id, Token associateKeyword, Token eos) {
+		if (!beginHandler("associate_stmt", eos))
+			return;
+		try {
+			super.associate_stmt(label, id, associateKeyword, eos);
+		} catch (RuntimeException error) {
+			recoverFromError("associate_stmt", error, true, label, id, associateKeyword, eos);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void association_list__begin() {
+		if (!beginHandler("association_list__begin", null))
+			return;
+		try {
+			super.association_list__begin();
+		} catch (RuntimeException error) {
+			recoverFromError("association_list__begin", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void association_list(int count) {
+		if (!beginHandler("association_list", null))
+			return;
+		try {
+			super.association_list(count);
+		} catch (RuntimeException error) {
+			recoverFromError("association_list", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void association(Token id) {
+		if (!beginHandler("association", null))
+			return;
+		try {
+			super.association(id);
+		} catch (RuntimeException error) {
+			recoverFromError("association", error, false, id);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void selector() {
+		if (!beginHandler("selector", null))
+			return;
+		try {
+			super.selector();
+		} catch (RuntimeException error) {
+			recoverFromError("selector", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void end_associate_stmt(Token label, Token endKeyword, Token associateKeyword, Token id, Token eos) {
+		if (!beginHandler("end_associate_stmt", eos))
+			return;
+		try {
+			super.end_associate_stmt(label, endKeyword, associateKeyword, id, eos);
+		} catch (RuntimeException error) {
+			recoverFromError("end_associate_stmt", error, true, label, endKeyword, associateKeyword, id, eos);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void type_guard_stmt(Token label, Token typeKeyword, Token isOrDefaultKeyword, Token selectConstructName,
+			Token eos) {
+		if (!beginHandler("type_guard_stmt", eos))
+			return;
+		try {
+			super.type_guard_stmt(label, typeKeyword, isOrDefaultKeyword, selectConstructName, eos);
+		} catch (RuntimeException error) {
+			recoverFromError("type_guard_stmt", error, true, label, typeKeyword, isOrDefaultKeyword, selectConstructName, eos);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void do_construct() {
+		if (!beginHandler("do_construct", null))
+			return;
+		try {
+			super.do_construct();
+		} catch (RuntimeException error) {
+			recoverFromError("do_construct", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void block_do_construct() {
+		if (!beginHandler("block_do_construct", null))
+			return;
+		try {
+			super.block_do_construct();
+		} catch (RuntimeException error) {
+			recoverFromError("block_do_construct", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void do_stmt(Token label, Token id, Token doKeyword, Token digitString, Token eos, boolean hasLoopControl) {
+		if (!beginHandler("do_stmt", eos))
+			return;
+		try {
+			super.do_stmt(label, id, doKeyword, digitString, eos, hasLoopControl);
+		} catch (RuntimeException error) {
+			recoverFromError("do_stmt", error, true, label, id, doKeyword, digitString, eos);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void label_do_stmt(Token label, Token id, Token doKeyword, Token digitString, Token eos,
+			boolean hasLoopControl) {
+		if (!beginHandler("label_do_stmt", eos))
+			return;
+		try {
+			super.label_do_stmt(label, id, doKeyword, digitString, eos, hasLoopControl);
+		} catch (RuntimeException error) {
+			recoverFromError("label_do_stmt", error, true, label, id, doKeyword, digitString, eos);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void loop_control(Token whileKeyword, int doConstructType, boolean hasOptExpr) {
+		if (!beginHandler("loop_control", null))
+			return;
+		try {
+			super.loop_control(whileKeyword, doConstructType, hasOptExpr);
+		} catch (RuntimeException error) {
+			recoverFromError("loop_control", error, false, whileKeyword);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void do_variable(Token id) {
+		if (!beginHandler("do_variable", null))
+			return;
+		try {
+			super.do_variable(id);
+		} catch (RuntimeException error) {
+			recoverFromError("do_variable", error, false, id);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void end_do() {
+		if (!beginHandler("end_do", null))
+			return;
+		try {
+			super.end_do();
+		} catch (RuntimeException error) {
+			recoverFromError("end_do", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void end_do_stmt(Token label, Token endKeyword, Token doKeyword, Token id, Token eos) {
+		if (!beginHandler("end_do_stmt", eos))
+			return;
+		try {
+			super.end_do_stmt(label, endKeyword, doKeyword, id, eos);
+		} catch (RuntimeException error) {
+			recoverFromError("end_do_stmt", error, true, label, endKeyword, doKeyword, id, eos);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void do_term_action_stmt(Token label, Token endKeyword, Token doKeyword, Token id, Token eos,
+			boolean inserted) {
+		if (!beginHandler("do_term_action_stmt", eos))
+			return;
+		try {
+			super.do_term_action_stmt(label, endKeyword, doKeyword, id, eos, inserted);
+		} catch (RuntimeException error) {
+			recoverFromError("do_term_action_stmt", error, true, label, endKeyword, doKeyword, id, eos);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void cycle_stmt(Token label, Token cycleKeyword, Token id, Token eos) {
+		if (!beginHandler("cycle_stmt", eos))
+			return;
+		try {
+			super.cycle_stmt(label, cycleKeyword, id, eos);
+		} catch (RuntimeException error) {
+			recoverFromError("cycle_stmt", error, true, label, cycleKeyword, id, eos);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void exit_stmt(Token label, Token exitKeyword, Token id, Token eos) {
+		if (!beginHandler("exit_stmt", eos))
+			return;
+		try {
+			super.exit_stmt(label, exitKeyword, id, eos);
+		} catch (RuntimeException error) {
+			recoverFromError("exit_stmt", error, true, label, exitKeyword, id, eos);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void goto_stmt(Token label, Token goKeyword, Token toKeyword, Token target_label, Token eos) {
+		if (!beginHandler("goto_stmt", eos))
+			return;
+		try {
+			super.goto_stmt(label, goKeyword, toKeyword, target_label, eos);
+		} catch (RuntimeException error) {
+			recoverFromError("goto_stmt", error, true, label, goKeyword, toKeyword, target_label, eos);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void continue_stmt(Token label, Token continueKeyword, Token eos) {
+		if (!beginHandler("continue_stmt", eos))
+			return;
+		try {
+			super.continue_stmt(label, continueKeyword, eos);
+		} catch (RuntimeException error) {
+			recoverFromError("continue_stmt", error, true, label, continueKeyword, eos);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void stop_stmt(Token label, Token stopKeyword, Token eos, boolean hasStopCode) {
+		if (!beginHandler("stop_stmt", eos))
+			return;
+		try {
+			super.stop_stmt(label, stopKeyword, eos, hasStopCode);
+		} catch (RuntimeException error) {
+			recoverFromError("stop_stmt", error, true, label, stopKeyword, eos);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void open_stmt(Token label, Token openKeyword, Token eos) {
+		if (!beginHandler("open_stmt", eos))
+			return;
+		try {
+			super.open_stmt(label, openKeyword, eos);
+		} catch (RuntimeException error) {
+			recoverFromError("open_stmt", error, true, label, openKeyword, eos);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void connect_spec(Token id) {
+		if (!beginHandler("connect_spec", null))
+			return;
+		try {
+			super.connect_spec(id);
+		} catch (RuntimeException error) {
+			recoverFromError("connect_spec", error, false, id);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void connect_spec_list__begin() {
+		if (!beginHandler("connect_spec_list__begin", null))
+			return;
+		try {
+			super.connect_spec_list__begin();
+		} catch (RuntimeException error) {
+			recoverFromError("connect_spec_list__begin", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void connect_spec_list(int count) {
+		if (!beginHandler("connect_spec_list", null))
+			return;
+		try {
+			super.connect_spec_list(count);
+		} catch (RuntimeException error) {
+			recoverFromError("connect_spec_list", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void close_stmt(Token label, Token closeKeyword, Token eos) {
+		if (!beginHandler("close_stmt", eos))
+			return;
+		try {
+			super.close_stmt(label, closeKeyword, eos);
+		} catch (RuntimeException error) {
+			recoverFromError("close_stmt", error, true, label, closeKeyword, eos);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void close_spec(Token closeSpec) {
+		if (!beginHandler("close_spec", null))
+			return;
+		try {
+			super.close_spec(closeSpec);
+		} catch (RuntimeException error) {
+			recoverFromError("close_spec", error, false, closeSpec);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void close_spec_list__begin() {
+		if (!beginHandler("close_spec_list__begin", null))
+			return;
+		try {
+			super.close_spec_list__begin();
+		} catch (RuntimeException error) {
+			recoverFromError("close_spec_list__begin", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void close_spec_list(int count) {
+		if (!beginHandler("close_spec_list", null))
+			return;
+		try {
+			super.close_spec_list(count);
+		} catch (RuntimeException error) {
+			recoverFromError("close_spec_list", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void read_stmt(Token label, Token readKeyword, Token eos, boolean hasInputItemList) {
+		if (!beginHandler("read_stmt", eos))
+			return;
+		try {
+			super.read_stmt(label, readKeyword, eos, hasInputItemList);
+		} catch (RuntimeException error) {
+			recoverFromError("read_stmt", error, true, label, readKeyword, eos);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void write_stmt(Token label, Token writeKeyword, Token eos, boolean hasOutputItemList) {
+		if (!beginHandler("write_stmt", eos))
+			return;
+		try {
+			super.write_stmt(label, writeKeyword, eos, hasOutputItemList);
+		} catch (RuntimeException error) {
+			recoverFromError("write_stmt", error, true, label, writeKeyword, eos);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void print_stmt(Token label, Token printKeyword, Token eos, boolean hasOutputItemList) {
+		if (!beginHandler("print_stmt", eos))
+			return;
+		try {
+			super.print_stmt(label, printKeyword, eos, hasOutputItemList);
+		} catch (RuntimeException error) {
+			recoverFromError("print_stmt", error, true, label, printKeyword, eos);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void io_control_spec(boolean hasExpression, Token keyword, boolean hasAsterisk) {
+		if (!beginHandler("io_control_spec", null))
+			return;
+		try {
+			super.io_control_spec(hasExpression, keyword, hasAsterisk);
+		} catch (RuntimeException error) {
+			recoverFromError("io_control_spec", error, false, keyword);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void io_control_spec_list__begin() {
+		if (!beginHandler("io_control_spec_list__begin", null))
+			return;
+		try {
+			super.io_control_spec_list__begin();
+		} catch (RuntimeException error) {
+			recoverFromError("io_control_spec_list__begin", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void io_control_spec_list(int count) {
+		if (!beginHandler("io_control_spec_list", null))
+			return;
+		try {
+			super.io_control_spec_list(count);
+		} catch (RuntimeException error) {
+			recoverFromError("io_control_spec_list", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void format() {
+		if (!beginHandler("format", null))
+			return;
+		try {
+			super.format();
+		} catch (RuntimeException error) {
+			recoverFromError("format", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void input_item() {
+		if (!beginHandler("input_item", null))
+			return;
+		try {
+			super.input_item();
+		} catch (RuntimeException error) {
+			recoverFromError("input_item", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void input_item_list__begin() {
+		if (!beginHandler("input_item_list__begin", null))
+			return;
+		try {
+			super.input_item_list__begin();
+		} catch (RuntimeException error) {
+			recoverFromError("input_item_list__begin", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void input_item_list(int count) {
+		if (!beginHandler("input_item_list", null))
+			return;
+		try {
+			super.input_item_list(count);
+		} catch (RuntimeException error) {
+			recoverFromError("input_item_list", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void output_item() {
+		if (!beginHandler("output_item", null))
+			return;
+		try {
+			super.output_item();
+		} catch (RuntimeException error) {
+			recoverFromError("output_item", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void output_item_list__begin() {
+		if (!beginHandler("output_item_list__begin", null))
+			return;
+		try {
+			super.output_item_list__begin();
+		} catch (RuntimeException error) {
+			recoverFromError("output_item_list__begin", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void output_item_list(int count) {
+		if (!beginHandler("output_item_list", null))
+			return;
+		try {
+			super.output_item_list(count);
+		} catch (RuntimeException error) {
+			recoverFromError("output_item_list", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void io_implied_do() {
+		if (!beginHandler("io_implied_do", null))
+			return;
+		try {
+			super.io_implied_do();
+		} catch (RuntimeException error) {
+			recoverFromError("io_implied_do", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void io_implied_do_object() {
+		if (!beginHandler("io_implied_do_object", null))
+			return;
+		try {
+			super.io_implied_do_object();
+		} catch (RuntimeException error) {
+			recoverFromError("io_implied_do_object", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void io_implied_do_control(boolean hasStride) {
+		if (!beginHandler("io_implied_do_control", null))
+			return;
+		try {
+			super.io_implied_do_control(hasStride);
+		} catch (RuntimeException error) {
+			recoverFromError("io_implied_do_control", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void format_stmt(Token label, Token formatKeyword, Token eos) {
+		if (!beginHandler("format_stmt", eos))
+			return;
+		try {
+			super.format_stmt(label, formatKeyword, eos);
+		} catch (RuntimeException error) {
+			recoverFromError("format_stmt", error, true, label, formatKeyword, eos);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void format_specification(boolean hasFormatItemList) {
+		if (!beginHandler("format_specification", null))
+			return;
+		try {
+			super.format_specification(hasFormatItemList);
+		} catch (RuntimeException error) {
+			recoverFromError("format_specification", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void format_item_list__begin() {
+		if (!beginHandler("format_item_list__begin", null))
+			return;
+		try {
+			super.format_item_list__begin();
+		} catch (RuntimeException error) {
+			recoverFromError("format_item_list__begin", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void format_item_list(int count) {
+		if (!beginHandler("format_item_list", null))
+			return;
+		try {
+			super.format_item_list(count);
+		} catch (RuntimeException error) {
+			recoverFromError("format_item_list", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void main_program__begin() {
+		if (!beginHandler("main_program__begin", null))
+			return;
+		try {
+			super.main_program__begin();
+		} catch (RuntimeException error) {
+			recoverFromError("main_program__begin", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void ext_function_subprogram(boolean hasPrefix) {
+		if (!beginHandler("ext_function_subprogram", null))
+			return;
+		try {
+			super.ext_function_subprogram(hasPrefix);
+		} catch (RuntimeException error) {
+			recoverFromError("ext_function_subprogram", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void main_program(boolean hasProgramStmt, boolean hasExecutionPart, boolean hasInternalSubprogramPart) {
+		if (!beginHandler("main_program", null))
+			return;
+		try {
+			super.main_program(hasProgramStmt, hasExecutionPart, hasInternalSubprogramPart);
+		} catch (RuntimeException error) {
+			recoverFromError("main_program", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void program_stmt(Token label, Token programKeyword, Token id, Token eos) {
+		if (!beginHandler("program_stmt", eos))
+			return;
+		try {
+			super.program_stmt(label, programKeyword, id, eos);
+		} catch (RuntimeException error) {
+			recoverFromError("program_stmt", error, true, label, programKeyword, id, eos);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void end_program_stmt(Token label, Token endKeyword, Token programKeyword, Token id, Token eos) {
+		if (!beginHandler("end_program_stmt", eos))
+			return;
+		try {
+			super.end_program_stmt(label, endKeyword, programKeyword, id, eos);
+		} catch (RuntimeException error) {
+			recoverFromError("end_program_stmt", error, true, label, endKeyword, programKeyword, id, eos);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void module() {
+		if (!beginHandler("module", null))
+			return;
+		try {
+			super.module();
+		} catch (RuntimeException error) {
+			recoverFromError("module", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void module_stmt__begin() {
+		if (!beginHandler("module_stmt__begin", null))
+			return;
+		try {
+			super.module_stmt__begin();
+		} catch (RuntimeException error) {
+			recoverFromError("module_stmt__begin", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void module_stmt(Token label, Token moduleKeyword, Token id, Token eos) {
+		if (!beginHandler("module_stmt", eos))
+			return;
+		try {
+			super.module_stmt(label, moduleKeyword, id, eos);
+		} catch (RuntimeException error) {
+			recoverFromError("module_stmt", error, true, label, moduleKeyword, id, eos);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void end_module_stmt(Token label, Token endKeyword, Token moduleKeyword, Token id, Token eos) {
+		if (!beginHandler("end_module_stmt", eos))
+			return;
+		try {
+			super.end_module_stmt(label, endKeyword, moduleKeyword, id, eos);
+		} catch (RuntimeException error) {
+			recoverFromError("end_module_stmt", error, true, label, endKeyword, moduleKeyword, id, eos);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void module_subprogram(boolean hasPrefix) {
+		if (!beginHandler("module_subprogram", null))
+			return;
+		try {
+			super.module_subprogram(hasPrefix);
+		} catch (RuntimeException error) {
+			recoverFromError("module_subprogram", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void use_stmt(Token label, Token useKeyword, Token id, Token onlyKeyword, Token eos, boolean hasModuleNature,
+			boolean hasRenameList, boolean hasOnly) {
+		if (!beginHandler("use_stmt", eos))
+			return;
+		try {
+			super.use_stmt(label, useKeyword, id, onlyKeyword, eos, hasModuleNature, hasRenameList, hasOnly);
+		} catch (RuntimeException error) {
+			recoverFromError("use_stmt", error, true, label, useKeyword, id, onlyKeyword, eos);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void rename_list__begin() {
+		if (!beginHandler("rename_list__begin", null))
+			return;
+		try {
+			super.rename_list__begin();
+		} catch (RuntimeException error) {
+			recoverFromError("rename_list__begin", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void rename_list(int count) {
+		if (!beginHandler("rename_list", null))
+			return;
+		try {
+			super.rename_list(count);
+		} catch (RuntimeException error) {
+			recoverFromError("rename_list", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void only_list__begin() {
+		if (!beginHandler("only_list__begin", null))
+			return;
+		try {
+			super.only_list__begin();
+		} catch (RuntimeException error) {
+			recoverFromError("only_list__begin", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void only_list(int count) {
+		if (!beginHandler("only_list", null))
+			return;
+		try {
+			super.only_list(count);
+		} catch (RuntimeException error) {
+			recoverFromError("only_list", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void block_data() {
+		if (!beginHandler("block_data", null))
+			return;
+		try {
+			super.block_data();
+		} catch (RuntimeException error) {
+			recoverFromError("block_data", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void block_data_stmt__begin() {
+		if (!beginHandler("block_data_stmt__begin", null))
+			return;
+		try {
+			super.block_data_stmt__begin();
+		} catch (RuntimeException error) {
+			recoverFromError("block_data_stmt__begin", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void interface_block() {
+		if (!beginHandler("interface_block", null))
+			return;
+		try {
+			super.interface_block();
+		} catch (RuntimeException error) {
+			recoverFromError("interface_block", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void interface_specification() {
+		if (!beginHandler("interface_specification", null))
+			return;
+		try {
+			super.interface_specification();
+		} catch (RuntimeException error) {
+			recoverFromError("interface_specification", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void interface_stmt__begin() {
+		if (!beginHandler("interface_stmt__begin", null))
+			return;
+		try {
+			super.interface_stmt__begin();
+		} catch (RuntimeException error) {
+			recoverFromError("interface_stmt__begin", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void interface_stmt(Token label, Token abstractToken, Token keyword, Token eos, boolean hasGenericSpec) {
+		if (!beginHandler("interface_stmt", eos))
+			return;
+		try {
+			super.interface_stmt(label, abstractToken, keyword, eos, hasGenericSpec);
+		} catch (RuntimeException error) {
+			recoverFromError("interface_stmt", error, true, label, abstractToken, keyword, eos);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void end_interface_stmt(Token label, Token kw1, Token kw2, Token eos, boolean hasGenericSpec) {
+		if (!beginHandler("end_interface_stmt", eos))
+			return;
+		try {
+			super.end_interface_stmt(label, kw1, kw2, eos, hasGenericSpec);
+		} catch (RuntimeException error) {
+			recoverFromError("end_interface_stmt", error, true, label, kw1, kw2, eos);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void interface_body(boolean hasPrefix) {
+		if (!beginHandler("interface_body", null))
+			return;
+		try {
+			super.interface_body(hasPrefix);
+		} catch (RuntimeException error) {
+			recoverFromError("interface_body", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void generic_spec(Token keyword, Token name, int type) {
+		if (!beginHandler("generic_spec", null))
+			return;
+		try {
+			super.generic_spec(keyword, name, type);
+		} catch (RuntimeException error) {
+			recoverFromError("generic_spec", error, false, keyword, name);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void import_stmt(Token label, Token importKeyword, Token eos, boolean hasGenericNameList) {
+		if (!beginHandler("import_stmt", eos))
+			return;
+		try {
+			super.import_stmt(label, importKeyword, eos, hasGenericNameList);
+		} catch (RuntimeException error) {
+			recoverFromError("import_stmt", error, true, label, importKeyword, eos);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void external_stmt(Token label, Token externalKeyword, Token eos) {
+		if (!beginHandler("external_stmt", eos))
+			return;
+		try {
+			super.external_stmt(label, externalKeyword, eos);
+		} catch (RuntimeException error) {
+			recoverFromError("external_stmt", error, true, label, externalKeyword, eos);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void procedure_declaration_stmt(Token label, Token procedureKeyword, Token eos, boolean hasProcInterface,
+			int count) {
+		if (!beginHandler("procedure_declaration_stmt", eos))
+			return;
+		try {
+			super.procedure_declaration_stmt(label, procedureKeyword, eos, hasProcInterface, count);
+		} catch (RuntimeException error) {
+			recoverFromError("procedure_declaration_stmt", error, true, label, procedureKeyword, eos);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void proc_decl(Token id, boolean hasNullInit) {
+		if (!beginHandler("proc_decl", null))
+			return;
+		try {
+			super.proc_decl(id, hasNullInit);
+		} catch (RuntimeException error) {
+			recoverFromError("proc_decl", error, false, id);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void proc_decl_list__begin() {
+		if (!beginHandler("proc_decl_list__begin", null))
+			return;
+		try {
+			super.proc_decl_list__begin();
+		} catch (RuntimeException error) {
+			recoverFromError("proc_decl_list__begin", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void proc_decl_list(int count) {
+		if (!beginHandler("proc_decl_list", null))
+			return;
+		try {
+			super.proc_decl_list(count);
+		} catch (RuntimeException error) {
+			recoverFromError("proc_decl_list", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void intrinsic_stmt(Token label, Token intrinsicKeyword, Token eos) {
+		if (!beginHandler("intrinsic_stmt", eos))
+			return;
+		try {
+			super.intrinsic_stmt(label, intrinsicKeyword, eos);
+		} catch (RuntimeException error) {
+			recoverFromError("intrinsic_stmt", error, true, label, intrinsicKeyword, eos);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void call_stmt(Token label, Token callKeyword, Token eos, boolean hasActualArgSpecList) {
+		if (!beginHandler("call_stmt", eos))
+			return;
+		try {
+			super.call_stmt(label, callKeyword, eos, hasActualArgSpecList);
+		} catch (RuntimeException error) {
+			recoverFromError("call_stmt", error, true, label, callKeyword, eos);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void procedure_designator() {
+		if (!beginHandler("procedure_designator", null))
+			return;
+		try {
+			super.procedure_designator();
+		} catch (RuntimeException error) {
+			recoverFromError("procedure_designator", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void actual_arg_spec(Token keyword) {
+		if (!beginHandler("actual_arg_spec", null))
+			return;
+		try {
+			super.actual_arg_spec(keyword);
+		} catch (RuntimeException error) {
+			recoverFromError("actual_arg_spec", error, false, keyword);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void actual_arg_spec_list__begin() {
+		if (!beginHandler("actual_arg_spec_list__begin", null))
+			return;
+		try {
+			super.actual_arg_spec_list__begin();
+		} catch (RuntimeException error) {
+			recoverFromError("actual_arg_spec_list__begin", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void actual_arg_spec_list(int count) {
+		if (!beginHandler("actual_arg_spec_list", null))
+			return;
+		try {
+			super.actual_arg_spec_list(count);
+		} catch (RuntimeException error) {
+			recoverFromError("actual_arg_spec_list", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void actual_arg(boolean hasExpr, Token label) {
+		if (!beginHandler("actual_arg", null))
+			return;
+		try {
+			super.actual_arg(hasExpr, label);
+		} catch (RuntimeException error) {
+			recoverFromError("actual_arg", error, false, label);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void function_subprogram(boolean hasExePart, boolean hasIntSubProg) {
+		if (!beginHandler("function_subprogram", null))
+			return;
+		try {
+			super.function_subprogram(hasExePart, hasIntSubProg);
+		} catch (RuntimeException error) {
+			recoverFromError("function_subprogram", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void function_stmt__begin() {
+		if (!beginHandler("function_stmt__begin", null))
+			return;
+		try {
+			super.function_stmt__begin();
+		} catch (RuntimeException error) {
+			recoverFromError("function_stmt__begin", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void function_stmt(Token label, Token keyword, Token name, Token eos, boolean hasGenericNameList,
+			boolean hasSuffix) {
+		if (!beginHandler("function_stmt", eos))
+			return;
+		try {
+			super.function_stmt(label, keyword, name, eos, hasGenericNameList, hasSuffix);
+		} catch (RuntimeException error) {
+			recoverFromError("function_stmt", error, true, label, keyword, name, eos);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void prefix_spec(boolean isDecTypeSpec) {
+		if (!beginHandler("prefix_spec", null))
+			return;
+		try {
+			super.prefix_spec(isDecTypeSpec);
+		} catch (RuntimeException error) {
+			recoverFromError("prefix_spec", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void end_function_stmt(Token label, Token keyword1, Token keyword2, Token name, Token eos) {
+		if (!beginHandler("end_function_stmt", eos))
+			return;
+		try {
+			super.end_function_stmt(label, keyword1, keyword2, name, eos);
+		} catch (RuntimeException error) {
+			recoverFromError("end_function_stmt", error, true, label, keyword1, keyword2, name, eos);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void subroutine_stmt__begin() {
+		if (!beginHandler("subroutine_stmt__begin", null))
+			return;
+		try {
+			super.subroutine_stmt__begin();
+		} catch (RuntimeException error) {
+			recoverFromError("subroutine_stmt__begin", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void subroutine_stmt(Token label, Token keyword, Token name, Token eos, boolean hasPrefix,
+			boolean hasDummyArgList, boolean hasBindingSpec, boolean hasArgSpecifier) {
+		if (!beginHandler("subroutine_stmt", eos))
+			return;
+		try {
+			super.subroutine_stmt(label, keyword, name, eos, hasPrefix, hasDummyArgList, hasBindingSpec, hasArgSpecifier);
+		} catch (RuntimeException error) {
+			recoverFromError("subroutine_stmt", error, true, label, keyword, name, eos);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void dummy_arg(Token dummy) {
+		if (!beginHandler("dummy_arg", null))
+			return;
+		try {
+			super.dummy_arg(dummy);
+		} catch (RuntimeException error) {
+			recoverFromError("dummy_arg", error, false, dummy);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void dummy_arg_list__begin() {
+		if (!beginHandler("dummy_arg_list__begin", null))
+			return;
+		try {
+			super.dummy_arg_list__begin();
+		} catch (RuntimeException error) {
+			recoverFromError("dummy_arg_list__begin", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void dummy_arg_list(int count) {
+		if (!beginHandler("dummy_arg_list", null))
+			return;
+		try {
+			super.dummy_arg_list(count);
+		} catch (RuntimeException error) {
+			recoverFromError("dummy_arg_list", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void end_subroutine_stmt(Token label, Token keyword1, Token keyword2, Token name, Token eos) {
+		if (!beginHandler("end_subroutine_stmt", eos))
+			return;
+		try {
+			super.end_subroutine_stmt(label, keyword1, keyword2, name, eos);
+		} catch (RuntimeException error) {
+			recoverFromError("end_subroutine_stmt", error, true, label, keyword1, keyword2, name, eos);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void return_stmt(Token label, Token keyword, Token eos, boolean hasScalarIntExpr) {
+		if (!beginHandler("return_stmt", eos))
+			return;
+		try {
+			super.return_stmt(label, keyword, eos, hasScalarIntExpr);
+		} catch (RuntimeException error) {
+			recoverFromError("return_stmt", error, true, label, keyword, eos);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void contains_stmt(Token label, Token keyword, Token eos) {
+		if (!beginHandler("contains_stmt", eos))
+			return;
+		try {
+			super.contains_stmt(label, keyword, eos);
+		} catch (RuntimeException error) {
+			recoverFromError("contains_stmt", error, true, label, keyword, eos);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void separate_module_subprogram(boolean hasExecutionPart, boolean hasInternalSubprogramPart) {
+		if (!beginHandler("separate_module_subprogram", null))
+			return;
+		try {
+			super.separate_module_subprogram(hasExecutionPart, hasInternalSubprogramPart);
+		} catch (RuntimeException error) {
+			recoverFromError("separate_module_subprogram", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void separate_module_subprogram__begin() {
+		if (!beginHandler("separate_module_subprogram__begin", null))
+			return;
+		try {
+			super.separate_module_subprogram__begin();
+		} catch (RuntimeException error) {
+			recoverFromError("separate_module_subprogram__begin", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void mp_subprogram_stmt(Token label, Token moduleKeyword, Token procedureKeyword, Token name, Token eos) {
+		if (!beginHandler("mp_subprogram_stmt", eos))
+			return;
+		try {
+			super.mp_subprogram_stmt(label, moduleKeyword, procedureKeyword, name, eos);
+		} catch (RuntimeException error) {
+			recoverFromError("mp_subprogram_stmt", error, true, label, moduleKeyword, procedureKeyword, name, eos);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void end_mp_subprogram_stmt(Token label, Token keyword1, Token keyword2, Token name, Token eos) {
+		if (!beginHandler("end_mp_subprogram_stmt", eos))
+			return;
+		try {
+			super.end_mp_subprogram_stmt(label, keyword1, keyword2, name, eos);
+		} catch (RuntimeException error) {
+			recoverFromError("end_mp_subprogram_stmt", error, true, label, keyword1, keyword2, name, eos);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void start_of_file(String filename, String path) {
+		if (!beginHandler("start_of_file", null))
+			return;
+		try {
+			super.start_of_file(filename, path);
+		} catch (RuntimeException error) {
+			recoverFromError("start_of_file", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void end_of_file(String filename, String path) {
+		if (!beginHandler("end_of_file", null))
+			return;
+		try {
+			super.end_of_file(filename, path);
+		} catch (RuntimeException error) {
+			recoverFromError("end_of_file", error, false);
+		} finally {
+			endHandler();
+		}
+	}
+
+	@Override
+	public void next_token(Token tk) {
+		if (!beginHandler("next_token", null))
+			return;
+		try {
+			super.next_token(tk);
+		} catch (RuntimeException error) {
+			recoverFromError("next_token", error, false, tk);
+		} finally {
+			endHandler();
+		}
+	}
+
+}
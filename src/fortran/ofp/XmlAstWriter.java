@@ -0,0 +1,136 @@
+package fortran.ofp;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+
+import org.w3c.dom.Attr;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+
+/**
+ * Writer of the XML document generated by XMLPrinter, indented by 2 spaces per level.
+ *
+ * Output is the same as the one of the identity Transformer with indentation, but the tree is traversed iteratively,
+ * so that arbitrarily deep trees can be written without risking a StackOverflowError. Only elements and their
+ * attributes are written, as XMLPrinter does not create other kinds of nodes.
+ */
+public class XmlAstWriter {
+
+	public static final String DECLARATION = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>";
+
+	private Writer writer;
+
+	/**
+	 * Output is collected here and passed to the writer in large pieces, as writing it piece by piece is much slower.
+	 */
+	private StringBuilder buffer = new StringBuilder(1 << 16);
+
+	public XmlAstWriter(Writer writer) {
+		this.writer = writer;
+	}
+
+	/**
+	 * Write the XML declaration and the whole document.
+	 */
+	public void write(Document doc) throws IOException {
+		buffer.append(DECLARATION).append('\n');
+		write(doc.getDocumentElement(), 0);
+	}
+
+	/**
+	 * Write given element and its whole subtree, with the element indented as if it was at given depth.
+	 */
+	public void write(Element node, int depth) throws IOException {
+		ArrayList<Element> openNodes = new ArrayList<Element>();
+		Element next = node;
+		while (true) {
+			Element finished;
+			if (next != null) {
+				Element element = next;
+				appendBegin(element, depth + openNodes.size());
+				Element child = TreeTraversal.firstChild(element);
+				if (child != null) {
+					buffer.append(">\n");
+					openNodes.add(element);
+					next = child;
+					continue;
+				}
+				buffer.append("/>\n");
+				finished = element;
+			} else {
+				finished = openNodes.remove(openNodes.size() - 1);
+				appendIndent(depth + openNodes.size());
+				buffer.append("</").append(finished.getTagName()).append(">\n");
+			}
+			if (openNodes.isEmpty())
+				break;
+			next = TreeTraversal.nextSibling(finished);
+			if (buffer.length() >= 1 << 16)
+				flush();
+		}
+		flush();
+	}
+
+	private void appendIndent(int depth) {
+		for (int i = 0; i < depth; i++)
+			buffer.append("  ");
+	}
+
+	private void appendBegin(Element node, int depth) {
+		appendIndent(depth);
+		buffer.append('<').append(node.getTagName());
+		NamedNodeMap attributes = node.getAttributes();
+		for (int i = 0; i < attributes.getLength(); i++) {
+			Attr attribute = (Attr) attributes.item(i);
+			buffer.append(' ').append(attribute.getName()).append("=\"");
+			appendEscaped(buffer, attribute.getValue());
+			buffer.append('"');
+		}
+	}
+
+	/**
+	 * Append given attribute value to given buffer, escaped so that it can be enclosed in double quotes.
+	 */
+	static void appendEscaped(StringBuilder buffer, String value) {
+		int length = value.length();
+		int begin = 0;
+		for (int i = 0; i < length; i++) {
+			char c = value.charAt(i);
+			if (c >= 0x20 && c != '"' && c != '&' && c != '<' && c != '>' && !Character.isHighSurrogate(c))
+				continue;
+			buffer.append(value, begin, i);
+			begin = i + 1;
+			if (Character.isHighSurrogate(c) && i + 1 < length) {
+				// characters outside of the basic plane are written as references, same as by the Transformer
+				buffer.append("&#").append(value.codePointAt(i)).append(';');
+				begin = ++i + 1;
+				continue;
+			}
+			switch (c) {
+			case '"':
+				buffer.append("&quot;");
+				break;
+			case '&':
+				buffer.append("&amp;");
+				break;
+			case '<':
+				buffer.append("&lt;");
+				break;
+			case '>':
+				buffer.append("&gt;");
+				break;
+			default:
+				buffer.append("&#").append((int) c).append(';');
+			}
+		}
+		buffer.append(value, begin, length);
+	}
+
+	private void flush() throws IOException {
+		writer.append(buffer);
+		buffer.setLength(0);
+	}
+
+}
@@ -20,6 +20,73 @@ public class XmlPrinterArgsParser {
 
 		Option verbosity = new Option(null, "verbosity", true, "verbosity level, assume max if not provided");
 		options.addOption(verbosity);
+
+		Option parallelLexing = new Option(null, "parallel-lexing", false,
+				"split large files at statement boundaries and lex them on many threads");
+		options.addOption(parallelLexing);
+
+		Option streaming = new Option(null, "streaming", false,
+				"write each top-level program unit as soon as it is complete, to limit memory usage");
+		options.addOption(streaming);
+
+		Option outline = new Option(null, "outline", false,
+				"keep only program units with their headers and code bounds, discarding statements and declarations"
+						+ " in their bodies as soon as they are complete");
+		options.addOption(outline);
+
+		Option depsOnly = new Option(null, "deps-only", false,
+				"only write modules defined and used in the file as tab-separated lines (see DependencyScanner),"
+						+ " without building the tree");
+		options.addOption(depsOnly);
+
+		Option format = new Option(null, "format", true,
+				"output format: xml (default), binary (compact encoding with a string table, see BinaryAstWriter),"
+						+ " json (see JsonAstWriter) or ndjson (one JSON line per top-level node of each file)");
+		options.addOption(format);
+
+		Option query = new Option(null, "query", true,
+				"output only the outermost subtrees matching given path query, e.g. //loop//call (see PathQuery)");
+		options.addOption(query);
+
+		Option keep = new Option(null, "keep", true,
+				"comma-separated tags of nodes to output, other nodes are replaced by their subnodes");
+		options.addOption(keep);
+
+		Option prune = new Option(null, "prune", true,
+				"comma-separated tags of nodes to omit from output together with their subnodes");
+		options.addOption(prune);
+
+		Option dropAttributes = new Option(null, "drop-attributes", true,
+				"comma-separated names of attributes to omit from output");
+		options.addOption(dropAttributes);
+
+		Option compression = new Option(null, "compression", true,
+				"compress the output, e.g. with gzip; implied by extension of output path, e.g. .gz");
+		options.addOption(compression);
+
+		Option symbols = new Option(null, "symbols", true,
+				"write index of defined program units, used modules, called subroutines and declared entities"
+						+ " to given path, as tab-separated lines (see SymbolIndex)");
+		options.addOption(symbols);
+
+		Option profile = new Option(null, "profile", true,
+				"write wall time, CPU time and allocated bytes of each phase of the run as JSON to given path");
+		options.addOption(profile);
+
+		Option handlerStats = new Option(null, "handler-stats", true,
+				"with --class fortran.ofp.XMLPrinterInstrumented, write invocation counts and latency percentiles"
+						+ " of each action handler as JSON to given path, or to System.err if path is -");
+		options.addOption(handlerStats);
+
+		Option handlerStatsSampling = new Option(null, "handler-stats-sampling", true,
+				"time only every n-th invocation of each action handler, 16 if not provided");
+		options.addOption(handlerStatsSampling);
+
+		Option jfrHandlerThreshold = new Option(null, "jfr-handler-threshold", true,
+				"with --class fortran.ofp.XMLPrinterInstrumented and Flight Recorder running, emit an event for each"
+						+ " timed action handler invocation that took at least given number of milliseconds, 10 if"
+						+ " not provided");
+		options.addOption(jfrHandlerThreshold);
 	}
 
 	public CommandLine parse(String... args) {
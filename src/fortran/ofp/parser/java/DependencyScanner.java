@@ -0,0 +1,189 @@
+package fortran.ofp.parser.java;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+
+import org.antlr.runtime.Token;
+
+import fortran.ofp.FrontEnd;
+
+/**
+ * Finder of modules defined and used in Fortran source code, without parsing it.
+ *
+ * Only statements that can define or use a module are lexed: beginnings of statements are found by
+ * StatementBoundaries, and the lexer is positioned only at those which start with "module", "submodule" or "use", or
+ * whose line contains a semicolon. Included files are not followed.
+ *
+ * It is meant to be run on its own, see main(), instead of the front end, which would build the parser and parse the
+ * whole file. The "deps-only" option of XMLPrinter writes the same output, but the front end still parses the file.
+ */
+public class DependencyScanner {
+
+	/**
+	 * Names of modules defined in the code, in lowercase and in order of definition.
+	 */
+	public ArrayList<String> provides = new ArrayList<String>();
+
+	/**
+	 * Names of non-intrinsic modules used in the code (or being parents of its submodules), in lowercase and in order
+	 * of first use, excluding modules defined in the code itself.
+	 */
+	public ArrayList<String> requires = new ArrayList<String>();
+
+	private static final String[] KEYWORDS = { "module", "submodule", "use" };
+
+	public DependencyScanner(File file) throws IOException {
+		FortranStream stream = new FortranStream(file.getName(), file.getAbsolutePath(), null);
+		int length = stream.size();
+		if (length == 0)
+			return;
+		String code = stream.substring(0, length - 1);
+		StatementBoundaries boundaries = new StatementBoundaries(code,
+				stream.getSourceForm() == FrontEnd.FIXED_FORM);
+		LinkedHashSet<String> provided = new LinkedHashSet<String>();
+		LinkedHashSet<String> required = new LinkedHashSet<String>();
+		FortranAlternateLexer lexer = TokensList.lexer(stream);
+		for (int i = -1; i < boundaries.offsets.size(); ++i) {
+			int offset = i < 0 ? 0 : boundaries.offsets.get(i);
+			if (!isCandidate(code, offset))
+				continue;
+			lexer.seek(offset, i < 0 ? false : boundaries.continueFlags.get(i));
+			scanLine(lexer, provided, required);
+		}
+		provides.addAll(provided);
+		required.removeAll(provided);
+		requires.addAll(required);
+	}
+
+	/**
+	 * Check if a statement beginning at given offset (possibly after a label) starts with one of the keywords, or if
+	 * its line contains a semicolon outside of character constants and comments, i.e. other statements.
+	 */
+	private static boolean isCandidate(String code, int offset) {
+		int lineEnd = code.indexOf('\n', offset);
+		if (lineEnd < 0)
+			lineEnd = code.length();
+		int first = offset;
+		while (first < lineEnd && (Character.isDigit(code.charAt(first)) || code.charAt(first) == ' '
+				|| code.charAt(first) == '\t'))
+			++first;
+		for (String keyword : KEYWORDS)
+			if (code.regionMatches(true, first, keyword, 0, keyword.length()))
+				return true;
+		char quote = 0;
+		for (int i = first; i < lineEnd; ++i) {
+			char c = code.charAt(i);
+			if (quote != 0) {
+				if (c == quote)
+					quote = 0;
+			} else if (c == '\'' || c == '"')
+				quote = c;
+			else if (c == '!')
+				return false;
+			else if (c == ';')
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Lex statements from the current position of the lexer up to the end of the line (including continuation lines)
+	 * and record modules they define or use.
+	 */
+	private static void scanLine(FortranAlternateLexer lexer, LinkedHashSet<String> provided,
+			LinkedHashSet<String> required) {
+		ArrayList<Token> statement = new ArrayList<Token>();
+		while (true) {
+			Token token = lexer.nextToken();
+			int type = token.getType();
+			if (type == FortranAlternateLexer.EOF || type == FortranAlternateLexer.T_EOS) {
+				scanStatement(statement, provided, required);
+				if (type == FortranAlternateLexer.EOF || !token.getText().equals(";"))
+					return;
+				statement.clear();
+			} else if (type != FortranAlternateLexer.WS && type != FortranAlternateLexer.CONTINUE_CHAR
+					&& type != FortranAlternateLexer.LINE_COMMENT && type != FortranAlternateLexer.PREPROCESS_LINE)
+				statement.add(token);
+		}
+	}
+
+	/**
+	 * Record module defined or used by given statement (without whitespace and comments), if any.
+	 *
+	 * Keywords are recognized by text and not by token type, as they may as well be names.
+	 */
+	private static void scanStatement(ArrayList<Token> statement, LinkedHashSet<String> provided,
+			LinkedHashSet<String> required) {
+		int first = 0;
+		if (!statement.isEmpty() && statement.get(0).getType() == FortranAlternateLexer.T_DIGIT_STRING)
+			first = 1; // label
+		int count = statement.size() - first;
+		if (count < 2)
+			return;
+		String keyword = statement.get(first).getText();
+		if (keyword.equalsIgnoreCase("module")) {
+			// "module name", but not "module procedure name" nor "module function name(...)" etc.
+			if (count == 2)
+				addName(provided, statement.get(first + 1));
+		} else if (keyword.equalsIgnoreCase("submodule")) {
+			// "submodule (ancestor[:parent]) name"
+			if (count >= 3 && statement.get(first + 1).getText().equals("("))
+				addName(required, statement.get(first + 2));
+		} else if (keyword.equalsIgnoreCase("use")) {
+			// "use [[, nature] ::] name [, rename-list | , only: only-list]"
+			int index = first + 1;
+			boolean intrinsic = false;
+			if (statement.get(index).getText().equals(",")) {
+				if (index + 1 < statement.size())
+					intrinsic = statement.get(index + 1).getText().equalsIgnoreCase("intrinsic");
+				index += 2;
+			}
+			if (index < statement.size() && statement.get(index).getText().equals("::"))
+				++index;
+			if (index < statement.size() && !intrinsic)
+				addName(required, statement.get(index));
+		}
+	}
+
+	/**
+	 * Add text of given token in lowercase, if it is a name, e.g. not in "use = 1".
+	 */
+	private static void addName(LinkedHashSet<String> names, Token token) {
+		String text = token.getText();
+		if (text.isEmpty() || !Character.isLetter(text.charAt(0)))
+			return;
+		for (int i = 1; i < text.length(); ++i)
+			if (!Character.isLetterOrDigit(text.charAt(i)) && text.charAt(i) != '_')
+				return;
+		names.add(text.toLowerCase());
+	}
+
+	/**
+	 * Write found modules, one per line, as tab-separated given path, "provides" or "requires" and module name.
+	 */
+	public void write(String path, Writer writer) throws IOException {
+		for (String name : provides)
+			writer.append(path).append("\tprovides\t").append(name).append('\n');
+		for (String name : requires)
+			writer.append(path).append("\trequires\t").append(name).append('\n');
+	}
+
+	/**
+	 * Write modules defined and used in each of given files, see write().
+	 */
+	public static void main(String[] args) throws IOException {
+		if (args.length == 0) {
+			System.err.println("usage: java fortran.ofp.parser.java.DependencyScanner FILE...");
+			System.exit(2);
+		}
+		Writer writer = new OutputStreamWriter(System.out, "UTF-8");
+		for (String path : args)
+			new DependencyScanner(new File(path)).write(path, writer);
+		writer.flush();
+	}
+
+}
@@ -293,6 +293,7 @@ public class FortranAlternateLexer extends Lexer {
         private boolean inFormat;
         private ArrayList<String> includeDirs;
         private Stack<FortranStream> oldStreams;
+        private FortranStream source;
 
         protected StringBuilder whiteText = new StringBuilder();
 
@@ -554,7 +555,9 @@ public class FortranAlternateLexer extends Lexer {
 
 
        public FortranStream getInput() {
-          return (FortranStream) this.input;
+          if (this.input instanceof FortranStream)
+             return (FortranStream) this.input;
+          return this.source;
        }
 
 
@@ -572,9 +575,69 @@ public class FortranAlternateLexer extends Lexer {
           this.includeLine = false;
           this.inFormat = false;
           this.oldStreams = new Stack<FortranStream>();
+          this.source = input;
        } // end constructor()
 
 
+       /**
+        * Prepare this lexer to tokenize a new input stream, so that the same
+        * instance (together with its shared state and DFAs) can be reused
+        * across many files. The state is restored to what the constructor
+        * sets up for the given stream.
+        */
+       public void reset(FortranStream input)
+       {
+          reset(input, input);
+       } // end reset()
+
+
+       /**
+        * Same as reset(FortranStream), but characters of the stream are read
+        * through the given char stream, e.g. a view of the same characters
+        * that is positioned independently of the stream and of other views,
+        * so that many lexers can tokenize parts of one stream concurrently.
+        */
+       public void reset(FortranStream input, CharStream chars)
+       {
+          setCharStream(chars);
+          this.source = input;
+          this.sourceForm = input.getSourceForm();
+          this.prevToken = null;
+          this.continueFlag = false;
+          this.includeLine = false;
+          this.inFormat = false;
+          this.oldStreams.clear();
+          this.whiteText.setLength(0);
+       } // end reset()
+
+
+       /**
+        * Drop references to the last tokenized stream, so that a lexer kept
+        * for reuse does not keep characters of that stream in memory. The
+        * lexer has to be reset before it is used again.
+        */
+       public void release()
+       {
+          setCharStream(null);
+          this.source = null;
+          this.prevToken = null;
+          this.oldStreams.clear();
+          this.whiteText.setLength(0);
+       } // end release()
+
+
+       /**
+        * Move to given character index of the current input, which should be
+        * a beginning of a statement, as if all preceding characters were
+        * already tokenized. Used to lex a part of a file separately.
+        */
+       public void seek(int index, boolean continueFlag)
+       {
+          this.input.seek(index);
+          this.continueFlag = continueFlag;
+       } // end seek()
+
+
         public void setIncludeDirs(ArrayList<String> includeDirs) {
             this.includeDirs = includeDirs;
         }// end setIncludeDirs()
@@ -0,0 +1,129 @@
+package fortran.ofp.parser.java;
+
+import java.util.ArrayList;
+
+/**
+ * Finder of locations in Fortran source code at which it can be split into independently lexed chunks.
+ *
+ * A location is safe if it is the beginning of a line that starts a new statement: the line contains code, is not a
+ * continuation of previous line, and no character constant nor continuation is pending from the previous lines.
+ */
+public class StatementBoundaries {
+
+	/**
+	 * Offsets (in characters) of lines which are safe to split at, in ascending order.
+	 */
+	public ArrayList<Integer> offsets = new ArrayList<Integer>();
+
+	/**
+	 * Line number (1-based) of each of the offsets.
+	 */
+	public ArrayList<Integer> lines = new ArrayList<Integer>();
+
+	/**
+	 * Parity of continuation characters preceding each of the offsets, as tracked by the lexer.
+	 */
+	public ArrayList<Boolean> continueFlags = new ArrayList<Boolean>();
+
+	public StatementBoundaries(String code, boolean fixedForm) {
+		int length = code.length();
+		int lineBegin = 0;
+		int line = 1;
+		char quote = 0;
+		boolean continued = false;
+		boolean continueFlag = false;
+		while (lineBegin < length) {
+			int lineEnd = code.indexOf('\n', lineBegin);
+			if (lineEnd < 0)
+				lineEnd = length;
+			int first = lineBegin;
+			while (first < lineEnd && isBlank(code.charAt(first)))
+				++first;
+			boolean isCode = first < lineEnd && !isCommentLine(code, lineBegin, first, fixedForm);
+			if (isCode) {
+				boolean isContinuation = code.charAt(first) == '&'
+						|| fixedForm && isFixedFormContinuation(code, lineBegin, lineEnd);
+				if (quote == 0 && !continued && !isContinuation && lineBegin > 0) {
+					offsets.add(lineBegin);
+					lines.add(line);
+					continueFlags.add(continueFlag);
+				}
+				int lastCode = -1;
+				for (int i = first; i < lineEnd; ++i) {
+					char c = code.charAt(i);
+					if (quote != 0) {
+						if (c == quote)
+							quote = 0;
+						else if (c == '&')
+							lastCode = i;
+						else if (!isBlank(c))
+							lastCode = -1;
+						continue;
+					}
+					if (c == '!')
+						break;
+					if (c == '\'' || c == '"')
+						quote = c;
+					else if (c == '&') {
+						continueFlag = !continueFlag;
+						lastCode = i;
+						continue;
+					}
+					if (!isBlank(c))
+						lastCode = -1;
+				}
+				continued = lastCode >= 0;
+				if (quote != 0 && !continued && !fixedForm)
+					quote = 0; // unterminated constant, the lexer will not carry it over to the next line
+			}
+			lineBegin = lineEnd + 1;
+			++line;
+		}
+	}
+
+	private static boolean isBlank(char c) {
+		return c == ' ' || c == '\t' || c == '\r';
+	}
+
+	private static boolean isCommentLine(String code, int lineBegin, int first, boolean fixedForm) {
+		char c = code.charAt(first);
+		if (c == '!' || c == '#')
+			return true;
+		if (!fixedForm || first != lineBegin)
+			return false;
+		return c == 'c' || c == 'C' || c == '*' || c == 'd' || c == 'D';
+	}
+
+	private static boolean isFixedFormContinuation(String code, int lineBegin, int lineEnd) {
+		if (lineEnd - lineBegin < 6)
+			return false;
+		for (int i = lineBegin; i < lineBegin + 5; ++i)
+			if (code.charAt(i) == '\t')
+				return false;
+		char c = code.charAt(lineBegin + 5);
+		return !isBlank(c) && c != '0';
+	}
+
+	/**
+	 * Choose at most given number of safe offsets that split the code into chunks of similar size.
+	 *
+	 * @param length total length of the code
+	 * @param chunks desired number of chunks
+	 * @return indices (into offsets) of the chosen split points
+	 */
+	public ArrayList<Integer> choose(int length, int chunks) {
+		ArrayList<Integer> chosen = new ArrayList<Integer>();
+		int index = 0;
+		for (int i = 1; i < chunks; ++i) {
+			long target = (long) length * i / chunks;
+			while (index < offsets.size() && offsets.get(index) < target)
+				++index;
+			if (index == offsets.size())
+				break;
+			if (chosen.isEmpty() || chosen.get(chosen.size() - 1) != index)
+				chosen.add(index);
+		}
+		return chosen;
+	}
+
+}
@@ -3,13 +3,36 @@ package fortran.ofp.parser.java;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 
+import org.antlr.runtime.ANTLRStringStream;
+import org.antlr.runtime.CharStream;
+import org.antlr.runtime.CommonToken;
 import org.antlr.runtime.Token;
 
+import fortran.ofp.FrontEnd;
+
 public class TokensList extends ArrayList<Token> {
 
 	private static final long serialVersionUID = -8037754729217056476L;
 
+	/**
+	 * Lexer kept by each thread, so that consecutive files tokenized on the same thread reuse one instance. It is
+	 * released after each file or chunk, so that it does not keep the characters of the last one in memory.
+	 */
+	private static final ThreadLocal<FortranAlternateLexer> lexers = new ThreadLocal<FortranAlternateLexer>();
+
+	/**
+	 * Minimal length (in characters) of a chunk of a file that is lexed in parallel with other chunks.
+	 */
+	public static int parallelChunkMinLength = 256 * 1024;
+
+	private static ForkJoinPool pool = null;
+
+	TokensList() {
+	}
+
 	public TokensList(File file) throws IOException {
 		addAll(file, null);
 	}
@@ -18,20 +41,169 @@ public class TokensList extends ArrayList<Token> {
 		addAll(file, onlyOfType);
 	}
 
+	public TokensList(File file, Integer onlyOfType, boolean parallel) throws IOException {
+		if (parallel)
+			addAllParallel(file, onlyOfType);
+		else
+			addAll(file, onlyOfType);
+	}
+
+	/**
+	 * Return lexer of the current thread, reset to tokenize given stream.
+	 *
+	 * @param stream
+	 * @return lexer ready to tokenize the stream
+	 */
+	public static FortranAlternateLexer lexer(FortranStream stream) {
+		FortranAlternateLexer lexer = lexers.get();
+		if (lexer == null) {
+			lexer = new FortranAlternateLexer(stream);
+			lexers.set(lexer);
+		} else
+			lexer.reset(stream);
+		return lexer;
+	}
+
+	/**
+	 * Return lexer of the current thread, reset to tokenize given stream by reading its characters from given view.
+	 */
+	private static FortranAlternateLexer lexer(FortranStream stream, CharStream chars) {
+		FortranAlternateLexer lexer = lexer(stream);
+		lexer.reset(stream, chars);
+		return lexer;
+	}
+
+	private static synchronized ForkJoinPool pool() {
+		if (pool == null)
+			pool = new ForkJoinPool();
+		return pool;
+	}
+
 	public void addAll(File file) throws IOException {
 		addAll(file, null);
 	}
 
 	public void addAll(File file, Integer onlyOfType) throws IOException {
 		FortranStream stream = new FortranStream(file.getName(), file.getAbsolutePath(), null);
-		FortranAlternateLexer lexer = new FortranAlternateLexer(stream);
+		FortranAlternateLexer lexer = lexer(stream);
+		try {
+			Token token = lexer.nextToken();
+			while (token.getType() != FortranAlternateLexer.EOF) {
+				if (onlyOfType == null || token.getType() == ((int) onlyOfType))
+					add(token);
+				token = lexer.nextToken();
+			}
+		} finally {
+			lexer.release();
+		}
+	}
+
+	/**
+	 * Tokenize given file in chunks on many threads.
+	 *
+	 * The file is split only at beginnings of statements (see StatementBoundaries), and each chunk is lexed by a lexer
+	 * positioned at the chunk's beginning, so tokens (including their line and column numbers) are the same as the ones
+	 * produced by addAll(). Files that are too small to benefit are lexed sequentially.
+	 *
+	 * The file is read once, and all lexers read its characters from one shared array, each through its own view.
+	 */
+	public void addAllParallel(File file, Integer onlyOfType) throws IOException {
+		addAllParallel(file, onlyOfType, pool().getParallelism());
+	}
+
+	/**
+	 * Tokenize given file in at most given number of chunks, as addAllParallel(File, Integer) does.
+	 *
+	 * @return number of chunks that were lexed, 1 if the file was lexed sequentially
+	 */
+	int addAllParallel(File file, Integer onlyOfType, int maxChunks) throws IOException {
+		FortranStream stream = new FortranStream(file.getName(), file.getAbsolutePath(), null);
+		int length = stream.size();
+		int chunks = Math.min(maxChunks, length / parallelChunkMinLength);
+		if (chunks < 2) {
+			addAll(file, onlyOfType);
+			return 1;
+		}
+		String code = stream.substring(0, length - 1);
+		StatementBoundaries boundaries = new StatementBoundaries(code, stream.getSourceForm() == FrontEnd.FIXED_FORM);
+		ArrayList<Integer> splits = boundaries.choose(length, chunks);
+		int[] begins = new int[splits.size() + 1];
+		int[] ends = new int[splits.size() + 1];
+		boolean[] continueFlags = new boolean[splits.size() + 1];
+		for (int i = 0; i < splits.size(); ++i) {
+			int split = splits.get(i);
+			ends[i] = boundaries.offsets.get(split);
+			begins[i + 1] = ends[i];
+			continueFlags[i + 1] = boundaries.continueFlags.get(split);
+		}
+		ends[splits.size()] = length;
+		addAll(pool().invoke(new ChunksLexingTask(stream, code.toCharArray(), onlyOfType, begins, ends, continueFlags,
+				0, begins.length)));
+		return begins.length;
+	}
+
+	/**
+	 * Tokenize part of a file, from its begin offset up to (but excluding) tokens starting at its end offset.
+	 */
+	private static ArrayList<Token> lexChunk(FortranStream stream, char[] data, Integer onlyOfType, int begin, int end,
+			boolean continueFlag) {
+		ANTLRStringStream chars = new ANTLRStringStream(data, data.length);
+		chars.name = stream.getSourceName();
+		FortranAlternateLexer lexer = lexer(stream, chars);
+		ArrayList<Token> tokens = new ArrayList<Token>();
+		try {
+			lexer.seek(begin, continueFlag);
+			Token token = lexer.nextToken();
+			while (token.getType() != FortranAlternateLexer.EOF && ((CommonToken) token).getStartIndex() < end) {
+				if (onlyOfType == null || token.getType() == ((int) onlyOfType))
+					tokens.add(token);
+				token = lexer.nextToken();
+			}
+		} finally {
+			lexer.release();
+		}
+		return tokens;
+	}
+
+	private static class ChunksLexingTask extends RecursiveTask<ArrayList<Token>> {
+
+		private static final long serialVersionUID = 4409614224186125376L;
 
-		Token token = lexer.nextToken();
-		while (token.getType() != FortranAlternateLexer.EOF) {
-			if (onlyOfType == null || token.getType() == ((int) onlyOfType))
-				add(token);
-			token = lexer.nextToken();
+		private FortranStream stream;
+		private char[] data;
+		private Integer onlyOfType;
+		private int[] begins;
+		private int[] ends;
+		private boolean[] continueFlags;
+		private int first;
+		private int last;
+
+		public ChunksLexingTask(FortranStream stream, char[] data, Integer onlyOfType, int[] begins, int[] ends,
+				boolean[] continueFlags, int first, int last) {
+			this.stream = stream;
+			this.data = data;
+			this.onlyOfType = onlyOfType;
+			this.begins = begins;
+			this.ends = ends;
+			this.continueFlags = continueFlags;
+			this.first = first;
+			this.last = last;
+		}
+
+		@Override
+		protected ArrayList<Token> compute() {
+			if (last - first == 1)
+				return lexChunk(stream, data, onlyOfType, begins[first], ends[first], continueFlags[first]);
+			int middle = (first + last) / 2;
+			ChunksLexingTask second = new ChunksLexingTask(stream, data, onlyOfType, begins, ends, continueFlags, middle,
+					last);
+			second.fork();
+			ArrayList<Token> tokens = new ChunksLexingTask(stream, data, onlyOfType, begins, ends, continueFlags, first,
+					middle).compute();
+			tokens.addAll(second.join());
+			return tokens;
 		}
+
 	}
 
 }
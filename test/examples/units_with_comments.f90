@@ -0,0 +1,24 @@
+! comment before units
+subroutine s(x)
+  real :: x
+  ! comment in subroutine
+  x = 1
+end subroutine s
+! comment between units
+
+integer function f(x)
+  integer :: x
+  f = x
+end function f
+! comment after function
+module m
+contains
+  subroutine t()
+  end subroutine t
+end module m
+! comment before program
+program p
+  call s(1.0)
+end program p
+! comment after units
+!  last comment
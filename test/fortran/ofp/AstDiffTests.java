@@ -0,0 +1,77 @@
+package fortran.ofp;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Element;
+
+class AstDiffTests {
+
+	/**
+	 * Return AST of a file with given program units, each given as a name followed by values of its statements, one
+	 * statement per line.
+	 */
+	static Element ast(String[]... units) throws Exception {
+		StringBuilder xml = new StringBuilder("<ofp><file>");
+		int line = 1;
+		for (String[] unit : units) {
+			xml.append("<subroutine name=\"").append(unit[0]).append("\"><header/><body>");
+			for (int i = 1; i < unit.length; ++i, ++line)
+				xml.append("<statement line_begin=\"").append(line).append("\" col_begin=\"0\" line_end=\"")
+						.append(line).append("\" col_end=\"9\"><name id=\"").append(unit[i])
+						.append("\"/></statement><comment text=\"! line ").append(line).append("\"/>");
+			xml.append("</body></subroutine>");
+		}
+		xml.append("</file></ofp>");
+		return DocumentBuilderFactory.newInstance().newDocumentBuilder()
+				.parse(new ByteArrayInputStream(xml.toString().getBytes(StandardCharsets.UTF_8))).getDocumentElement();
+	}
+
+	static ArrayList<String> describe(AstDiff diff) {
+		ArrayList<String> result = new ArrayList<String>();
+		for (AstDiff.Change change : diff.changes) {
+			String description = change.kind + " " + change.unit;
+			if (change.oldNode != null && change.oldNode.getTagName().equals("statement"))
+				description += " old " + change.getOldBounds().begin.line;
+			if (change.newNode != null && change.newNode.getTagName().equals("statement"))
+				description += " new " + change.getNewBounds().begin.line;
+			result.add(description);
+		}
+		return result;
+	}
+
+	@Test
+	void testUnchanged() throws Exception {
+		// lines and comments differ
+		AstDiff diff = new AstDiff(ast(new String[] { "a", "x", "y" }, new String[] { "b", "z" }),
+				ast(new String[] { "b", "z" }, new String[] { "A", "x", "y" }));
+		assertEquals(new ArrayList<String>(), describe(diff));
+	}
+
+	@Test
+	void testChanges() throws Exception {
+		AstDiff diff = new AstDiff(
+				ast(new String[] { "a", "x1", "x2", "x3", "x4", "x5", "x6" }, new String[] { "gone", "z" },
+						new String[] { "c", "w", "w" }),
+				ast(new String[] { "a", "x1", "x5", "x2", "changed3", "x4", "new", "x6" },
+						new String[] { "c", "w", "w" }, new String[] { "added" }));
+		assertEquals(Arrays.asList("changed subroutine a", "moved subroutine a old 5 new 2",
+				"changed subroutine a old 3 new 4", "inserted subroutine a new 6", "inserted subroutine added",
+				"deleted subroutine gone"), describe(diff));
+	}
+
+	@Test
+	void testRepeatedStatements() throws Exception {
+		AstDiff diff = new AstDiff(ast(new String[] { "a", "w", "x", "w" }),
+				ast(new String[] { "a", "w", "x", "w", "w" }));
+		assertEquals(Arrays.asList("changed subroutine a", "inserted subroutine a new 4"), describe(diff));
+	}
+
+}
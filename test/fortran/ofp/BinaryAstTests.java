@@ -0,0 +1,83 @@
+package fortran.ofp;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Node;
+
+class BinaryAstTests {
+
+	static final String XML = "<ofp version=\"0.8.4\"><file col_begin=\"0\" col_end=\"7\" line_begin=\"1\" line_end=\"300\""
+			+ " path=\"test.f90\"><comment col_begin=\"0\" col_end=\"12\" line_begin=\"1\" line_end=\"1\" text=\"! &lt;\u017c\u00f3\u0142w&gt;\"/>"
+			+ "<program col_begin=\"0\" col_end=\"7\" line_begin=\"2\" line_end=\"300\" name=\"test\"><body>"
+			+ "<statement col_begin=\"-1\" col_end=\"200\" line_begin=\"200\" line_end=\"200\"><name id=\"x\"/></statement>"
+			+ "<statement line_begin=\"201\"><literal type=\"char\" value=\"&quot;a&quot;\"/></statement>"
+			+ "</body></program></file></ofp>";
+
+	static Document parse(String xml) throws Exception {
+		Document doc = DocumentBuilderFactory.newInstance().newDocumentBuilder()
+				.parse(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+		removeWhitespace(doc.getDocumentElement());
+		return doc;
+	}
+
+	static void removeWhitespace(Node node) {
+		Node child = node.getFirstChild();
+		while (child != null) {
+			Node next = child.getNextSibling();
+			if (child.getNodeType() == Node.TEXT_NODE && child.getNodeValue().trim().isEmpty())
+				node.removeChild(child);
+			else
+				removeWhitespace(child);
+			child = next;
+		}
+	}
+
+	static byte[] write(Document doc) throws IOException {
+		ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		new BinaryAstWriter().write(doc, stream);
+		return stream.toByteArray();
+	}
+
+	@Test
+	void testRoundTrip() throws Exception {
+		Document doc = parse(XML);
+		Document restored = new BinaryAstReader().read(new ByteArrayInputStream(write(doc)));
+		assertTrue(doc.getDocumentElement().isEqualNode(restored.getDocumentElement()));
+	}
+
+	@Test
+	void testIndentedXml() throws Exception {
+		Document doc = parse(XML.replace("><", ">\n  <"));
+		Document restored = new BinaryAstReader().read(write(doc));
+		assertTrue(parse(XML).getDocumentElement().isEqualNode(restored.getDocumentElement()));
+	}
+
+	@Test
+	void testSmallerThanXml() throws Exception {
+		StringBuilder xml = new StringBuilder("<ofp><file>");
+		for (int i = 1; i <= 1000; i++)
+			xml.append("<name col_begin=\"6\" col_end=\"7\" id=\"x\" line_begin=\"" + i + "\" line_end=\"" + i + "\"/>");
+		xml.append("</file></ofp>");
+		assertTrue(write(parse(xml.toString())).length * 5 < xml.length());
+	}
+
+	@Test
+	void testInvalidData() throws Exception {
+		final byte[] data = write(parse(XML));
+		assertThrows(IOException.class, () -> new BinaryAstReader().read(Arrays.copyOf(data, data.length - 1)));
+		assertThrows(IOException.class, () -> new BinaryAstReader().read(Arrays.copyOf(data, data.length + 1)));
+		data[0] = 'X';
+		assertThrows(IOException.class, () -> new BinaryAstReader().read(data));
+	}
+
+}
@@ -0,0 +1,123 @@
+package fortran.ofp;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+import fortran.ofp.parser.java.CodeBounds;
+
+/**
+ * Whole-tree traversals on an AST nested much deeper than the call stack of a small thread would allow if they were
+ * recursive.
+ */
+class DeepTreeTests {
+
+	static final int DEPTH = 10000;
+
+	static final long STACK_SIZE = 1 << 18;
+
+	XMLPrinterBase printer;
+
+	Element file;
+
+	Element leaf;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		printer = new XMLPrinterBase(new String[] {}, null, "deep.f90");
+		file = printer.doc.createElement("file");
+		printer.root.appendChild(file);
+		Element node = file;
+		for (int i = 0; i < DEPTH; i++) {
+			Element child = printer.doc.createElement(i % 2 == 0 ? "if" : "body");
+			node.appendChild(child);
+			node = child;
+		}
+		leaf = node;
+		leaf.setAttribute("line_begin", "3");
+		leaf.setAttribute("col_begin", "4");
+		leaf.setAttribute("line_end", "3");
+		leaf.setAttribute("col_end", "10");
+	}
+
+	/**
+	 * Run given test on a thread with a small stack, and rethrow whatever it throws.
+	 */
+	static void runWithSmallStack(final Executable test) throws Throwable {
+		final Throwable[] thrown = new Throwable[1];
+		Thread thread = new Thread(null, () -> {
+			try {
+				test.execute();
+			} catch (Throwable error) {
+				thrown[0] = error;
+			}
+		}, "small-stack", STACK_SIZE);
+		thread.start();
+		thread.join();
+		if (thrown[0] != null)
+			throw thrown[0];
+	}
+
+	@Test
+	void testPropagateBoundsAndFindContext() throws Throwable {
+		runWithSmallStack(() -> {
+			printer.propagateBounds(printer.root);
+			CodeBounds bounds = new CodeBounds(file);
+			assertEquals("3:4", bounds.begin.line + ":" + bounds.begin.col);
+			assertEquals("3:10", bounds.end.line + ":" + bounds.end.col);
+			assertFalse(printer.root.hasAttribute("line_begin"));
+			assertSame(leaf, printer.findContext(printer.root, 3, 7));
+			assertNull(printer.findContext(printer.root, 3, 11));
+			assertNull(printer.findContext(printer.root, 1, 0));
+		});
+	}
+
+	@Test
+	void testProjection() throws Throwable {
+		runWithSmallStack(() -> {
+			new Projection("body", null, "col_end").apply(printer.root);
+			Element node = file;
+			for (int i = 0; i < DEPTH / 2; i++) {
+				node = TreeTraversal.firstChild(node);
+				assertEquals("body", node.getTagName());
+			}
+			assertNull(TreeTraversal.firstChild(node));
+			assertFalse(node.hasAttribute("col_end"));
+		});
+	}
+
+	@Test
+	void testWriters() throws Throwable {
+		runWithSmallStack(() -> {
+			StringWriter xml = new StringWriter();
+			new XmlAstWriter(xml).write(printer.doc);
+			String[] lines = xml.toString().split("\n");
+			assertEquals(2 * DEPTH + 4, lines.length);
+			assertEquals(2 * (DEPTH + 1), lines[DEPTH + 2].indexOf("<body "));
+
+			StringWriter json = new StringWriter();
+			new JsonAstWriter(json).write(printer.root);
+			StringBuilder closings = new StringBuilder();
+			for (int i = 0; i < DEPTH + 2; i++)
+				closings.append("]}");
+			assertTrue(json.toString().endsWith("[" + closings));
+
+			ByteArrayOutputStream binary = new ByteArrayOutputStream();
+			new BinaryAstWriter().write(printer.doc, binary);
+			Document doc = new BinaryAstReader().read(binary.toByteArray());
+			Element node = doc.getDocumentElement();
+			for (int i = 0; i < DEPTH + 1; i++)
+				node = TreeTraversal.firstChild(node);
+			assertEquals("3", node.getAttribute("line_begin"));
+			assertNull(TreeTraversal.firstChild(node));
+		});
+	}
+
+}
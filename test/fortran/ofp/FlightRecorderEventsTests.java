@@ -0,0 +1,83 @@
+package fortran.ofp;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+
+import org.junit.jupiter.api.Test;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+class FlightRecorderEventsTests {
+
+	static class Counter implements FlightRecorderEvents.NodeCounter {
+
+		long nodes;
+
+		int calls = 0;
+
+		Counter(long nodes) {
+			this.nodes = nodes;
+		}
+
+		@Override
+		public long count() {
+			++calls;
+			return nodes;
+		}
+
+	}
+
+	@Test
+	void testEvents() throws Exception {
+		Path path = Files.createTempFile("ofp", ".jfr");
+		try (Recording recording = new Recording()) {
+			recording.start();
+			FlightRecorderEvents events = new FlightRecorderEvents("a.f90", 1000);
+			assertTrue(events.isEnabled());
+			events.beginFile("a.f90");
+			events.beginPhase("persist", 3);
+			events.endPhase("persist", new Counter(42), 10);
+			events.slowHandler("name", 999);
+			events.slowHandler("label", 1000);
+			events.endFile(new Counter(40));
+			recording.stop();
+			recording.dump(path);
+		}
+		HashMap<String, RecordedEvent> recorded = new HashMap<String, RecordedEvent>();
+		for (RecordedEvent event : RecordingFile.readAllEvents(path))
+			if (event.getEventType().getName().startsWith("fortran.ofp."))
+				assertNull(recorded.put(event.getEventType().getName(), event));
+		Files.delete(path);
+		assertEquals(3, recorded.size());
+		assertEquals(40, recorded.get("fortran.ofp.File").getLong("nodes"));
+		assertEquals("persist", recorded.get("fortran.ofp.Phase").getString("phase"));
+		assertEquals(42, recorded.get("fortran.ofp.Phase").getLong("nodes"));
+		assertEquals(7, recorded.get("fortran.ofp.Phase").getLong("tokens"));
+		assertEquals("label", recorded.get("fortran.ofp.SlowHandler").getString("handler"));
+	}
+
+	@Test
+	void testNodesCountedOnlyIfCommitted() throws Exception {
+		try (Recording recording = new Recording()) {
+			recording.disable("fortran.ofp.Phase");
+			recording.start();
+			FlightRecorderEvents events = new FlightRecorderEvents("a.f90", 1000);
+			assertTrue(events.isEnabled());
+			events.beginFile("a.f90");
+			events.beginPhase("persist", 0);
+			Counter phaseNodes = new Counter(42);
+			events.endPhase("persist", phaseNodes, 0);
+			Counter fileNodes = new Counter(40);
+			events.endFile(fileNodes);
+			recording.stop();
+			assertEquals(0, phaseNodes.calls);
+			assertEquals(1, fileNodes.calls);
+		}
+	}
+
+}
@@ -0,0 +1,52 @@
+package fortran.ofp;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.StringWriter;
+
+import org.junit.jupiter.api.Test;
+
+class HandlerStatisticsTests {
+
+	@Test
+	void testBuckets() {
+		for (long value : new long[] { 0, 1, 15, 16, 17, 100, 1000, 123456789, 1L << 40, Long.MAX_VALUE / 3 }) {
+			int bucket = HandlerStatistics.bucket(value);
+			assertTrue(bucket < HandlerStatistics.BUCKETS);
+			assertTrue(value <= HandlerStatistics.bucketLimit(bucket));
+			assertTrue(bucket == 0 || value > HandlerStatistics.bucketLimit(bucket - 1));
+			assertTrue(HandlerStatistics.bucketLimit(bucket) <= value + value / 8);
+		}
+		assertEquals(HandlerStatistics.BUCKETS - 1, HandlerStatistics.bucket(Long.MAX_VALUE));
+	}
+
+	@Test
+	void testSamplingAndPercentiles() {
+		HandlerStatistics statistics = new HandlerStatistics(new String[] { "name", "label" }, 4);
+		for (int i = 0; i < 100; i++)
+			if (statistics.begin(0) >= 0)
+				statistics.record(0, 1000 * (i / 4 + 1));
+		assertEquals(100, statistics.getCount(0));
+		assertEquals(0, statistics.getCount(1));
+		assertEquals(25000, statistics.getMaxNanos(0));
+		assertEquals(1300000, statistics.getTotalNanos(0));
+		long median = statistics.getPercentileNanos(0, 50);
+		assertTrue(13000 <= median && median <= 13000 * 9 / 8, Long.toString(median));
+		assertEquals(25000, statistics.getPercentileNanos(0, 100));
+	}
+
+	@Test
+	void testWrite() throws Exception {
+		HandlerStatistics statistics = new HandlerStatistics(new String[] { "name", "label", "keyword" }, 1);
+		statistics.end(1, statistics.begin(1));
+		statistics.begin(2);
+		statistics.record(2, 5000000);
+		StringWriter writer = new StringWriter();
+		statistics.write(writer, "a.f90");
+		String json = writer.toString();
+		assertFalse(json.contains("\"name\""));
+		assertTrue(json.indexOf("\"keyword\"") < json.indexOf("\"label\""), json);
+		assertTrue(json.contains("\"sampling_period\": 1"));
+	}
+
+}
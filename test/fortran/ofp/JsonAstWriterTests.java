@@ -0,0 +1,55 @@
+package fortran.ofp;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.StringWriter;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+class JsonAstWriterTests {
+
+	@Test
+	void testWrite() throws Exception {
+		Document doc = DocumentBuilderFactory.newInstance().newDocumentBuilder().newDocument();
+		Element root = doc.createElement("ofp");
+		doc.appendChild(root);
+		Element comment = doc.createElement("comment");
+		comment.setAttribute("text", "! \"quoted\" \\ path\tand\u0001");
+		root.appendChild(comment);
+		Element name = doc.createElement("name");
+		name.setAttribute("id", "x");
+		name.setAttribute("type", "variable");
+		root.appendChild(name);
+		root.appendChild(doc.createTextNode("\n  "));
+
+		StringWriter writer = new StringWriter();
+		new JsonAstWriter(writer).write(root);
+		assertEquals("{\"tag\":\"ofp\",\"attrib\":{},\"children\":["
+				+ "{\"tag\":\"comment\",\"attrib\":{\"text\":\"! \\\"quoted\\\" \\\\ path\\tand\\u0001\"},\"children\":[]},"
+				+ "{\"tag\":\"name\",\"attrib\":{\"id\":\"x\",\"type\":\"variable\"},\"children\":[]}]}", writer.toString());
+	}
+
+	@Test
+	void testWriteIncrementally() throws Exception {
+		Document doc = DocumentBuilderFactory.newInstance().newDocumentBuilder().newDocument();
+		Element file = doc.createElement("file");
+		file.setAttribute("path", "a.f90");
+		Element unit = doc.createElement("program");
+
+		StringWriter writer = new StringWriter();
+		JsonAstWriter jsonWriter = new JsonAstWriter(writer);
+		jsonWriter.writeBegin(file);
+		jsonWriter.write(unit);
+		jsonWriter.writeSeparator();
+		jsonWriter.write(unit);
+		jsonWriter.writeEnd();
+		assertEquals("{\"tag\":\"file\",\"attrib\":{\"path\":\"a.f90\"},\"children\":["
+				+ "{\"tag\":\"program\",\"attrib\":{},\"children\":[]},{\"tag\":\"program\",\"attrib\":{},\"children\":[]}]}",
+				writer.toString());
+	}
+
+}
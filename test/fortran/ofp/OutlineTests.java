@@ -0,0 +1,74 @@
+package fortran.ofp;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.antlr.runtime.CommonToken;
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Element;
+
+import fortran.ofp.parser.java.CodeBounds;
+
+class OutlineTests {
+
+	static CommonToken token(int line, String text) {
+		CommonToken token = new CommonToken(1, text);
+		token.setLine(line);
+		token.setCharPositionInLine(2);
+		return token;
+	}
+
+	@Test
+	void testDiscardedBodies() {
+		XMLPrinterBase printer = new XMLPrinterBase(new String[] { "--outline" }, null, "outline.f90");
+		printer.contextOpen("file");
+		Element subroutine = printer.contextOpen("subroutine");
+		printer.setAttribute("name", "outer");
+		printer.contextOpen("header");
+		printer.setAttribute("name", token(1, "outer"));
+		printer.contextClose();
+		Element body = printer.contextOpen("body");
+		Element specification = printer.contextOpen("specification");
+		for (int line = 2; line < 10; ++line) {
+			printer.contextOpen("declaration");
+			printer.setAttribute("name", token(line, "x"));
+			printer.contextClose();
+			assertTrue(printer.contextNodesCount(specification) <= 2);
+		}
+		printer.contextClose();
+		for (int line = 10; line < 100; ++line) {
+			printer.contextOpen("statement");
+			printer.contextOpen("loop");
+			Element loopBody = printer.contextOpen("body");
+			for (int i = 0; i < 3; ++i) {
+				printer.contextOpen("statement");
+				printer.setAttribute("value", token(line, "y"));
+				printer.contextClose();
+			}
+			assertEquals(3, printer.contextNodesCount(loopBody));
+			printer.contextClose();
+			printer.contextClose();
+			printer.contextClose();
+			assertTrue(printer.contextNodesCount(body) <= 2);
+		}
+		printer.contextClose();
+		printer.contextOpen("members");
+		printer.contextOpen("subroutine");
+		printer.setAttribute("name", "inner");
+		printer.contextOpen("body");
+		printer.contextOpen("statement");
+		printer.setAttribute("value", token(101, "z"));
+		printer.contextClose("subroutine");
+		printer.contextClose("members");
+		printer.contextClose(subroutine);
+
+		printer.discardOutlineContents(printer.root);
+		printer.propagateBounds(printer.root);
+		assertEquals(0, printer.contextNodesCount(body));
+		assertEquals(new CodeBounds(2, 2, 99, 3).toString(), new CodeBounds(body).toString());
+		assertEquals(new CodeBounds(1, 2, 101, 3).toString(), new CodeBounds(subroutine).toString());
+		Element inner = (Element) printer.doc.getElementsByTagName("members").item(0).getFirstChild();
+		assertEquals("inner", inner.getAttribute("name"));
+		assertEquals(0, printer.contextNodesCount(printer.contextNode(inner, 0)));
+	}
+
+}
@@ -0,0 +1,75 @@
+package fortran.ofp;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathFactory;
+
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+/**
+ * Results of PathQuery compared with the results of equivalent XPath expressions on random trees.
+ */
+class PathQueryTests {
+
+	static final String[][] QUERIES = { { "//loop//name", "//loop//name" }, { ".//body/statement", "/*//body/statement" },
+			{ "/ofp/file/members", "/ofp/file/members" }, { "loop/*/loop", "//loop/*/loop" },
+			{ "//statement[@line_begin]//name | //file/loop", "//statement[@line_begin]//name | //file/loop" },
+			{ "//*[@col_begin='3']/body", "//*[@col_begin='3']/body" }, { "//file", "//file" }, { ".", "/*" } };
+
+	static ArrayList<Element> outermost(NodeList nodes) {
+		ArrayList<Element> elements = new ArrayList<Element>();
+		for (int i = 0; i < nodes.getLength(); ++i)
+			elements.add((Element) nodes.item(i));
+		ArrayList<Element> result = new ArrayList<Element>();
+		for (Element element : elements) {
+			boolean nested = false;
+			for (Node ancestor = element.getParentNode(); ancestor != null; ancestor = ancestor.getParentNode())
+				nested |= elements.contains(ancestor);
+			if (!nested)
+				result.add(element);
+		}
+		return result;
+	}
+
+	@Test
+	void testSelect() throws Exception {
+		for (long seed = 0; seed < 20; seed++) {
+			XMLPrinterBase printer = PositionIndexTests.createPrinter(seed);
+			for (String[] query : QUERIES) {
+				NodeList expected = (NodeList) XPathFactory.newInstance().newXPath().evaluate(query[1], printer.doc,
+						XPathConstants.NODESET);
+				assertEquals(outermost(expected), new PathQuery(query[0]).select(printer.root),
+						"seed " + seed + " query " + query[0]);
+			}
+		}
+	}
+
+	@Test
+	void testApply() throws Exception {
+		XMLPrinterBase printer = PositionIndexTests.createPrinter(1);
+		Element file = (Element) printer.root.getFirstChild();
+		ArrayList<Element> matches = new PathQuery("//body//name").select(printer.root);
+		new PathQuery("//body//name").apply(printer.root);
+		assertFalse(matches.isEmpty());
+		assertSame(file, printer.root.getFirstChild());
+		assertEquals(matches, printer.contextNodes(file));
+
+		printer = PositionIndexTests.createPrinter(1);
+		int count = printer.doc.getElementsByTagName("*").getLength();
+		new PathQuery("/ofp").apply(printer.root);
+		assertEquals(count, printer.doc.getElementsByTagName("*").getLength());
+	}
+
+	@Test
+	void testInvalid() {
+		for (String query : new String[] { "", "//", "loop///name", "loop[name]", "loop[@name=x]", "loop[@name='x'" })
+			assertThrows(IllegalArgumentException.class, () -> new PathQuery(query), query);
+	}
+
+}
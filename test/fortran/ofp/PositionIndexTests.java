@@ -0,0 +1,102 @@
+package fortran.ofp;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Random;
+
+import org.antlr.runtime.CommonToken;
+import org.antlr.runtime.Token;
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Element;
+
+/**
+ * Results of PositionIndex compared with the results of linear search in XMLPrinterBase on random trees.
+ */
+class PositionIndexTests {
+
+	static final String[] TAGS = { "file", "body", "specification", "members", "statement", "loop", "name" };
+
+	static final int LINES = 200;
+
+	static void generate(XMLPrinterBase printer, Element parent, int lineBegin, int lineEnd, int depth, Random random) {
+		int line = lineBegin;
+		while (line <= lineEnd && random.nextInt(8) > 0) {
+			int lineCount = random.nextInt(Math.min(lineEnd - line + 1, 20));
+			Element node = printer.doc.createElement(TAGS[random.nextInt(TAGS.length)]);
+			if (random.nextInt(10) > 0) {
+				node.setAttribute("line_begin", Integer.toString(line));
+				node.setAttribute("col_begin", Integer.toString(random.nextInt(6)));
+				node.setAttribute("line_end", Integer.toString(line + lineCount));
+				node.setAttribute("col_end", Integer.toString(6 + random.nextInt(20)));
+			}
+			parent.appendChild(node);
+			if (depth < 5)
+				generate(printer, node, line, line + lineCount, depth + 1, random);
+			// siblings sometimes overlap
+			line += random.nextInt(20) > 0 ? lineCount + 1 + random.nextInt(3) : 0;
+		}
+	}
+
+	static XMLPrinterBase createPrinter(long seed) {
+		XMLPrinterBase printer = new XMLPrinterBase(new String[] {}, null, "random.f90");
+		Element file = printer.doc.createElement("file");
+		printer.root.appendChild(file);
+		generate(printer, file, 1, LINES, 0, new Random(seed));
+		printer.propagateBounds(printer.root);
+		return printer;
+	}
+
+	@Test
+	void testQueries() {
+		for (long seed = 0; seed < 20; seed++) {
+			XMLPrinterBase printer = createPrinter(seed);
+			PositionIndex index = new PositionIndex(printer.root);
+			Random random = new Random(seed);
+			for (int i = 0; i < 500; i++) {
+				int line = random.nextInt(LINES + 2);
+				int col = random.nextInt(30);
+				Element target = printer.findContext(printer.root, line, col);
+				assertSame(target, index.findContext(line, col), "seed " + seed + " at " + line + ":" + col);
+				if (target == null)
+					continue;
+				int position = index.findPosition(target, line, col);
+				if (position >= 0)
+					assertEquals(printer.findPosition(target, line, col), position);
+			}
+		}
+	}
+
+	static String insertComments(XMLPrinterBase printer, long seed, boolean indexed) throws Exception {
+		Random random = new Random(seed);
+		ArrayList<Token> tokens = new ArrayList<Token>();
+		for (int line = 1; line <= LINES + 1; line++)
+			if (random.nextInt(3) == 0) {
+				CommonToken token = new CommonToken(1, "! comment");
+				token.setLine(line);
+				token.setCharPositionInLine(random.nextInt(30));
+				tokens.add(token);
+			}
+		try {
+			if (indexed)
+				printer.insertTokens(printer.root, tokens, "comment", "text");
+			else
+				for (Token token : tokens)
+					printer.insertToken(printer.root, token, "comment", "text");
+		} catch (IllegalArgumentException error) {
+			return error.getMessage();
+		}
+		StringWriter writer = new StringWriter();
+		new XmlAstWriter(writer).write(printer.doc);
+		return writer.toString();
+	}
+
+	@Test
+	void testInsertTokens() throws Exception {
+		for (long seed = 0; seed < 20; seed++)
+			assertEquals(insertComments(createPrinter(seed), seed, false),
+					insertComments(createPrinter(seed), seed, true), "seed " + seed);
+	}
+
+}
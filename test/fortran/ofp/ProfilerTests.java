@@ -0,0 +1,49 @@
+package fortran.ofp;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.StringWriter;
+
+import org.junit.jupiter.api.Test;
+
+class ProfilerTests {
+
+	@Test
+	void testNestedPhases() throws Exception {
+		Profiler profiler = new Profiler(true);
+		profiler.begin("outer");
+		profiler.begin("inner");
+		Thread.sleep(50);
+		profiler.end("inner");
+		profiler.end("outer");
+		profiler.begin("inner");
+		profiler.end("inner");
+		assertEquals(2, profiler.getPhases().get("inner").count);
+		assertEquals(1, profiler.getPhases().get("outer").count);
+		assertTrue(profiler.getPhases().get("inner").wallNanos >= 50000000L);
+		assertTrue(profiler.getPhases().get("outer").wallNanos < 50000000L);
+	}
+
+	@Test
+	void testUnfinishedPhases() {
+		Profiler profiler = new Profiler(true);
+		profiler.begin("outer");
+		profiler.begin("inner");
+		profiler.end("outer");
+		profiler.end("missing");
+		assertEquals(1, profiler.getPhases().size());
+		assertTrue(profiler.getPhases().containsKey("outer"));
+	}
+
+	@Test
+	void testDisabled() throws Exception {
+		Profiler profiler = new Profiler(false);
+		profiler.begin("phase");
+		profiler.end("phase");
+		assertTrue(profiler.getPhases().isEmpty());
+		StringWriter writer = new StringWriter();
+		profiler.write(writer, "a \"b\".f90");
+		assertEquals("{\n  \"file\": \"a \\\"b\\\".f90\",\n  \"phases\": {\n  }\n}\n", writer.toString());
+	}
+
+}
@@ -0,0 +1,64 @@
+package fortran.ofp;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Element;
+
+class ProjectionTests {
+
+	static final String XML = "<ofp version=\"0.8.4\"><file path=\"a.f90\"><comment text=\"! c\"/>"
+			+ "<subroutine line_begin=\"2\" name=\"s\"><header/><body><statement line_begin=\"3\">"
+			+ "<call><name id=\"f\"/><arguments><argument><literal value=\"1\"/></argument></arguments></call>"
+			+ "</statement></body></subroutine></file></ofp>";
+
+	static Element parse(String xml) throws Exception {
+		return DocumentBuilderFactory.newInstance().newDocumentBuilder()
+				.parse(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8))).getDocumentElement();
+	}
+
+	static String serialize(Element node) throws Exception {
+		Transformer transformer = TransformerFactory.newInstance().newTransformer();
+		transformer.setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, "yes");
+		StringWriter writer = new StringWriter();
+		transformer.transform(new DOMSource(node), new StreamResult(writer));
+		return writer.toString();
+	}
+
+	@Test
+	void testKeep() throws Exception {
+		Element root = parse(XML);
+		new Projection("subroutine,call,name", null, null).apply(root);
+		assertEquals("<ofp version=\"0.8.4\"><file path=\"a.f90\"><subroutine line_begin=\"2\" name=\"s\">"
+				+ "<call><name id=\"f\"/></call></subroutine></file></ofp>", serialize(root));
+	}
+
+	@Test
+	void testPruneAndDropAttributes() throws Exception {
+		Element root = parse(XML);
+		new Projection(null, "comment,arguments", "line_begin,version").apply(root);
+		assertEquals("<ofp><file path=\"a.f90\"><subroutine name=\"s\"><header/><body><statement>"
+				+ "<call><name id=\"f\"/></call></statement></body></subroutine></file></ofp>", serialize(root));
+	}
+
+	@Test
+	void testEmpty() throws Exception {
+		Projection projection = new Projection(null, " ", "");
+		assertTrue(projection.isEmpty());
+		Element root = parse(XML);
+		projection.apply(root);
+		assertEquals(XML, serialize(root));
+	}
+
+}
@@ -0,0 +1,65 @@
+package fortran.ofp;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class StreamingTests {
+
+	/**
+	 * Build a file with a few program units, as XMLPrinter does, and return the output.
+	 */
+	static String print(File output, String format, boolean streaming) throws Exception {
+		return print(output, format, streaming, "units.f90");
+	}
+
+	static String print(File output, String format, boolean streaming, String path) throws Exception {
+		String[] args = streaming
+				? new String[] { "--verbosity", "80", "--format", format, "--output", output.getPath(), "--streaming" }
+				: new String[] { "--verbosity", "80", "--format", format, "--output", output.getPath() };
+		XMLPrinterBase printer = new XMLPrinterBase(args, null, "units.f90");
+		printer.contextOpen("file");
+		printer.setAttribute("path", path);
+		for (String unit : new String[] { "subroutine", "function", "module", "program" }) {
+			printer.streamCompletedNodes();
+			printer.contextOpen(unit);
+			printer.setAttribute("name", unit.substring(0, 1));
+			printer.contextOpen("body");
+			for (int i = 0; i < 3; ++i) {
+				printer.contextOpen("statement");
+				printer.setAttribute("value", i);
+				printer.contextClose();
+			}
+			printer.contextClose();
+			printer.contextClose();
+		}
+		printer.cleanUp();
+		return new String(Files.readAllBytes(output.toPath()), StandardCharsets.UTF_8);
+	}
+
+	@Test
+	void testSameAsWithoutStreaming(@TempDir File dir) throws Exception {
+		for (String format : new String[] { "xml", "json", "ndjson" }) {
+			String expected = print(new File(dir, "expected." + format), format, false);
+			String actual = print(new File(dir, "actual." + format), format, true);
+			assertTrue(expected.contains("\"p\""), format);
+			assertEquals(expected, actual, format);
+		}
+	}
+
+	@Test
+	void testEscapedFileAttributes(@TempDir File dir) throws Exception {
+		// start tags of streamed <file> nodes are escaped the same way as all other nodes
+		String path = "a\u0001<\"&>\uD83D\uDE00.f90";
+		String expected = print(new File(dir, "expected.xml"), "xml", false, path);
+		String actual = print(new File(dir, "actual.xml"), "xml", true, path);
+		assertTrue(expected.contains("path=\"a&#1;&lt;&quot;&amp;&gt;&#128512;.f90\""), expected);
+		assertEquals(expected, actual);
+	}
+
+}
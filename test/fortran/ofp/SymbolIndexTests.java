@@ -0,0 +1,46 @@
+package fortran.ofp;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.StringWriter;
+
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Element;
+
+class SymbolIndexTests {
+
+	static Element append(Element parent, String tag, String name) {
+		Element node = parent.getOwnerDocument().createElement(tag);
+		if (name != null)
+			node.setAttribute(tag.equals("file") ? "path" : "name", name);
+		parent.appendChild(node);
+		return node;
+	}
+
+	@Test
+	void testScopeAndPath() throws Exception {
+		XMLPrinterBase printer = new XMLPrinterBase(new String[] {}, null, "example.f90");
+		Element file = append(printer.root, "file", "src/Example\t1.f90");
+		Element module = append(file, "module", "Geometry");
+		Element subroutine = append(append(module, "members", null), "subroutine", "Area");
+		Element interfaceBody = append(append(subroutine, "interface", null), "function", "Length");
+		Element body = append(subroutine, "body", null);
+
+		SymbolIndex index = new SymbolIndex();
+		index.add("module", "Geometry", file, 1);
+		index.add("use", "ISO_C_Binding", module, 2);
+		index.add("subroutine", "Area", subroutine.getParentNode(), 4);
+		index.add("function", "Length", interfaceBody.getParentNode(), 6);
+		index.add("variable", "R", body, 8);
+		index.add("call", "Report", body, 9);
+		index.add("module", "Other", printer.root, 12);
+		assertEquals(6, index.size());
+
+		StringWriter writer = new StringWriter();
+		index.write(writer);
+		assertEquals("geometry\tmodule\t\tsrc/Example 1.f90\t1\n" + "iso_c_binding\tuse\tgeometry\tsrc/Example 1.f90\t2\n"
+				+ "area\tsubroutine\tgeometry\tsrc/Example 1.f90\t4\n" + "r\tvariable\tarea\tsrc/Example 1.f90\t8\n"
+				+ "report\tcall\tarea\tsrc/Example 1.f90\t9\n" + "other\tmodule\t\t\t12\n", writer.toString());
+	}
+
+}
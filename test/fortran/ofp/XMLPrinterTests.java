@@ -0,0 +1,289 @@
+package fortran.ofp;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.antlr.runtime.CommonToken;
+import org.antlr.runtime.Token;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.w3c.dom.Element;
+
+class XMLPrinterTests {
+
+	static Token token(String text) {
+		CommonToken token = new CommonToken(1, text);
+		token.setLine(1);
+		token.setCharPositionInLine(0);
+		return token;
+	}
+
+	static void literal(XMLPrinter printer, String value) {
+		printer.int_literal_constant(token(value), null);
+		printer.literal_constant();
+	}
+
+	static String operand(String value) {
+		return "<operand><literaltype=\"int\"value=\"" + value + "\"><int-literal-constantdigitString=\"" + value
+				+ "\"kindParam=\"\"/></literal></operand>";
+	}
+
+	static String write(Element node) throws Exception {
+		StringWriter writer = new StringWriter();
+		new XmlAstWriter(writer).write(node, 0);
+		return writer.toString().replaceAll("\\s+", "");
+	}
+
+	@Test
+	void testOperations() throws Exception {
+		// .not. 1 .and. 2 * 3 .and. 4
+		XMLPrinter printer = new XMLPrinter(new String[] { "--verbosity", "0" }, null, "operations.f90");
+		Element file = printer.contextOpen("file");
+		printer.add_op(token(".not."));
+		literal(printer, "1");
+		printer.add_op(token(".and."));
+		literal(printer, "2");
+		printer.mult_op(token("*"));
+		literal(printer, "3");
+		printer.mult_operand__mult_op(token("*"));
+		printer.mult_operand(1);
+		printer.add_op(token(".and."));
+		literal(printer, "4");
+		printer.and_operand(true, 2);
+		assertSame(file, printer.context);
+		assertEquals(1, printer.contextNodesCount(file));
+		assertEquals("<operationtype=\"multiary\"><operand><operationtype=\"unary\"><operatoroperator=\".not.\"/>"
+				+ operand("1") + "</operation></operand><operatoroperator=\".and.\"/><operand><operationtype=\"multiary\">"
+				+ operand("2") + "<operatoroperator=\"*\"/>" + operand("3") + "</operation></operand>"
+				+ "<operatoroperator=\".and.\"/>" + operand("4") + "</operation>",
+				write(printer.contextNode(file, 0)));
+	}
+
+	static Element labeledLoop(XMLPrinter printer, String label) {
+		// do_stmt() is called in the statement which becomes the loop
+		Element loop = printer.context;
+		printer.do_stmt(null, null, token("do"), token(label), token("\n"), false);
+		assertEquals(label, loop.getAttribute("label"));
+		return loop;
+	}
+
+	@Test
+	void testLabeledLoops() {
+		XMLPrinter printer = new XMLPrinter(new String[] { "--verbosity", "0" }, null, "loops.f90");
+		printer.contextOpen("file");
+		printer.contextOpen("statement");
+		Element outer = labeledLoop(printer, "10");
+		Element inner = labeledLoop(printer, "20");
+		printer.label(token("20"));
+		assertSame(inner, printer.context.getParentNode());
+		printer.do_construct();
+		printer.label(token("20"));
+		assertSame(outer, printer.context.getParentNode().getParentNode());
+		printer.label(token("10"));
+		assertSame(outer, printer.context.getParentNode());
+
+		// a label of an outer loop terminates also the inner loop
+		labeledLoop(printer, "30");
+		printer.label(token("10"));
+		assertSame(outer, printer.context.getParentNode());
+		Element context = printer.context;
+		printer.label(token("30"));
+		assertSame(context, printer.context);
+
+		printer.do_construct();
+		context = printer.context;
+		printer.label(token("10"));
+		assertSame(context, printer.context);
+	}
+
+	@Test
+	void testContextLastNodes() {
+		XMLPrinter printer = new XMLPrinter(new String[] {}, null, "nodes.f90");
+		Element file = printer.contextOpen("file");
+		for (int i = 0; i < 5; ++i) {
+			printer.contextOpen("node");
+			printer.contextClose();
+		}
+		for (int count = 1; count <= 5; ++count)
+			assertEquals(printer.contextNodes(file, -count, count), printer.contextLastNodes(file, count));
+	}
+
+	static String names(XMLPrinter printer, Element context) {
+		StringBuilder names = new StringBuilder();
+		for (Element node : printer.contextNodes(context))
+			names.append(node.getTagName());
+		return names.toString();
+	}
+
+	@Test
+	void testMoveRange() {
+		XMLPrinter printer = new XMLPrinter(new String[] {}, null, "range.f90");
+		Element file = printer.contextOpen("file");
+		for (String name : new String[] { "a", "b", "c", "d", "e" }) {
+			printer.contextOpen(name);
+			printer.contextClose();
+		}
+		Element target = printer.contextOpen("target");
+		for (String name : new String[] { "x", "y", "z" }) {
+			printer.contextOpen(name);
+			printer.contextClose();
+		}
+		printer.contextClose();
+
+		printer.moveRangeTo(target, 1, printer.contextNode(file, 1), printer.contextNode(file, 2));
+		assertEquals("adetarget", names(printer, file));
+		assertEquals("xbcyz", names(printer, target));
+		printer.moveRangeTo(target, -2, printer.contextNode(file, 0), printer.contextNode(file, 0));
+		assertEquals("xbcyaz", names(printer, target));
+		printer.moveTo(target, printer.contextNodes(file, 0, 2));
+		assertEquals("target", names(printer, file));
+		assertEquals("xbcyazde", names(printer, target));
+	}
+
+	@Test
+	void testAssignment() throws Exception {
+		XMLPrinter printer = new XMLPrinter(new String[] { "--verbosity", "0" }, null, "assignment.f90");
+		Element file = printer.contextOpen("file");
+		printer.contextOpen("statement");
+		literal(printer, "1");
+		literal(printer, "2");
+		printer.assignment_stmt(null, null);
+		assertEquals("<statement><assignment><target>" + operand("1").replaceAll("</?operand>", "")
+				+ "</target><value>" + operand("2").replaceAll("</?operand>", "") + "</value></assignment></statement>",
+				write(printer.contextNode(file, 0)));
+	}
+
+	static Element assignments(XMLPrinter printer, int count) {
+		Element file = printer.contextOpen("file");
+		for (int i = 0; i < count; ++i) {
+			printer.contextOpen("statement");
+			literal(printer, "1");
+			literal(printer, String.valueOf(i));
+			printer.assignment_stmt(null, null);
+			printer.contextClose();
+		}
+		return file;
+	}
+
+	@Test
+	void testPruneWhileParsing() throws Exception {
+		XMLPrinter printer = new XMLPrinter(new String[] { "--verbosity", "0", "--prune", "value" }, null, "prune.f90");
+		Element file = assignments(printer, 4);
+		// the last complete statement is kept intact when the next one is opened
+		assertFalse(write(printer.contextNode(file, 0)).contains("<value>"));
+		assertFalse(write(printer.contextNode(file, 1)).contains("<value>"));
+		assertTrue(write(printer.contextNode(file, 2)).contains("<value>"));
+		assertTrue(write(printer.contextNode(file, 3)).contains("<value>"));
+
+		XMLPrinter unpruned = new XMLPrinter(new String[] { "--verbosity", "0" }, null, "prune.f90");
+		Element expected = assignments(unpruned, 4);
+		new Projection(null, "value", null).apply(expected);
+		printer.projection.apply(file);
+		assertEquals(write(expected), write(file));
+	}
+
+	static Element bounded(XMLPrinter printer, String name, int lineBegin, int colBegin, int lineEnd, int colEnd) {
+		Element node = printer.contextOpen(name);
+		node.setAttribute("line_begin", String.valueOf(lineBegin));
+		node.setAttribute("col_begin", String.valueOf(colBegin));
+		node.setAttribute("line_end", String.valueOf(lineEnd));
+		node.setAttribute("col_end", String.valueOf(colEnd));
+		return node;
+	}
+
+	static Element ifStatementsWithComments(XMLPrinter printer, int count) {
+		Element file = printer.contextOpen("file");
+		ArrayList<Token> comments = new ArrayList<Token>();
+		for (int i = 0; i < count; ++i) {
+			// if (...) then / x = 1 / ! comment / end if
+			int line = 4 * i + 1;
+			bounded(printer, "statement", line, 0, line + 3, 6);
+			bounded(printer, "if", line, 0, line + 3, 6);
+			bounded(printer, "body", line + 1, 2, line + 1, 7);
+			bounded(printer, "statement", line + 1, 2, line + 1, 7);
+			printer.contextClose("if");
+			printer.contextClose("statement");
+			Token comment = token("! comment", line + 2);
+			comment.setCharPositionInLine(2);
+			comments.add(comment);
+		}
+		printer.insertTokens(file, comments, "comment", "text");
+		return file;
+	}
+
+	@Test
+	void testPruneWithComments() throws Exception {
+		// comments located in pruned nodes are pruned with them
+		XMLPrinter printer = new XMLPrinter(new String[] { "--verbosity", "100", "--prune", "if" }, null,
+				"prune.f90");
+		Element file = ifStatementsWithComments(printer, 3);
+		XMLPrinter unpruned = new XMLPrinter(new String[] { "--verbosity", "100" }, null, "prune.f90");
+		Element expected = ifStatementsWithComments(unpruned, 3);
+		assertTrue(write(expected).contains("<comment"));
+		new Projection(null, "if", null).apply(expected);
+		printer.projection.apply(file);
+		assertFalse(write(file).contains("<comment"));
+		assertEquals(write(expected), write(file));
+	}
+
+	@Test
+	void testDependenciesOnly(@TempDir File dir) throws Exception {
+		File path = new File(dir, "deps.f90");
+		Files.write(path.toPath(), Arrays.asList("module a", "  use b", "end module a"), StandardCharsets.UTF_8);
+		File output = new File(dir, "deps.txt");
+		XMLPrinter printer = new XMLPrinter(new String[] { "--deps-only", "--output", output.getPath() }, null,
+				path.getPath());
+		String expected = path.getPath() + "\tprovides\ta\n" + path.getPath() + "\trequires\tb\n";
+		assertEquals(expected, new String(Files.readAllBytes(output.toPath()), StandardCharsets.UTF_8));
+		// the front end parses the file anyway, and then the output is left as it is
+		printer.contextOpen("file");
+		printer.cleanUp();
+		assertEquals(expected, new String(Files.readAllBytes(output.toPath()), StandardCharsets.UTF_8));
+	}
+
+	static Token token(String text, int line) {
+		Token token = token(text);
+		token.setLine(line);
+		return token;
+	}
+
+	@Test
+	void testRecovery(@TempDir File dir) throws Exception {
+		File path = new File(dir, "recovery.f90");
+		Files.write(path.toPath(), Arrays.asList("program p", "  x = 1", "  y = 2", "end program p"),
+				StandardCharsets.UTF_8);
+		XMLPrinter printer = new XMLPrinterRecovering(new String[] { "--verbosity", "0" }, null, path.getPath());
+		Element file = printer.contextOpen("file");
+		file.setAttribute("path", path.getPath());
+		printer.contextOpen("statement");
+
+		// error in the handler which ends the statement
+		literal(printer, "1");
+		printer.assignment_stmt(null, token("\n", 2));
+		printer.action_stmt();
+		// error in the middle of the statement, remaining handlers of the statement are skipped
+		printer.char_length(false);
+		literal(printer, "2");
+		printer.assignment_stmt(null, token("\n", 3));
+		printer.action_stmt();
+
+		assertEquals(3, printer.contextNodesCount(file));
+		Element error = (Element) printer.contextNode(file, 0).getFirstChild();
+		assertEquals("error", error.getTagName());
+		assertEquals("assignment_stmt", error.getAttribute("handler"));
+		assertEquals("  x = 1", error.getAttribute("text"));
+		assertEquals("2", error.getAttribute("line_begin"));
+		error = (Element) printer.contextNode(file, 1).getFirstChild();
+		assertEquals("char_length", error.getAttribute("handler"));
+		assertEquals("  y = 2", error.getAttribute("text"));
+		assertNull(error.getNextSibling());
+		assertSame(printer.contextNode(file, 2), printer.context);
+	}
+
+}
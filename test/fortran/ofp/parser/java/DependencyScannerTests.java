@@ -0,0 +1,63 @@
+package fortran.ofp.parser.java;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+class DependencyScannerTests {
+
+	static File write(String code) throws Exception {
+		File file = File.createTempFile("dependencies", ".f90");
+		file.deleteOnExit();
+		Writer writer = new OutputStreamWriter(new FileOutputStream(file), "UTF-8");
+		writer.write(code);
+		writer.close();
+		return file;
+	}
+
+	static DependencyScanner scan(String code) throws Exception {
+		return new DependencyScanner(write(code));
+	}
+
+	@Test
+	void testModulesAndUses() throws Exception {
+		DependencyScanner scanner = scan("module Geometry\n" + "  use, intrinsic :: iso_c_binding\n"
+				+ "  use Shapes, only: circle; use :: Units\n" + "  use, non_intrinsic :: io\n" + "  use geometry\n"
+				+ "  integer :: use\n" + "contains\n" + "  module procedure area\n" + "end module\n"
+				+ "submodule (solver:internal) details\n" + "end submodule\n" + "program main; use shapes\n"
+				+ "10 use parallel\n" + "  use = 1\n" + "  use(1) = 2\n" + "  print *, 'a; use strings'\n"
+				+ "  user = 3 ! ; use comments\n" + "end program\n");
+		assertEquals(Arrays.asList("geometry"), scanner.provides);
+		assertEquals(Arrays.asList("shapes", "units", "io", "solver", "parallel"), scanner.requires);
+	}
+
+	@Test
+	void testEmpty() throws Exception {
+		DependencyScanner scanner = scan("");
+		assertTrue(scanner.provides.isEmpty());
+		assertTrue(scanner.requires.isEmpty());
+	}
+
+	@Test
+	void testMain() throws Exception {
+		String path = write("module a\n  use b\nend module\n").getPath();
+		PrintStream out = System.out;
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		System.setOut(new PrintStream(output, true, "UTF-8"));
+		try {
+			DependencyScanner.main(new String[] { path });
+		} finally {
+			System.setOut(out);
+		}
+		assertEquals(path + "\tprovides\ta\n" + path + "\trequires\tb\n", output.toString("UTF-8"));
+	}
+
+}
@@ -0,0 +1,63 @@
+package fortran.ofp.parser.java;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+
+import org.antlr.runtime.CommonToken;
+import org.antlr.runtime.Token;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TokensListTests {
+
+	File[] inputs;
+
+	int parallelChunkMinLength;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		parallelChunkMinLength = TokensList.parallelChunkMinLength;
+		TokensList.parallelChunkMinLength = 64;
+		inputs = new File[] { new File("test/examples/comments.f"), new File("test/examples/comments.f90"),
+				new File("test/examples/strings.f90"), new File("test/examples_large/ORCHIDEE_grid.f90"),
+				new File("test/examples_large/ORCHIDEE_stomate.f90") };
+	}
+
+	@AfterEach
+	void tearDown() {
+		TokensList.parallelChunkMinLength = parallelChunkMinLength;
+	}
+
+	@Test
+	void testParallelSameAsSequential() throws Exception {
+		for (File input : inputs) {
+			TokensList sequential = new TokensList(input);
+			// the number of chunks is given, so that files are split even on a single processor
+			TokensList parallel = new TokensList();
+			assertTrue(parallel.addAllParallel(input, null, 4) > 1, input.toString());
+			assertEquals(sequential.size(), parallel.size(), input.toString());
+			for (int i = 0; i < sequential.size(); ++i) {
+				Token expected = sequential.get(i);
+				Token actual = parallel.get(i);
+				assertEquals(expected.getType(), actual.getType());
+				assertEquals(expected.getChannel(), actual.getChannel());
+				assertEquals(expected.getLine(), actual.getLine());
+				assertEquals(expected.getCharPositionInLine(), actual.getCharPositionInLine());
+				assertEquals(((CommonToken) expected).getStartIndex(), ((CommonToken) actual).getStartIndex());
+				assertEquals(expected.getText(), actual.getText());
+			}
+		}
+	}
+
+	@Test
+	void testStatementBoundaries() {
+		String code = "a = 1 + &\n  ! comment\n  & 2\nb = 'x&\n&y'\nc = 3\n";
+		StatementBoundaries boundaries = new StatementBoundaries(code, false);
+		assertEquals(2, boundaries.offsets.size());
+		assertEquals(4, (int) boundaries.lines.get(0));
+		assertEquals(6, (int) boundaries.lines.get(1));
+	}
+
+}
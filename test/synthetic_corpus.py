@@ -0,0 +1,139 @@
+"""Generator of synthetic Fortran files that scale along one dimension at a time."""
+
+import json
+import math
+import pathlib
+import tempfile
+import typing as t
+
+from open_fortran_parser.parser_wrapper import execute_parser
+
+DEFAULTS = {
+    'statements': 100,
+    'depth': 1,
+    'expression_length': 4,
+    'comment_density': 0.1,
+    'includes': 0}
+"""Size of each dimension when other dimension is scaled."""
+
+DIMENSIONS = {
+    'statements': (1000, 2000, 4000, 8000, 16000),
+    'depth': (25, 50, 100, 200, 400),
+    'expression_length': (100, 200, 400, 800, 1600),
+    'comment_density': (1, 2, 4, 8, 16),
+    'includes': (25, 50, 100, 200, 400)}
+"""Sizes at which each dimension is measured by scaling benchmark."""
+
+PHASES = ('parsing', 'propagateBounds', 'insertTokens', 'persist')
+
+_TERMS_PER_LINE = 8
+
+
+def _expression(length: int, seed: int) -> str:
+    operators = ('+', '*', '-')
+    terms = []
+    for i in range(length):
+        term = 'a({})'.format((seed + i) % 10 + 1)
+        if i > 0:
+            term = '{} {}'.format(operators[i % len(operators)], term)
+        if i > 0 and i % _TERMS_PER_LINE == 0:
+            term = '&\n      & ' + term
+        terms.append(term)
+    return ' '.join(terms)
+
+
+def generate(
+        path: pathlib.Path, statements: int = DEFAULTS['statements'],
+        depth: int = DEFAULTS['depth'], expression_length: int = DEFAULTS['expression_length'],
+        comment_density: float = DEFAULTS['comment_density'],
+        includes: int = DEFAULTS['includes']) -> pathlib.Path:
+    """Write a free-form Fortran file with one subroutine to given path and return the path.
+
+    The body of the subroutine is nested in given number of if constructs, and consists of
+    given number of assignment statements, each with an expression of given number of terms,
+    preceded by given number of comments per statement on average. Statements are followed
+    by given number of include lines, each including a separate file with one statement, which
+    is written in the same directory.
+    """
+    lines = [
+        '! synthetic file: statements={} depth={} expression_length={} comment_density={}'
+        ' includes={}'.format(statements, depth, expression_length, comment_density, includes),
+        'subroutine synthetic(n, x)',
+        '  implicit none',
+        '  integer, intent(in) :: n',
+        '  real, intent(inout) :: x',
+        '  real :: a(10)',
+        '  a = 1.0']
+    for level in range(depth):
+        lines.append('  if (n > {}) then'.format(level))
+    comments = 0
+    for i in range(statements):
+        while comments < math.floor((i + 1) * comment_density):
+            lines.append('  ! comment {}'.format(comments))
+            comments += 1
+        lines.append('  x = x + {}'.format(_expression(expression_length, i)))
+    for i in range(includes):
+        include_name = '{}_{}.inc'.format(path.stem, i)
+        path.with_name(include_name).write_text('  x = x + {}\n'.format(i))
+        lines.append("  include '{}'".format(include_name))
+    for _ in range(depth):
+        lines.append('  end if')
+    lines.append('end subroutine synthetic')
+    path.write_text('\n'.join(lines) + '\n')
+    return path
+
+
+def complexity_exponent(sizes: t.Sequence[float], costs: t.Sequence[float]) -> float:
+    """Return k such that cost ~ size^k, fitted by least squares on logarithms.
+
+    Non-positive costs (e.g. of phases too short to measure) are ignored.
+    """
+    points = [(math.log(size), math.log(cost)) for size, cost in zip(sizes, costs) if cost > 0]
+    if len(points) < 2:
+        raise ValueError('at least 2 positive measurements are needed, got {}'.format(costs))
+    mean_x = sum(x for x, _ in points) / len(points)
+    mean_y = sum(y for _, y in points) / len(points)
+    variance = sum((x - mean_x) ** 2 for x, _ in points)
+    covariance = sum((x - mean_x) * (y - mean_y) for x, y in points)
+    return covariance / variance
+
+
+def measure(input_path: pathlib.Path, verbosity: int = 100) -> t.Dict[str, int]:
+    """Parse given file and return CPU time (or wall time, if unavailable) of each phase in ns."""
+    with tempfile.TemporaryDirectory() as temp_dir:
+        profile_path = pathlib.Path(temp_dir, 'profile.json')
+        output_path = pathlib.Path(temp_dir, 'output.xml')
+        process = execute_parser(input_path, output_path, verbosity, False,
+                                 '-I', str(input_path.parent), profile_path=profile_path)
+        process.check_returncode()
+        phases = json.loads(profile_path.read_text())['phases']
+    return {name: phase['cpu_ns'] if phase['cpu_ns'] > 0 else phase['wall_ns']
+            for name, phase in phases.items()}
+
+
+def scaling_benchmark(
+        dimension: str, sizes: t.Sequence[int] = None, verbosity: int = 100) -> t.Dict[str, dict]:
+    """Measure each phase on files of increasing size along one dimension.
+
+    Return, for each phase, the costs in ns at each size and the fitted complexity exponent.
+    """
+    if sizes is None:
+        sizes = DIMENSIONS[dimension]
+    costs = {phase: [] for phase in PHASES}  # type: t.Dict[str, t.List[int]]
+    with tempfile.TemporaryDirectory() as temp_dir:
+        for size in sizes:
+            parameters = DEFAULTS.copy()
+            parameters[dimension] = size
+            input_path = generate(pathlib.Path(temp_dir, 'synthetic_{}.f90'.format(size)),
+                                  **parameters)
+            phases = measure(input_path, verbosity)
+            for phase in PHASES:
+                costs[phase].append(phases.get(phase, 0))
+    results = {}
+    for phase in PHASES:
+        results[phase] = {'sizes': list(sizes), 'cost_ns': costs[phase]}
+        try:
+            results[phase]['exponent'] = complexity_exponent(sizes, costs[phase])
+        except ValueError:
+            results[phase]['exponent'] = None
+    return results
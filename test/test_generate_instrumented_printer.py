@@ -0,0 +1,28 @@
+"""Tests of generating the instrumented XML printer."""
+
+import unittest
+
+import generate_instrumented_printer
+
+
+class Tests(unittest.TestCase):
+
+    def test_up_to_date(self):
+        self.assertEqual(generate_instrumented_printer.main(['--check']), 0,
+                         msg='run generate_instrumented_printer.py after changing XMLPrinter.java')
+
+    def test_all_handlers_instrumented(self):
+        printer_code = generate_instrumented_printer.PRINTER_PATH.read_text(encoding='utf-8')
+        handlers = generate_instrumented_printer.find_handlers(printer_code)
+        self.assertEqual(len(handlers), printer_code.count('\n\tpublic void '))
+        code = generate_instrumented_printer.generate(printer_code)
+        for _, name, _ in handlers:
+            self.assertIn('\t\tsuper.{}('.format(name), code)
+
+    def test_all_handlers_recovering(self):
+        printer_code = generate_instrumented_printer.PRINTER_PATH.read_text(encoding='utf-8')
+        code = generate_instrumented_printer.generate_recovering(printer_code)
+        for _, name, parameters in generate_instrumented_printer.find_handlers(printer_code):
+            self.assertIn('\t\tsuper.{}('.format(name), code)
+            eos = 'eos' if ('Token', 'eos') in parameters else 'null'
+            self.assertIn('beginHandler("{}", {})'.format(name, eos), code)
@@ -1,15 +1,20 @@
 """Tests for parser_wrapper module."""
 
+import gzip
 import itertools
+import json
 import logging
 import os
 import pathlib
+import subprocess
 import tempfile
+import timeit
 import unittest
 import xml.etree.ElementTree as ET
 
 from open_fortran_parser.config import JAVA as java_config
-from open_fortran_parser.parser_wrapper import execute_parser, parse
+from open_fortran_parser.parser_wrapper import \
+    dependencies, diff, execute_parser, parse, parse_concurrently, read_output
 from .test_setup import run_program
 
 _LOG = logging.getLogger(__name__)
@@ -21,6 +26,23 @@ INPUT_PATHS_LARGE = list(pathlib.Path(_HERE, 'examples_large').glob('**/*.*'))
 VERBOSITIES = (0, 20, 80, 100)
 
 
+def _xml_to_tuple(node: ET.Element) -> tuple:
+    return node.tag, node.attrib, [_xml_to_tuple(child) for child in node]
+
+
+def _without_file_bounds(root: tuple) -> tuple:
+    """Remove code bounds of <file> nodes from a tree converted to tuples, as streaming omits them."""
+    tag, attrib, files = root
+    return tag, attrib, [
+        (file_tag, {key: value for key, value in file_attrib.items()
+                    if key not in ('line_begin', 'col_begin', 'line_end', 'col_end')}, nodes)
+        for file_tag, file_attrib, nodes in files]
+
+
+def _json_to_tuple(node: dict) -> tuple:
+    return node['tag'], node['attrib'], [_json_to_tuple(child) for child in node['children']]
+
+
 class Tests(unittest.TestCase):
 
     maxDiff = None
@@ -81,6 +103,226 @@ class Tests(unittest.TestCase):
                     fortran_ast = ET.fromstring(process.stdout)
                     self._validate_tree(fortran_ast)
 
+    def test_execute_parser_json(self):
+        for input_path in INPUT_PATHS:
+            for verbosity in VERBOSITIES:
+                with self.subTest(input_path=input_path, verbosity=verbosity):
+                    reference = parse(input_path, verbosity)
+                    process = execute_parser(input_path, None, verbosity, output_format='json')
+                    self.assertEqual(process.returncode, 0)
+                    self.assertEqual(
+                        _json_to_tuple(json.loads(process.stdout.decode())),
+                        _xml_to_tuple(reference))
+                    process = execute_parser(input_path, None, verbosity, output_format='ndjson')
+                    self.assertEqual(process.returncode, 0)
+                    self.assertListEqual(
+                        [_json_to_tuple(json.loads(line))
+                         for line in process.stdout.decode().split('\n') if line],
+                        [_xml_to_tuple(node) for node in reference[0]])
+
+    def test_parse_profile(self):
+        for input_path in INPUT_PATHS:
+            with self.subTest(input_path=input_path):
+                root_node, profile = parse(input_path, profile=True)
+                self._validate_tree(root_node)
+                self.assertIn('file', profile)
+                for phase in ('startup', 'parsing', 'propagateBounds', 'insertTokens', 'persist'):
+                    self.assertIn(phase, profile['phases'])
+                    self.assertGreater(profile['phases'][phase]['count'], 0)
+                    self.assertGreaterEqual(profile['phases'][phase]['wall_ns'], 0)
+
+    def test_compressed_output(self):
+        with tempfile.TemporaryDirectory() as temp_dir:
+            for input_path in INPUT_PATHS:
+                for output_format in ('xml', 'binary'):
+                    with self.subTest(input_path=input_path, output_format=output_format):
+                        output_path = pathlib.Path(temp_dir, input_path.name + '.gz')
+                        process = execute_parser(
+                            input_path, output_path, output_format=output_format)
+                        self.assertEqual(process.returncode, 0)
+                        with open(str(output_path), 'rb') as output_file:
+                            self.assertEqual(output_file.read(2), b'\x1f\x8b')
+                        root_node = read_output(output_path)
+                        reference = parse(input_path)
+                        self.assertEqual(_xml_to_tuple(root_node), _xml_to_tuple(reference))
+
+    def test_dependencies(self):
+        for input_path in INPUT_PATHS:
+            with self.subTest(input_path=input_path):
+                provides, requires = dependencies(input_path)
+                root_node = parse(input_path, 0)
+                modules = [node.attrib['name'].lower() for node in root_node.iter('module')]
+                self.assertListEqual(provides, modules)
+                used = {node.attrib['name'].lower() for node in root_node.iter('use')}
+                self.assertLessEqual(set(requires), used)
+                self.assertFalse(set(requires) & set(modules))
+
+    def test_diff(self):
+        for input_path in INPUT_PATHS:
+            with self.subTest(input_path=input_path), tempfile.TemporaryDirectory() as temp_dir:
+                xml_path = pathlib.Path(temp_dir, 'tree.xml')
+                binary_path = pathlib.Path(temp_dir, 'tree.bin.gz')
+                execute_parser(input_path, xml_path).check_returncode()
+                execute_parser(input_path, binary_path, output_format='binary').check_returncode()
+                self.assertEqual(len(diff(xml_path, binary_path)), 0)
+                outline_path = pathlib.Path(temp_dir, 'outline.xml')
+                execute_parser(input_path, outline_path, outline=True).check_returncode()
+                changes = diff(xml_path, outline_path)
+                self.assertLessEqual({node.attrib['kind'] for node in changes}, {'changed', 'deleted'})
+                self.assertSetEqual(
+                    {node.attrib['unit'] for node in changes if node.attrib['kind'] == 'changed'},
+                    {node.attrib['unit'] for node in changes})
+
+    def test_outline(self):
+        units = ('program', 'module', 'subroutine', 'function', 'block-data')
+        for input_path in INPUT_PATHS:
+            with self.subTest(input_path=input_path):
+                process = execute_parser(input_path, None, outline=True)
+                self.assertEqual(process.returncode, 0)
+                root_node = ET.fromstring(process.stdout)
+                self._validate_tree(root_node)
+                reference = parse(input_path)
+                for unit in units:
+                    self.assertListEqual(
+                        [(node.attrib.get('name'), node.attrib.get('line_begin'),
+                          node.attrib.get('line_end')) for node in root_node.iter(unit)],
+                        [(node.attrib.get('name'), node.attrib.get('line_begin'),
+                          node.attrib.get('line_end')) for node in reference.iter(unit)])
+                    for node in root_node.iter(unit):
+                        for body in node.findall('body'):
+                            self.assertEqual(len(body), 0)
+
+    def test_query(self):
+        for input_path in INPUT_PATHS:
+            reference = parse(input_path)
+            for query in ('.//loop//call', './/subroutine/header', './/name', './file/*[@name]'):
+                with self.subTest(input_path=input_path, query=query):
+                    root_node = parse(input_path, query=query)
+                    matches = reference.findall(query)
+                    nested = {node for match in matches for node in match.iter() if node is not match}
+                    self.assertListEqual(
+                        [_xml_to_tuple(node) for node in root_node[0]],
+                        [_xml_to_tuple(node) for node in matches if node not in nested])
+
+    def _check_streaming(self, input_paths, verbosities):
+        for input_path in input_paths:
+            for verbosity in verbosities:
+                with self.subTest(input_path=input_path, verbosity=verbosity):
+                    outputs = []
+                    for streaming in (False, True):
+                        process = execute_parser(input_path, None, verbosity, streaming=streaming)
+                        self.assertEqual(process.returncode, 0)
+                        outputs.append(_without_file_bounds(
+                            _xml_to_tuple(ET.fromstring(process.stdout))))
+                    self.assertEqual(outputs[1], outputs[0])
+                    outputs = []
+                    for streaming in (False, True):
+                        process = execute_parser(input_path, None, verbosity, output_format='json',
+                                                 streaming=streaming)
+                        self.assertEqual(process.returncode, 0)
+                        outputs.append(_without_file_bounds(
+                            _json_to_tuple(json.loads(process.stdout.decode()))))
+                    self.assertEqual(outputs[1], outputs[0])
+                    outputs = []
+                    for streaming in (False, True):
+                        process = execute_parser(input_path, None, verbosity,
+                                                 output_format='ndjson', streaming=streaming)
+                        self.assertEqual(process.returncode, 0)
+                        outputs.append([_json_to_tuple(json.loads(line))
+                                        for line in process.stdout.decode().split('\n') if line])
+                    self.assertListEqual(outputs[1], outputs[0])
+
+    def test_streaming(self):
+        self._check_streaming(INPUT_PATHS, VERBOSITIES)
+
+    @unittest.skipUnless(os.environ.get('TEST_LONG'), 'skipping long test')
+    def test_streaming_large(self):
+        self._check_streaming(INPUT_PATHS_LARGE, (0, 100))
+
+    def test_recover(self):
+        for input_path in INPUT_PATHS:
+            with self.subTest(input_path=input_path):
+                root_node = parse(input_path, recover=True)
+                self.assertListEqual(list(root_node.iter('error')), [])
+                self.assertEqual(_xml_to_tuple(root_node), _xml_to_tuple(parse(input_path)))
+
+    @unittest.skipUnless(os.environ.get('TEST_LONG'), 'skipping long test')
+    def test_dependencies_performance(self):
+        # JVM startup, i.e. time of printing usage of the scanner, is excluded from both timings
+        command = [str(java_config['executable'])]
+        if java_config['classpath'] is not None:
+            command += ['-cp', str(java_config['classpath'])]
+        command.append(java_config['ofp_deps_class'])
+        startup_time = min(timeit.repeat(
+            lambda: subprocess.run(command, stdout=subprocess.PIPE, stderr=subprocess.PIPE),
+            number=1, repeat=3))
+        for input_path in INPUT_PATHS_LARGE:
+            with self.subTest(input_path=input_path):
+                start = timeit.default_timer()
+                process = execute_parser(input_path, None, 0)
+                parse_time = timeit.default_timer() - start - startup_time
+                self.assertEqual(process.returncode, 0)
+                deps_time = min(timeit.repeat(lambda: dependencies(input_path), number=1, repeat=3))
+                deps_time -= startup_time
+                _LOG.warning('%s: verbosity 0 %.3fs, dependencies %.3fs, speed-up %.1fx',
+                             input_path.name, parse_time, deps_time, parse_time / deps_time)
+                self.assertGreaterEqual(parse_time / deps_time, 10)
+
+    def test_deps_only(self):
+        for input_path in INPUT_PATHS:
+            with self.subTest(input_path=input_path):
+                process = execute_parser(input_path, None, 0, deps_only=True)
+                self.assertEqual(process.returncode, 0)
+                lines = process.stdout.decode().splitlines()
+                provides, requires = dependencies(input_path)
+                self.assertListEqual(
+                    lines, ['{}\tprovides\t{}'.format(input_path, name) for name in provides]
+                    + ['{}\trequires\t{}'.format(input_path, name) for name in requires])
+
+    def test_read_output(self):
+        xml = b'<ofp><file path="a.f90"><comment text="! c" /></file></ofp>'
+        with tempfile.TemporaryDirectory() as temp_dir:
+            for compress in (lambda _: _, gzip.compress):
+                output_path = pathlib.Path(temp_dir, 'output')
+                output_path.write_bytes(compress(xml))
+                root_node = read_output(output_path)
+                self._validate_tree(root_node)
+                self.assertEqual(root_node[0][0].attrib['text'], '! c')
+
+    @unittest.skipUnless(os.environ.get('TEST_LONG'), 'skipping long test')
+    def test_json_throughput(self):
+        for input_path in INPUT_PATHS_LARGE:
+            with self.subTest(input_path=input_path):
+                timings = {}
+                for output_format, load in (
+                        ('xml', ET.fromstring), ('json', lambda _: json.loads(_.decode()))):
+                    start = timeit.default_timer()
+                    process = execute_parser(input_path, None, output_format=output_format)
+                    load(process.stdout)
+                    timings[output_format] = timeit.default_timer() - start
+                _LOG.warning('%s: xml %.3fs, json %.3fs', input_path.name, timings['xml'],
+                             timings['json'])
+
+    @unittest.skipUnless(os.environ.get('TEST_LONG'), 'skipping long test')
+    def test_verbosity_performance(self):
+        for input_path in INPUT_PATHS_LARGE:
+            with self.subTest(input_path=input_path):
+                timings = {}
+                sizes = {}
+                for verbosity in (0, 100):
+                    start = timeit.default_timer()
+                    process = execute_parser(input_path, None, verbosity)
+                    timings[verbosity] = timeit.default_timer() - start
+                    self.assertEqual(process.returncode, 0)
+                    sizes[verbosity] = len(process.stdout)
+                    root_node = ET.fromstring(process.stdout)
+                    if verbosity == 0:
+                        self.assertFalse([node for node in root_node.iter()
+                                          if 'rule' in node.attrib or 'addendum' in node.attrib])
+                _LOG.warning('%s: verbosity 0 %.3fs %iB, verbosity 100 %.3fs %iB', input_path.name,
+                             timings[0], sizes[0], timings[100], sizes[100])
+                self.assertLess(sizes[0], sizes[100])
+
     def test_generate_xml(self):
         results_path = pathlib.Path(_HERE, 'results', 'examples')
         results_path.mkdir(exist_ok=True)
@@ -127,3 +369,60 @@ class Tests(unittest.TestCase):
                 with self.subTest(input_path=input_path, verbosity=verbosity):
                     root_node = parse(input_path, verbosity)
                     self._validate_tree(root_node)
+
+    def test_parse_concurrently(self):
+        for input_path in INPUT_PATHS:
+            for verbosity in VERBOSITIES:
+                with self.subTest(input_path=input_path, verbosity=verbosity):
+                    root_node = parse_concurrently(input_path, verbosity, workers=2)
+                    self._validate_tree(root_node)
+                    reference = parse(input_path, verbosity)
+                    # comments at split points are in the same parts as units preceding them
+                    self.assertEqual(_xml_to_tuple(root_node), _xml_to_tuple(reference))
+
+    def test_parse_concurrently_includes(self):
+        with tempfile.TemporaryDirectory() as temp_dir:
+            input_path = pathlib.Path(temp_dir, 'main.f90')
+            input_path.write_text(
+                'subroutine s\nend subroutine s\n'
+                'program p\n  include \'values.inc\'\n  x = 1\nend program p\n', encoding='utf-8')
+            pathlib.Path(temp_dir, 'values.inc').write_text('  integer :: included\n',
+                                                            encoding='utf-8')
+            for verbosity in VERBOSITIES:
+                with self.subTest(verbosity=verbosity):
+                    root_node = parse_concurrently(input_path, verbosity, workers=2)
+                    reference = parse(input_path, verbosity, include_dirs=[input_path.parent])
+                    self.assertEqual(_xml_to_tuple(root_node), _xml_to_tuple(reference))
+                    self.assertIn('included', ET.tostring(root_node, encoding='unicode'))
+
+    def test_parse_formats(self):
+        for input_path in INPUT_PATHS:
+            reference = parse(input_path)
+            for output_format in ('xml', 'binary', 'json'):
+                with self.subTest(input_path=input_path, output_format=output_format):
+                    root_node = parse(input_path, output_format=output_format)
+                    self._validate_tree(root_node)
+                    self.assertEqual(_xml_to_tuple(root_node), _xml_to_tuple(reference))
+        with self.assertRaises(ValueError):
+            parse(INPUT_PATHS[0], output_format='ndjson')
+
+    def test_read_json_output(self):
+        data = {'tag': 'ofp', 'attrib': {'version': '0.8.4'}, 'children': [
+            {'tag': 'file', 'attrib': {'path': 'a.f90'}, 'children': [
+                {'tag': 'program', 'attrib': {'name': 'p'}, 'children': []},
+                {'tag': 'comment', 'attrib': {'text': '! c'}, 'children': []}]}]}
+        with tempfile.NamedTemporaryFile(suffix='.json') as output_file:
+            pathlib.Path(output_file.name).write_text(json.dumps(data), encoding='utf-8')
+            root_node = read_output(pathlib.Path(output_file.name))
+        self.assertEqual(_xml_to_tuple(root_node), _json_to_tuple(data))
+
+    def test_parse_binary(self):
+        for input_path in INPUT_PATHS:
+            for verbosity in VERBOSITIES:
+                with self.subTest(input_path=input_path, verbosity=verbosity):
+                    root_node = parse(input_path, verbosity, output_format='binary')
+                    self._validate_tree(root_node)
+                    reference = parse(input_path, verbosity)
+                    self.assertListEqual(
+                        [(node.tag, node.attrib, len(node)) for node in root_node.iter()],
+                        [(node.tag, node.attrib, len(node)) for node in reference.iter()])
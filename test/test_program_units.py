@@ -0,0 +1,91 @@
+"""Tests for program_units module."""
+
+import pathlib
+import unittest
+
+from open_fortran_parser.program_units import find_units, is_fixed_form, split_units
+
+_HERE = pathlib.Path(__file__).resolve().parent
+
+INPUT_PATHS = list(pathlib.Path(_HERE, 'examples').glob('**/*.*')) \
+    + list(pathlib.Path(_HERE, 'examples_large').glob('**/*.*'))
+
+FREE_FORM_CODE = '''! library
+subroutine a(x)
+  interface
+    subroutine cb(y)
+    end subroutine cb
+  end interface
+  call cb(1)
+end subroutine a
+integer function b(x) ! function
+  b = x; end function
+module m
+contains
+  subroutine c()
+  end subroutine
+end module m
+program p
+  print *, 'subroutine x', &
+    'end'
+end
+'''
+
+FIXED_FORM_CODE = '''C comment
+      SUBROUTINE A
+      X = 1
+     &  + 2
+      END
+      FUNCTION F(X)
+      F = X
+      END
+'''
+
+
+class Tests(unittest.TestCase):
+
+    def test_find_units(self):
+        self.assertListEqual(find_units(FREE_FORM_CODE), [0, 8, 10, 15])
+        self.assertListEqual(find_units(FIXED_FORM_CODE, True), [0, 5])
+
+    def test_find_units_nested_parentheses(self):
+        code = '''module m
+contains
+  character(len=max(1,2)) function f(x)
+    f = 'a'
+  end function f
+  subroutine s
+  end subroutine s
+end module m
+subroutine t
+end subroutine t
+'''
+        self.assertListEqual(find_units(code), [0, 8])
+
+    def test_find_units_unmatched_end(self):
+        code = '''module m
+contains
+  integer(4) non_recursive function f(x)
+  end function f
+  subroutine s
+  end subroutine s
+end module m
+block data
+end block data
+'''
+        self.assertListEqual(find_units(code), [0, 7])
+
+    def test_split_units(self):
+        parts = split_units(FREE_FORM_CODE)
+        self.assertListEqual([offset for offset, _ in parts], [0, 8, 10, 15])
+        self.assertEqual(''.join(code for _, code in parts), FREE_FORM_CODE)
+        parts = split_units(FREE_FORM_CODE, count=2)
+        self.assertListEqual([offset for offset, _ in parts], [0, 10])
+
+    def test_split_units_examples(self):
+        for input_path in INPUT_PATHS:
+            with self.subTest(input_path=input_path):
+                code = input_path.read_text(encoding='utf-8', errors='surrogateescape')
+                parts = split_units(code, is_fixed_form(input_path))
+                self.assertGreater(len(parts), 0)
+                self.assertEqual(''.join(part for _, part in parts), code)
@@ -0,0 +1,52 @@
+"""Tests of synthetic corpus generator and scaling of parsing with the size of input."""
+
+import json
+import logging
+import os
+import pathlib
+import tempfile
+import unittest
+
+from .synthetic_corpus import DIMENSIONS, PHASES, complexity_exponent, generate, scaling_benchmark
+
+_LOG = logging.getLogger(__name__)
+
+_HERE = pathlib.Path(__file__).resolve().parent
+
+
+class Tests(unittest.TestCase):
+
+    def test_generate(self):
+        with tempfile.TemporaryDirectory() as temp_dir:
+            path = generate(pathlib.Path(temp_dir, 'synthetic.f90'), statements=20, depth=3,
+                            expression_length=30, comment_density=0.5, includes=2)
+            code = path.read_text()
+            self.assertEqual(code.count('  x = x + a('), 20)
+            self.assertEqual(code.count('  if (n > '), 3)
+            self.assertEqual(code.count('  end if'), 3)
+            self.assertEqual(code.count('  ! comment '), 10)
+            self.assertEqual(code.count(' a('), 1 + 20 * 30)  # declaration and terms
+            self.assertTrue(all(len(line) <= 132 for line in code.splitlines()))
+            self.assertEqual(code.count("  include '"), 2)
+            self.assertTrue(pathlib.Path(temp_dir, 'synthetic_1.inc').is_file())
+
+    def test_complexity_exponent(self):
+        sizes = [100, 200, 400, 800]
+        self.assertAlmostEqual(complexity_exponent(sizes, [3 * n for n in sizes]), 1.0)
+        self.assertAlmostEqual(complexity_exponent(sizes, [n ** 2 for n in sizes]), 2.0)
+        self.assertAlmostEqual(complexity_exponent(sizes, [0, 5, 5, 0]), 0.0)
+        with self.assertRaises(ValueError):
+            complexity_exponent(sizes, [0, 0, 0, 7])
+
+    @unittest.skipUnless(os.environ.get('TEST_LONG'), 'skipping long test')
+    def test_scaling(self):
+        results = {}
+        for dimension in DIMENSIONS:
+            results[dimension] = scaling_benchmark(dimension)
+            for phase in PHASES:
+                _LOG.warning('%s: %s phase scales with exponent %s', dimension, phase,
+                             results[dimension][phase]['exponent'])
+            self.assertIsNotNone(results[dimension]['parsing']['exponent'])
+        results_path = pathlib.Path(_HERE, 'results')
+        results_path.mkdir(exist_ok=True)
+        pathlib.Path(results_path, 'scaling.json').write_text(json.dumps(results, indent=2))
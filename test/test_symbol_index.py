@@ -0,0 +1,71 @@
+"""Tests of symbol_index module."""
+
+import pathlib
+import tempfile
+import unittest
+
+from open_fortran_parser.parser_wrapper import execute_parser, read_output
+from open_fortran_parser.symbol_index import ProjectIndex, Symbol, merge_indexes, read_symbols
+
+_HERE = pathlib.Path(__file__).resolve().parent
+
+INPUT_PATHS = list(pathlib.Path(_HERE, 'examples').glob('**/*.*'))
+
+
+class Tests(unittest.TestCase):
+
+    def test_merge_and_lookup(self):
+        with tempfile.TemporaryDirectory() as temp_dir:
+            first = pathlib.Path(temp_dir, 'a.tsv')
+            first.write_text('a\tmodule\t\ta.f90\t1\nx\tvariable\ta\ta.f90\t3\nb\tcall\ta\ta.f90\t7\n')
+            second = pathlib.Path(temp_dir, 'b.tsv')
+            second.write_text('b\tsubroutine\t\tb.f90\t1\nab\tcall\tb\tb.f90\t5\nb\tcall\ta\ta.f90\t7')
+            empty = pathlib.Path(temp_dir, 'empty.tsv')
+            empty.write_text('')
+            project = pathlib.Path(temp_dir, 'project.tsv')
+            self.assertEqual(merge_indexes([first, second, empty], project), 5)
+            symbols = read_symbols(project)
+            self.assertListEqual([symbol.name for symbol in symbols], ['a', 'ab', 'b', 'b', 'x'])
+
+            with ProjectIndex(project) as index:
+                self.assertListEqual(index.lookup('A'), [Symbol('a', 'module', '', 'a.f90', 1)])
+                self.assertListEqual(index.lookup('b'), [
+                    Symbol('b', 'call', 'a', 'a.f90', 7), Symbol('b', 'subroutine', '', 'b.f90', 1)])
+                self.assertListEqual(index.lookup('b', 'call'), [Symbol('b', 'call', 'a', 'a.f90', 7)])
+                self.assertListEqual(index.lookup('x'), [Symbol('x', 'variable', 'a', 'a.f90', 3)])
+                for name in ('', '0', 'aa', 'c', 'y', 'zzz'):
+                    self.assertListEqual(index.lookup(name), [])
+
+            merge_indexes([empty], project)
+            with ProjectIndex(project) as index:
+                self.assertListEqual(index.lookup('a'), [])
+
+    def test_parser_symbols(self):
+        with tempfile.TemporaryDirectory() as temp_dir:
+            index_paths = []
+            for input_path in INPUT_PATHS:
+                with self.subTest(input_path=input_path):
+                    output_path = pathlib.Path(temp_dir, input_path.name + '.xml')
+                    symbols_path = pathlib.Path(temp_dir, input_path.name + '.tsv')
+                    process = execute_parser(input_path, output_path, symbols_path=symbols_path)
+                    self.assertEqual(process.returncode, 0)
+                    root_node = read_output(output_path)
+                    symbols = read_symbols(symbols_path)
+                    for kind in ('subroutine', 'function', 'module', 'use'):
+                        self.assertListEqual(
+                            [symbol.name for symbol in symbols if symbol.kind == kind],
+                            [node.attrib['name'].lower() for node in root_node.iter(kind)])
+                    self.assertEqual(
+                        len([symbol for symbol in symbols if symbol.kind == 'call']),
+                        len(list(root_node.iter('call'))))
+                    for symbol in symbols:
+                        self.assertEqual(symbol.path, str(input_path))
+                    index_paths.append(symbols_path)
+            project = pathlib.Path(temp_dir, 'project.tsv')
+            merge_indexes(index_paths, project)
+            with ProjectIndex(project) as index:
+                symbols = index.lookup('test_arithmetic', 'subroutine')
+                self.assertEqual(len(symbols), 1)
+                self.assertEqual(symbols[0].line, 1)
+                self.assertTrue(symbols[0].path.endswith('arithmetic_kind.f90'))
+                self.assertIn('mydatatypes', [symbol.name for symbol in index.lookup('mydatatypes')])